@@ -0,0 +1,111 @@
+package com.configsystem.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Camada fora do heap para valores grandes do CacheInteligente
+ *
+ * Valores a partir do limiar são gravados em UTF-8 em buffers diretos; o heap guarda apenas a referência
+ * ao bloco. A leitura decodifica o bloco por meio de um cache quente pequeno, limitado em bytes, cujas
+ * entradas são descartadas junto com o bloco substituído ou removido.
+ */
+final class ArmazenamentoForaHeap {
+
+    private final int limiar;
+    private final long maximoBytes;
+
+    // Valores decodificados recentemente, por identidade do bloco
+    private final Cache<BlocoForaHeap, String> quentes;
+
+    // Bytes dos blocos referenciados pelo cache; a memória nativa é devolvida quando o buffer é coletado
+    private final AtomicLong bytesEmUso = new AtomicLong();
+    private final LongAdder blocos = new LongAdder();
+    private final LongAdder decodificacoes = new LongAdder();
+
+    ArmazenamentoForaHeap(int limiar, long maximoBytes, long tamanhoCacheQuente) {
+        this.limiar = limiar;
+        this.maximoBytes = maximoBytes;
+        this.quentes = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(tamanhoCacheQuente)
+            .weigher((BlocoForaHeap bloco, String valor) -> bloco.tamanho())
+            .build();
+    }
+
+    /**
+     * Grava o valor fora do heap; null se o valor é menor que o limiar ou não há espaço disponível
+     */
+    BlocoForaHeap armazenar(String valor) {
+        if (valor.length() < limiar) {
+            return null;
+        }
+
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        long emUso = bytesEmUso.addAndGet(bytes.length);
+        if (maximoBytes > 0 && emUso > maximoBytes) {
+            bytesEmUso.addAndGet(-bytes.length);
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        blocos.increment();
+        return new BlocoForaHeap(buffer);
+    }
+
+    /**
+     * Lê o valor do bloco, decodificando-o apenas se não estiver no cache quente
+     */
+    String ler(BlocoForaHeap bloco) {
+        return quentes.get(bloco, this::decodificar);
+    }
+
+    /**
+     * Libera a contabilização de um bloco removido do cache
+     */
+    void liberar(BlocoForaHeap bloco) {
+        bytesEmUso.addAndGet(-bloco.tamanho());
+        blocos.decrement();
+        quentes.invalidate(bloco);
+    }
+
+    private String decodificar(BlocoForaHeap bloco) {
+        decodificacoes.increment();
+        byte[] bytes = new byte[bloco.tamanho()];
+        bloco.buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    long getBytesEmUso() {
+        return bytesEmUso.get();
+    }
+
+    long getBlocos() {
+        return blocos.sum();
+    }
+
+    long getDecodificacoes() {
+        return decodificacoes.sum();
+    }
+
+    /**
+     * Valor gravado em um buffer direto
+     */
+    static final class BlocoForaHeap {
+        private final ByteBuffer buffer;
+
+        private BlocoForaHeap(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int tamanho() {
+            return buffer.limit();
+        }
+    }
+}
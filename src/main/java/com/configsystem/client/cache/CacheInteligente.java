@@ -1,8 +1,22 @@
 package com.configsystem.client.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.configsystem.client.cache.ArmazenamentoForaHeap.BlocoForaHeap;
+import com.configsystem.client.cache.CompressorValores.ValorComprimido;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao.CachePolicyConfig;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao.CompressionConfig;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao.NamespaceCachePolicy;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao.OffHeapConfig;
+import com.configsystem.client.monitoramento.PerfilAcessos;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
@@ -11,79 +25,492 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Serviço de cache inteligente para configurações com TTL, métricas e observabilidade
+ *
+ * A capacidade pode ser limitada por quantidade de entradas ou pelo tamanho estimado em bytes
+ * (config.client.cache-policy.maximum-weight), e namespaces podem ter capacidade e TTL próprios
+ * (config.client.cache-policy.namespaces.*). O namespace é o prefixo da chave até o primeiro ':'.
+ * Com config.client.cache-policy.off-heap.enabled, valores grandes ficam em buffers diretos fora do heap;
+ * com config.client.cache-policy.compression.enabled, valores abaixo do limiar fora do heap e acima do
+ * limiar de compressão são mantidos comprimidos no heap.
+ *
+ * Com o ServicoClienteConfiguracao disponível, obter, obterAsync e obterTodos carregam do servidor as
+ * chaves ausentes: buscas simultâneas da mesma chave compartilham uma única carga, obterTodos agrupa as
+ * chaves por namespace:environment em uma requisição do mapa e, com
+ * config.client.cache-policy.refresh-after-write, as entradas são recarregadas em segundo plano.
+ * Com config.client.redis.enabled, as cargas consultam antes o cache L2 compartilhado em Redis.
+ * buscar continua consultando apenas o cache.
+ * Leituras e ausências alimentam o PerfilAcessos, quando habilitado; recargas em segundo plano não contam.
  */
 @Component
 public class CacheInteligente implements HealthIndicator {
     
     private static final Logger logger = LoggerFactory.getLogger(CacheInteligente.class);
     
-    private Cache<String, ValorConfiguracao> cache;
-    private final Map<String, LocalDateTime> timestampsUltimaAtualizacao = new ConcurrentHashMap<>();
+    // Estimativa por entrada do nó do Caffeine, das Strings e do ValorConfiguracao, além do conteúdo em UTF-16
+    static final int OVERHEAD_ENTRADA_BYTES = 96;
+    
+    // Referência no heap a um bloco fora do heap (BlocoForaHeap e seu ByteBuffer direto); os bytes do bloco
+    // são limitados pelo máximo da camada fora do heap, não pelo peso do cache
+    static final int OVERHEAD_BLOCO_FORA_HEAP_BYTES = 64;
+    
+    // Revisão de valores armazenados sem revisão do servidor
+    static final long REVISAO_DESCONHECIDA = -1;
+    
+    // Namespace atribuído a chaves sem prefixo namespace:
+    static final String SEM_NAMESPACE = "_";
+    
+    // Janelas das estatísticas recentes expostas em métricas e no endpoint
+    public static final Duration JANELA_CURTA = Duration.ofMinutes(1);
+    public static final Duration JANELA_LONGA = Duration.ofMinutes(5);
+    
+    // Cache da política geral e caches dos namespaces com política própria, fixos após a inicialização
+    private AsyncLoadingCache<String, ValorConfiguracao> cache;
+    private final Map<String, AsyncLoadingCache<String, ValorConfiguracao>> cachesPorNamespace = new HashMap<>();
+    
+    // Threads das cargas do servidor, ou null sem o ServicoClienteConfiguracao
+    private ExecutorService executorCarga;
+    
+    // Camada fora do heap, ou null se desabilitada
+    private ArmazenamentoForaHeap foraHeap;
+    
+    // Compressão de valores grandes no heap, ou null se desabilitada
+    private CompressorValores compressor;
+    
+    // Tamanho ponderado e evictions por namespace, alimentados pelo removalListener
+    private final Map<String, MetricasNamespace> metricasPorNamespace = new ConcurrentHashMap<>();
+    
+    // Estatísticas recentes de todos os caches, base do health check
+    private EstatisticasJanela estatisticasJanela = new EstatisticasJanela();
+    private CachePolicyConfig politica;
+    
+    @Autowired(required = false)
+    private PropriedadesClienteConfiguracao propriedades;
     
     @Autowired(required = false)
     private MeterRegistry meterRegistry;
     
+    // Codec customizado, que substitui o configurado em compression.codec
+    @Autowired(required = false)
+    private CodecCompressao codecCompressao;
+    
+    // Origem das cargas; sem ele o cache só contém o que foi armazenado
+    @Autowired(required = false)
+    private ServicoClienteConfiguracao servicoCliente;
+    
+    // Cache L2 compartilhado, consultado antes do servidor nas cargas
+    @Autowired(required = false)
+    private CacheRedisCompartilhado cacheCompartilhado;
+    
+    // Perfil de acessos: leituras em buscar/obter, ausências em buscar e nas cargas
+    @Autowired(required = false)
+    private PerfilAcessos perfilAcessos;
+    
     @PostConstruct
     public void inicializar() {
-        this.cache = Caffeine.newBuilder()
-            .maximumSize(10_000)
-            .expireAfterWrite(Duration.ofMinutes(30))
-            .expireAfterAccess(Duration.ofMinutes(10))
-            .recordStats()
-            .removalListener((chave, valor, causa) -> {
-                logger.debug("Configuração removida do cache: chave={}, causa={}", chave, causa);
-                timestampsUltimaAtualizacao.remove(chave);
-            })
-            .build();
+        CachePolicyConfig politica = propriedades != null ? propriedades.getCachePolicy() : new CachePolicyConfig();
+        this.politica = politica;
+        
+        if (servicoCliente != null) {
+            AtomicInteger contador = new AtomicInteger();
+            executorCarga = Executors.newFixedThreadPool(Math.max(1, politica.getLoaderThreads()), tarefa -> {
+                Thread thread = new Thread(tarefa, "config-cache-loader-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        
+        this.cache = construirCache(politica.getMaximumSize(), politica.getMaximumWeight(),
+            politica.getExpireAfterWrite(), politica.getExpireAfterAccess(), politica.getRefreshAfterWrite());
+        politica.getNamespaces().forEach((namespace, sobrescrita) ->
+            cachesPorNamespace.put(namespace, construirCache(sobrescrita, politica)));
+        
+        OffHeapConfig configForaHeap = politica.getOffHeap();
+        if (configForaHeap.isEnabled()) {
+            foraHeap = new ArmazenamentoForaHeap(configForaHeap.getThreshold(), configForaHeap.getMaxBytes(),
+                configForaHeap.getHotCacheBytes());
+            logger.info("Camada fora do heap habilitada para valores a partir de {} caracteres", configForaHeap.getThreshold());
+        }
+        
+        CompressionConfig configCompressao = politica.getCompression();
+        if (configCompressao.isEnabled()) {
+            CodecCompressao codec = codecCompressao != null ? codecCompressao : criarCodec(configCompressao.getCodec());
+            compressor = new CompressorValores(codec, configCompressao.getThreshold(), configCompressao.getHotCacheBytes());
+            logger.info("Compressão {} habilitada para valores a partir de {} caracteres", codec.getNome(),
+                configCompressao.getThreshold());
+        }
             
         // Registrar métricas se Micrometer estiver disponível
         if (meterRegistry != null) {
-            CaffeineCacheMetrics.monitor(meterRegistry, cache, "config-cache");
+            CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "config-cache");
+            cachesPorNamespace.forEach((namespace, cacheNamespace) ->
+                CaffeineCacheMetrics.monitor(meterRegistry, cacheNamespace.synchronous(), "config-cache." + namespace));
+            if (foraHeap != null) {
+                Gauge.builder("config.client.cache.offheap.bytes", foraHeap, ArmazenamentoForaHeap::getBytesEmUso)
+                    .baseUnit("bytes")
+                    .description("Bytes de valores grandes mantidos fora do heap")
+                    .register(meterRegistry);
+                Gauge.builder("config.client.cache.offheap.entries", foraHeap, ArmazenamentoForaHeap::getBlocos)
+                    .description("Valores mantidos fora do heap")
+                    .register(meterRegistry);
+                FunctionCounter.builder("config.client.cache.offheap.decodes", foraHeap, ArmazenamentoForaHeap::getDecodificacoes)
+                    .description("Valores fora do heap decodificados por ausência no cache quente")
+                    .register(meterRegistry);
+            }
+            if (compressor != null) {
+                Gauge.builder("config.client.cache.compression.saved", compressor, CompressorValores::getBytesEconomizados)
+                    .tag("codec", compressor.getNomeCodec())
+                    .baseUnit("bytes")
+                    .description("Bytes economizados pelos valores comprimidos em cache")
+                    .register(meterRegistry);
+                Gauge.builder("config.client.cache.compression.entries", compressor, CompressorValores::getValores)
+                    .tag("codec", compressor.getNomeCodec())
+                    .description("Valores mantidos comprimidos")
+                    .register(meterRegistry);
+                FunctionCounter.builder("config.client.cache.compression.decompressions", compressor, CompressorValores::getDescompressoes)
+                    .tag("codec", compressor.getNomeCodec())
+                    .description("Descompressões por ausência na camada quente")
+                    .register(meterRegistry);
+            }
+            for (Duration janela : new Duration[] {JANELA_CURTA, JANELA_LONGA}) {
+                Gauge.builder("config.client.cache.recent.hit.ratio", estatisticasJanela,
+                        estatisticas -> estatisticas.resumir(janela).getTaxaAcertos())
+                    .tag("window", janela.toMinutes() + "m")
+                    .description("Taxa de acertos do cache na janela recente")
+                    .register(meterRegistry);
+            }
             logger.info("Métricas do cache registradas no Micrometer");
         }
         
-        logger.info("Cache inteligente inicializado com TTL de 30min e máximo de 10.000 entradas");
+        logger.info("Cache inteligente inicializado: {}, TTL de {}ms, {} namespaces com política própria",
+            politica.getMaximumWeight() > 0
+                ? "máximo de " + politica.getMaximumWeight() + " bytes"
+                : "máximo de " + politica.getMaximumSize() + " entradas",
+            politica.getExpireAfterWrite(), cachesPorNamespace.size());
+    }
+    
+    @PreDestroy
+    public void finalizar() {
+        if (executorCarga != null) {
+            executorCarga.shutdownNow();
+        }
+    }
+    
+    /**
+     * Codec configurado; lz4 sem lz4-java no classpath recai em deflate
+     */
+    private static CodecCompressao criarCodec(String nome) {
+        if ("lz4".equalsIgnoreCase(nome)) {
+            if (ClassUtils.isPresent("net.jpountz.lz4.LZ4Factory", CacheInteligente.class.getClassLoader())) {
+                return new CodecLz4();
+            }
+            logger.warn("Codec lz4 requer org.lz4:lz4-java no classpath - usando deflate");
+        } else if (!"deflate".equalsIgnoreCase(nome)) {
+            logger.warn("Codec de compressão desconhecido '{}' - usando deflate", nome);
+        }
+        return new CodecDeflate();
+    }
+    
+    private AsyncLoadingCache<String, ValorConfiguracao> construirCache(NamespaceCachePolicy sobrescrita,
+                                                                        CachePolicyConfig geral) {
+        return construirCache(
+            sobrescrita.getMaximumSize() != null ? sobrescrita.getMaximumSize() : geral.getMaximumSize(),
+            sobrescrita.getMaximumWeight() != null ? sobrescrita.getMaximumWeight() : geral.getMaximumWeight(),
+            sobrescrita.getExpireAfterWrite() != null ? sobrescrita.getExpireAfterWrite() : geral.getExpireAfterWrite(),
+            sobrescrita.getExpireAfterAccess() != null ? sobrescrita.getExpireAfterAccess() : geral.getExpireAfterAccess(),
+            sobrescrita.getRefreshAfterWrite() != null ? sobrescrita.getRefreshAfterWrite() : geral.getRefreshAfterWrite());
+    }
+    
+    private AsyncLoadingCache<String, ValorConfiguracao> construirCache(long tamanhoMaximo, long pesoMaximo,
+                                                                        long expiracaoEscrita, long expiracaoAcesso,
+                                                                        long recargaEscrita) {
+        Caffeine<String, ValorConfiguracao> builder = Caffeine.newBuilder()
+            .recordStats(estatisticasJanela::criarContador)
+            // Manutenção na thread chamadora: as métricas por namespace acompanham cada escrita
+            .executor(Runnable::run)
+            .removalListener(this::registrarRemocao);
+            
+        if (pesoMaximo > 0) {
+            builder.maximumWeight(pesoMaximo).weigher(CacheInteligente::pesoEntrada);
+        } else {
+            builder.maximumSize(tamanhoMaximo);
+        }
+        if (expiracaoEscrita > 0) {
+            builder.expireAfterWrite(Duration.ofMillis(expiracaoEscrita));
+        }
+        if (expiracaoAcesso > 0) {
+            builder.expireAfterAccess(Duration.ofMillis(expiracaoAcesso));
+        }
+        // Sem servidor a recarga descartaria as entradas armazenadas
+        if (recargaEscrita > 0 && executorCarga != null) {
+            builder.refreshAfterWrite(Duration.ofMillis(recargaEscrita));
+        }
+        return builder.buildAsync(new CarregadorServidor());
+    }
+    
+    private void registrarRemocao(String chave, ValorConfiguracao valor, RemovalCause causa) {
+        logger.debug("Configuração removida do cache: chave={}, causa={}", chave, causa);
+        
+        MetricasNamespace metricas = metricas(namespaceDe(chave));
+        if (valor != null) {
+            metricas.peso.add(-pesoEntrada(chave, valor));
+            if (valor.conteudo instanceof BlocoForaHeap bloco) {
+                foraHeap.liberar(bloco);
+            } else if (valor.conteudo instanceof ValorComprimido comprimido) {
+                compressor.liberar(comprimido);
+            }
+        }
+        if (causa.wasEvicted()) {
+            metricas.evictions.increment();
+        }
+    }
+    
+    /**
+     * Tamanho estimado da entrada no heap em bytes
+     */
+    private static int pesoEntrada(String chave, ValorConfiguracao valor) {
+        int peso = OVERHEAD_ENTRADA_BYTES + 2 * chave.length();
+        if (valor.conteudo instanceof String texto) {
+            peso += 2 * texto.length();
+        } else if (valor.conteudo instanceof BlocoForaHeap) {
+            peso += OVERHEAD_BLOCO_FORA_HEAP_BYTES;
+        } else if (valor.conteudo instanceof ValorComprimido comprimido) {
+            peso += comprimido.tamanho();
+        }
+        return peso;
+    }
+    
+    /**
+     * Valor da entrada, decodificado da camada fora do heap ou descomprimido quando necessário
+     */
+    private String valorDe(ValorConfiguracao valor) {
+        if (valor.conteudo instanceof BlocoForaHeap bloco) {
+            return foraHeap.ler(bloco);
+        } else if (valor.conteudo instanceof ValorComprimido comprimido) {
+            return compressor.ler(comprimido);
+        }
+        return (String) valor.conteudo;
+    }
+    
+    /**
+     * Namespace da chave namespace:environment:chave
+     */
+    static String namespaceDe(String chave) {
+        int separador = chave.indexOf(':');
+        return separador > 0 ? chave.substring(0, separador) : SEM_NAMESPACE;
+    }
+    
+    private AsyncLoadingCache<String, ValorConfiguracao> cacheDe(String chave) {
+        if (cachesPorNamespace.isEmpty()) {
+            return cache;
+        }
+        AsyncLoadingCache<String, ValorConfiguracao> cacheNamespace = cachesPorNamespace.get(namespaceDe(chave));
+        return cacheNamespace != null ? cacheNamespace : cache;
+    }
+    
+    private LoadingCache<String, ValorConfiguracao> cacheSincronoDe(String chave) {
+        return cacheDe(chave).synchronous();
+    }
+    
+    private MetricasNamespace metricas(String namespace) {
+        MetricasNamespace metricas = metricasPorNamespace.get(namespace);
+        if (metricas == null) {
+            metricas = metricasPorNamespace.computeIfAbsent(namespace, this::criarMetricas);
+        }
+        return metricas;
+    }
+    
+    private MetricasNamespace criarMetricas(String namespace) {
+        MetricasNamespace metricas = new MetricasNamespace();
+        if (meterRegistry != null) {
+            Gauge.builder("config.client.cache.weighted.size", metricas.peso, LongAdder::sum)
+                .tag("namespace", namespace)
+                .baseUnit("bytes")
+                .description("Tamanho estimado das entradas do namespace no cache")
+                .register(meterRegistry);
+            FunctionCounter.builder("config.client.cache.evictions", metricas.evictions, LongAdder::sum)
+                .tag("namespace", namespace)
+                .description("Entradas do namespace removidas por capacidade ou expiração")
+                .register(meterRegistry);
+        }
+        return metricas;
     }
     
     /**
      * Busca um valor no cache
      */
     public Optional<String> buscar(String chave) {
-        ValorConfiguracao valor = cache.getIfPresent(chave);
+        registrarLeitura(chave);
+        ValorConfiguracao valor = cacheSincronoDe(chave).getIfPresent(chave);
         if (valor != null) {
             logger.debug("Cache HIT para chave: {}", chave);
-            return Optional.of(valor.getValor());
+            return Optional.of(valorDe(valor));
         }
         logger.debug("Cache MISS para chave: {}", chave);
+        registrarAusencia(chave);
         return Optional.empty();
     }
     
+    /**
+     * Busca um valor no cache, carregando-o do servidor se ausente
+     * Retorna vazio se a chave não existe no servidor ou a carga falhou
+     */
+    public Optional<String> obter(String chave) {
+        registrarLeitura(chave);
+        try {
+            ValorConfiguracao valor = cacheDe(chave).get(chave).join();
+            return valor != null ? Optional.of(valorDe(valor)) : Optional.empty();
+        } catch (CompletionException e) {
+            logger.warn("Falha ao carregar configuração do servidor: chave={}, erro={}", chave, e.getCause().getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Busca um valor no cache sem bloquear, carregando-o do servidor se ausente
+     * Falhas da carga completam o futuro excepcionalmente
+     */
+    public CompletableFuture<Optional<String>> obterAsync(String chave) {
+        registrarLeitura(chave);
+        return cacheDe(chave).get(chave)
+            .thenApply(valor -> valor != null ? Optional.of(valorDe(valor)) : Optional.empty());
+    }
+    
+    /**
+     * Busca vários valores, carregando os ausentes com uma requisição por namespace:environment
+     * Chaves inexistentes no servidor ou com carga falha ficam fora do resultado
+     */
+    public Map<String, String> obterTodos(Collection<String> chaves) {
+        Map<AsyncLoadingCache<String, ValorConfiguracao>, List<String>> chavesPorCache = new LinkedHashMap<>();
+        for (String chave : chaves) {
+            registrarLeitura(chave);
+            chavesPorCache.computeIfAbsent(cacheDe(chave), c -> new ArrayList<>()).add(chave);
+        }
+        
+        List<CompletableFuture<Map<String, ValorConfiguracao>>> cargas = new ArrayList<>(chavesPorCache.size());
+        chavesPorCache.forEach((cacheChaves, chavesCache) -> cargas.add(cacheChaves.getAll(chavesCache)));
+        
+        Map<String, String> valores = new LinkedHashMap<>();
+        for (CompletableFuture<Map<String, ValorConfiguracao>> carga : cargas) {
+            try {
+                carga.join().forEach((chave, valor) -> valores.put(chave, valorDe(valor)));
+            } catch (CompletionException e) {
+                logger.warn("Falha ao carregar configurações do servidor: {}", e.getCause().getMessage());
+            }
+        }
+        return valores;
+    }
+    
+    private void registrarLeitura(String chave) {
+        if (perfilAcessos != null) {
+            perfilAcessos.registrarLeitura(chave);
+        }
+    }
+    
+    private void registrarAusencia(String chave) {
+        if (perfilAcessos != null) {
+            perfilAcessos.registrarAusencia(chave);
+        }
+    }
+    
     /**
      * Armazena um valor no cache
      */
     public void armazenar(String chave, String valor) {
-        ValorConfiguracao valorConfig = new ValorConfiguracao(valor, LocalDateTime.now());
-        cache.put(chave, valorConfig);
-        timestampsUltimaAtualizacao.put(chave, LocalDateTime.now());
+        armazenar(chave, valor, REVISAO_DESCONHECIDA);
+    }
+    
+    /**
+     * Armazena um valor no cache junto da revisão do servidor
+     */
+    public void armazenar(String chave, String valor, long revisao) {
+        cacheSincronoDe(chave).put(chave, criarEntrada(chave, valor, revisao));
         logger.debug("Valor armazenado no cache: chave={}", chave);
     }
     
+    /**
+     * Entrada do valor, fora do heap ou comprimida quando aplicável, já contabilizada no peso do namespace
+     */
+    private ValorConfiguracao criarEntrada(String chave, String valor, long revisao) {
+        Object conteudo = valor;
+        if (foraHeap != null && valor != null) {
+            BlocoForaHeap bloco = foraHeap.armazenar(valor);
+            if (bloco != null) {
+                conteudo = bloco;
+            }
+        }
+        if (compressor != null && conteudo == valor && valor != null) {
+            ValorComprimido comprimido = compressor.comprimir(valor);
+            if (comprimido != null) {
+                conteudo = comprimido;
+            }
+        }
+        ValorConfiguracao valorConfig = new ValorConfiguracao(conteudo, System.currentTimeMillis(), revisao);
+        metricas(namespaceDe(chave)).peso.add(pesoEntrada(chave, valorConfig));
+        return valorConfig;
+    }
+    
+    /**
+     * Substitui o valor apenas se a chave está em cache, sem afetar as estatísticas de acerto
+     * Retorna false se a chave não estava em cache
+     */
+    public boolean atualizarSePresente(String chave, String valor) {
+        if (!cacheSincronoDe(chave).asMap().containsKey(chave)) {
+            return false;
+        }
+        armazenar(chave, valor);
+        return true;
+    }
+    
+    /**
+     * Busca a revisão do valor em cache, se informada no armazenamento
+     */
+    public OptionalLong buscarRevisao(String chave) {
+        ValorConfiguracao valor = cacheSincronoDe(chave).getIfPresent(chave);
+        return valor != null && valor.revisao != REVISAO_DESCONHECIDA
+            ? OptionalLong.of(valor.revisao) : OptionalLong.empty();
+    }
+    
+    /**
+     * Busca o instante (epoch em ms) da última atualização do valor em cache
+     */
+    public OptionalLong buscarAtualizadoEm(String chave) {
+        ValorConfiguracao valor = cacheSincronoDe(chave).getIfPresent(chave);
+        return valor != null ? OptionalLong.of(valor.atualizadoEm) : OptionalLong.empty();
+    }
+    
     /**
      * Remove um valor específico do cache
      */
     public void invalidar(String chave) {
-        cache.invalidate(chave);
-        timestampsUltimaAtualizacao.remove(chave);
+        cacheSincronoDe(chave).invalidate(chave);
         logger.debug("Cache invalidado para chave: {}", chave);
     }
     
@@ -91,8 +518,8 @@ public class CacheInteligente implements HealthIndicator {
      * Limpa todo o cache
      */
     public void limparTudo() {
-        cache.invalidateAll();
-        timestampsUltimaAtualizacao.clear();
+        cache.synchronous().invalidateAll();
+        cachesPorNamespace.values().forEach(cacheNamespace -> cacheNamespace.synchronous().invalidateAll());
         logger.info("Cache completamente limpo");
     }
     
@@ -100,35 +527,117 @@ public class CacheInteligente implements HealthIndicator {
      * Verifica se uma chave existe no cache e não expirou
      */
     public boolean contemChave(String chave) {
-        return cache.getIfPresent(chave) != null;
+        return cacheSincronoDe(chave).getIfPresent(chave) != null;
     }
     
     /**
      * Retorna estatísticas do cache
      */
     public CacheStats getEstatisticas() {
-        return cache.stats();
+        CacheStats stats = cache.synchronous().stats();
+        for (AsyncLoadingCache<String, ValorConfiguracao> cacheNamespace : cachesPorNamespace.values()) {
+            stats = stats.plus(cacheNamespace.synchronous().stats());
+        }
+        return stats;
+    }
+    
+    /**
+     * Retorna as estatísticas da janela recente (até 5 minutos) de todos os caches
+     */
+    public EstatisticasJanela.Resumo getEstatisticasRecentes(Duration janela) {
+        return estatisticasJanela.resumir(janela);
+    }
+    
+    /**
+     * Chaves presentes no cache, de todos os namespaces
+     */
+    public Set<String> getChaves() {
+        Set<String> chaves = new HashSet<>(cache.synchronous().asMap().keySet());
+        for (AsyncLoadingCache<String, ValorConfiguracao> cacheNamespace : cachesPorNamespace.values()) {
+            chaves.addAll(cacheNamespace.synchronous().asMap().keySet());
+        }
+        return chaves;
     }
     
     /**
      * Retorna o tamanho atual do cache
      */
     public long getTamanho() {
-        return cache.estimatedSize();
+        long tamanho = cache.synchronous().estimatedSize();
+        for (AsyncLoadingCache<String, ValorConfiguracao> cacheNamespace : cachesPorNamespace.values()) {
+            tamanho += cacheNamespace.synchronous().estimatedSize();
+        }
+        return tamanho;
+    }
+    
+    /**
+     * Retorna os bytes de valores mantidos fora do heap
+     */
+    public long getBytesForaHeap() {
+        return foraHeap != null ? foraHeap.getBytesEmUso() : 0;
+    }
+    
+    /**
+     * Retorna a quantidade de valores mantidos fora do heap
+     */
+    public long getEntradasForaHeap() {
+        return foraHeap != null ? foraHeap.getBlocos() : 0;
+    }
+    
+    /**
+     * Retorna os bytes economizados pelos valores comprimidos em cache
+     */
+    public long getBytesEconomizadosCompressao() {
+        return compressor != null ? compressor.getBytesEconomizados() : 0;
+    }
+    
+    /**
+     * Retorna o tamanho estimado em bytes das entradas de cada namespace
+     */
+    public Map<String, Long> getPesoPorNamespace() {
+        limparPendencias();
+        Map<String, Long> pesos = new TreeMap<>();
+        metricasPorNamespace.forEach((namespace, metricas) -> pesos.put(namespace, metricas.peso.sum()));
+        return pesos;
+    }
+    
+    /**
+     * Retorna as evictions (capacidade ou expiração) de cada namespace
+     */
+    public Map<String, Long> getEvictionsPorNamespace() {
+        limparPendencias();
+        Map<String, Long> evictions = new TreeMap<>();
+        metricasPorNamespace.forEach((namespace, metricas) -> evictions.put(namespace, metricas.evictions.sum()));
+        return evictions;
+    }
+    
+    private void limparPendencias() {
+        cache.synchronous().cleanUp();
+        cachesPorNamespace.values().forEach(cacheNamespace -> cacheNamespace.synchronous().cleanUp());
     }
     
     /**
      * Health check do cache
+     * Avalia a taxa de acertos da janela recente; com poucas requisições na janela o cache fica UP.
+     * Os totais desde a inicialização seguem nos detalhes.
      */
     @Override
     public Health health() {
-        CacheStats stats = cache.stats();
+        CacheStats stats = getEstatisticas();
         double hitRate = stats.hitRate();
-        long tamanho = cache.estimatedSize();
+        long tamanho = getTamanho();
+        EstatisticasJanela.Resumo recente = estatisticasJanela.resumir(Duration.ofMillis(politica.getHealthWindow()));
         
-        Health.Builder builder = hitRate > 0.7 ? Health.up() : Health.down();
+        boolean amostrasSuficientes = recente.getRequisicoes() >= politica.getHealthMinRequests();
+        Health.Builder builder = !amostrasSuficientes || recente.getTaxaAcertos() >= politica.getHealthMinHitRate()
+            ? Health.up() : Health.down();
         
         return builder
+            .withDetail("window", recente.getJanela().toString())
+            .withDetail("window-requests", recente.getRequisicoes())
+            .withDetail("window-hit-rate", String.format("%.2f%%", recente.getTaxaAcertos() * 100))
+            .withDetail("window-evictions", recente.getEvictions())
+            .withDetail("window-load-p99", String.format("%.2fms", recente.getPercentilCargaNanos(0.99) / 1_000_000.0))
             .withDetail("cache-size", tamanho)
             .withDetail("hit-rate", String.format("%.2f%%", hitRate * 100))
             .withDetail("hit-count", stats.hitCount())
@@ -139,23 +648,153 @@ public class CacheInteligente implements HealthIndicator {
     }
     
     /**
-     * Classe interna para armazenar valor com timestamp
+     * Carrega do cache L2, quando habilitado, ou do servidor as chaves namespace:environment:chave ausentes
+     * do cache; valores vindos do servidor são gravados no L2 para as demais instâncias. Recargas do
+     * refreshAfterWrite vão direto ao servidor e renovam o valor no L2.
+     *
+     * As cargas rodam nas threads config-cache-loader e não no executor do cache, que mantém a
+     * manutenção e o removalListener na thread chamadora.
      */
-    private static class ValorConfiguracao {
-        private final String valor;
-        private final LocalDateTime timestamp;
+    private final class CarregadorServidor implements AsyncCacheLoader<String, ValorConfiguracao> {
+        
+        @Override
+        public CompletableFuture<ValorConfiguracao> asyncLoad(String chave, Executor executor) {
+            registrarAusencia(chave);
+            return carregarAsync(() -> carregar(chave));
+        }
+        
+        // Recargas do refreshAfterWrite não contam como ausência no perfil de acessos
+        @Override
+        public CompletableFuture<ValorConfiguracao> asyncReload(String chave, ValorConfiguracao anterior,
+                                                                Executor executor) {
+            return carregarAsync(() -> recarregar(chave));
+        }
+        
+        private CompletableFuture<ValorConfiguracao> carregarAsync(Supplier<ValorConfiguracao> carga) {
+            if (executorCarga == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return CompletableFuture.supplyAsync(carga, executorCarga);
+        }
+        
+        @Override
+        public CompletableFuture<Map<String, ValorConfiguracao>> asyncLoadAll(Set<? extends String> chaves,
+                                                                             Executor executor) {
+            chaves.forEach(CacheInteligente.this::registrarAusencia);
+            if (executorCarga == null) {
+                return CompletableFuture.completedFuture(Map.of());
+            }
+            return CompletableFuture.supplyAsync(() -> carregarTodos(chaves), executorCarga);
+        }
+        
+        private ValorConfiguracao carregar(String chave) {
+            String[] partes = chave.split(":", 3);
+            if (partes.length < 3) {
+                return null;
+            }
+            String valor = cacheCompartilhado != null ? cacheCompartilhado.buscar(chave) : null;
+            if (valor == null) {
+                valor = servicoCliente.buscarValorServidor(partes[0], partes[1], partes[2]);
+                logger.debug("Configuração carregada do servidor: chave={}", chave);
+                if (valor != null && cacheCompartilhado != null) {
+                    cacheCompartilhado.armazenar(chave, valor);
+                }
+            }
+            return valor != null ? criarEntrada(chave, valor, REVISAO_DESCONHECIDA) : null;
+        }
         
-        public ValorConfiguracao(String valor, LocalDateTime timestamp) {
-            this.valor = valor;
-            this.timestamp = timestamp;
+        // O valor no L2 pode ser tão antigo quanto o local: a recarga consulta o servidor e atualiza o L2
+        private ValorConfiguracao recarregar(String chave) {
+            String[] partes = chave.split(":", 3);
+            if (partes.length < 3) {
+                return null;
+            }
+            String valor = servicoCliente.buscarValorServidor(partes[0], partes[1], partes[2]);
+            logger.debug("Configuração recarregada do servidor: chave={}", chave);
+            if (cacheCompartilhado != null) {
+                Map<String, String> mudanca = new HashMap<>();
+                mudanca.put(chave, valor);
+                cacheCompartilhado.aplicarMudancas(mudanca);
+            }
+            return valor != null ? criarEntrada(chave, valor, REVISAO_DESCONHECIDA) : null;
         }
         
-        public String getValor() {
-            return valor;
+        private Map<String, ValorConfiguracao> carregarTodos(Set<? extends String> chaves) {
+            Map<String, String> valores = new HashMap<>();
+            if (cacheCompartilhado != null) {
+                valores.putAll(cacheCompartilhado.buscarTodos(new ArrayList<>(chaves)));
+            }
+            
+            // Chaves restantes agrupadas por namespace:environment, uma requisição do mapa por grupo
+            Map<String, List<String>> grupos = new LinkedHashMap<>();
+            for (String chave : chaves) {
+                int separador = chave.indexOf(':', chave.indexOf(':') + 1);
+                if (separador > 0 && !valores.containsKey(chave)) {
+                    grupos.computeIfAbsent(chave.substring(0, separador), g -> new ArrayList<>()).add(chave);
+                }
+            }
+            
+            Map<String, String> doServidor = new HashMap<>();
+            grupos.forEach((grupo, chavesGrupo) -> {
+                String[] partes = grupo.split(":", 2);
+                try {
+                    if (chavesGrupo.size() == 1) {
+                        String chave = chavesGrupo.get(0);
+                        String valor = servicoCliente.buscarValorServidor(partes[0], partes[1],
+                            chave.substring(grupo.length() + 1));
+                        if (valor != null) {
+                            doServidor.put(chave, valor);
+                        }
+                        return;
+                    }
+                    
+                    Map<String, String> mapa = servicoCliente.buscarMapaServidor(partes[0], partes[1]);
+                    if (mapa == null) {
+                        return;
+                    }
+                    for (String chave : chavesGrupo) {
+                        String valor = mapa.get(chave.substring(grupo.length() + 1));
+                        if (valor != null) {
+                            doServidor.put(chave, valor);
+                        }
+                    }
+                    logger.debug("{} configurações de {} carregadas do servidor", chavesGrupo.size(), grupo);
+                } catch (Exception e) {
+                    logger.warn("Falha ao carregar configurações de {} do servidor: {}", grupo, e.getMessage());
+                }
+            });
+            if (cacheCompartilhado != null) {
+                cacheCompartilhado.armazenarTodos(doServidor);
+            }
+            valores.putAll(doServidor);
+            
+            Map<String, ValorConfiguracao> carregados = new HashMap<>();
+            valores.forEach((chave, valor) -> carregados.put(chave, criarEntrada(chave, valor, REVISAO_DESCONHECIDA)));
+            return carregados;
         }
+    }
+    
+    /**
+     * Contadores de um namespace
+     */
+    private static class MetricasNamespace {
+        private final LongAdder peso = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+    }
+    
+    /**
+     * Entrada compacta do cache: valor (String, valor comprimido ou bloco fora do heap), instante da atualização em epoch ms
+     * e revisão em campos primitivos
+     */
+    private static final class ValorConfiguracao {
+        private final Object conteudo;
+        private final long atualizadoEm;
+        private final long revisao;
         
-        public LocalDateTime getTimestamp() {
-            return timestamp;
+        ValorConfiguracao(Object conteudo, long atualizadoEm, long revisao) {
+            this.conteudo = conteudo;
+            this.atualizadoEm = atualizadoEm;
+            this.revisao = revisao;
         }
     }
-}
\ No newline at end of file
+}
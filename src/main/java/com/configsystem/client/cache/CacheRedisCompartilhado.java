@@ -0,0 +1,266 @@
+package com.configsystem.client.cache;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao.RedisConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache L2 em Redis compartilhado pelas instâncias de um serviço
+ *
+ * Consultado pelo CacheInteligente e pelo ServicoClienteConfiguracao nas ausências do cache local, antes
+ * do servidor de configurações: com N instâncias o servidor recebe uma carga por chave e não uma por chave
+ * e instância. Cargas em lote usam MGET em lotes de config.client.redis.batch-size chaves, enviados em
+ * pipeline; o mapa completo de um namespace/environment é guardado em um hash, usado na carga inicial.
+ * Mudanças recebidas do servidor (Kafka, SSE, sincronização) atualizam ou removem as chaves e descartam
+ * o hash do grupo; as cargas após uma ausência só gravam chaves ainda inexistentes, para que um valor
+ * lido antes de uma mudança não sobrescreva o valor novo. Falhas do Redis são registradas e tratadas como ausência, sem impedir a carga a partir
+ * do servidor.
+ */
+@Component
+@ConditionalOnProperty(name = "config.client.redis.enabled", havingValue = "true")
+public class CacheRedisCompartilhado {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheRedisCompartilhado.class);
+
+    @Autowired
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder ausencias = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    @PostConstruct
+    public void inicializar() {
+        if (meterRegistry != null) {
+            registrarContador("hit", acertos, "Chaves encontradas no cache L2");
+            registrarContador("miss", ausencias, "Chaves ausentes do cache L2");
+            registrarContador("error", falhas, "Operações do cache L2 com falha no Redis");
+        }
+        logger.info("Cache L2 em Redis habilitado com prefixo {} e TTL de {}ms",
+            propriedades.getRedis().getKeyPrefix(), propriedades.getRedis().getTtl());
+    }
+
+    private void registrarContador(String resultado, LongAdder contador, String descricao) {
+        FunctionCounter.builder("config.client.cache.l2.requests", contador, LongAdder::sum)
+            .tag("result", resultado)
+            .description(descricao)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Busca um valor pela chave namespace:environment:chave; null se ausente ou o Redis falhou
+     */
+    public String buscar(String chave) {
+        try {
+            String valor = redisTemplate.opsForValue().get(chaveRedis(chave));
+            (valor != null ? acertos : ausencias).increment();
+            return valor;
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.warn("Falha ao buscar {} no cache L2: {}", chave, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Busca vários valores com MGET em pipeline; chaves ausentes ficam fora do resultado
+     */
+    public Map<String, String> buscarTodos(Collection<String> chaves) {
+        List<String> lista = new ArrayList<>(chaves);
+        int tamanhoLote = Math.max(1, propriedades.getRedis().getBatchSize());
+
+        List<Object> resultados;
+        try {
+            resultados = redisTemplate.executePipelined((RedisCallback<Object>) conexao -> {
+                StringRedisConnection conexaoTexto = (StringRedisConnection) conexao;
+                for (int inicio = 0; inicio < lista.size(); inicio += tamanhoLote) {
+                    List<String> lote = lista.subList(inicio, Math.min(inicio + tamanhoLote, lista.size()));
+                    conexaoTexto.mGet(lote.stream().map(this::chaveRedis).toArray(String[]::new));
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.warn("Falha ao buscar {} chaves no cache L2: {}", lista.size(), e.getMessage());
+            return Map.of();
+        }
+
+        // Um resultado por lote, com os valores na ordem das chaves do lote
+        Map<String, String> valores = new HashMap<>();
+        int indice = 0;
+        for (Object resultado : resultados) {
+            @SuppressWarnings("unchecked")
+            List<String> valoresLote = (List<String>) resultado;
+            for (String valor : valoresLote) {
+                if (valor != null) {
+                    valores.put(lista.get(indice), valor);
+                }
+                indice++;
+            }
+        }
+        acertos.add(valores.size());
+        ausencias.add(lista.size() - valores.size());
+        return valores;
+    }
+
+    /**
+     * Grava um valor lido após uma ausência com o TTL configurado, se a chave ainda não existir
+     */
+    public void armazenar(String chave, String valor) {
+        armazenarTodos(Map.of(chave, valor));
+    }
+
+    /**
+     * Grava vários valores lidos após uma ausência com o TTL configurado em um único pipeline,
+     * apenas nas chaves ainda inexistentes (SET NX)
+     */
+    public void armazenarTodos(Map<String, String> valores) {
+        if (valores.isEmpty()) {
+            return;
+        }
+        RedisConfig config = propriedades.getRedis();
+        Expiration expiracao = config.getTtl() > 0 ? Expiration.milliseconds(config.getTtl()) : Expiration.persistent();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) conexao -> {
+                StringRedisConnection conexaoTexto = (StringRedisConnection) conexao;
+                valores.forEach((chave, valor) ->
+                    conexaoTexto.set(chaveRedis(chave), valor, expiracao, SetOption.ifAbsent()));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.warn("Falha ao gravar {} chaves no cache L2: {}", valores.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Busca o mapa completo de um namespace/environment gravado por armazenarGrupo
+     * Retorna null se ausente, descartado por uma mudança ou o Redis falhou
+     */
+    public Map<String, String> buscarGrupo(String namespace, String environment) {
+        String grupo = namespace + ":" + environment;
+        try {
+            Map<String, String> valores = redisTemplate.<String, String>opsForHash().entries(chaveGrupo(grupo));
+            (valores.isEmpty() ? ausencias : acertos).increment();
+            return valores.isEmpty() ? null : valores;
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.warn("Falha ao buscar o grupo {} no cache L2: {}", grupo, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Grava o mapa completo de um namespace/environment, lido do servidor, e o valor de cada chave
+     * ainda inexistente com o TTL configurado em um único pipeline
+     */
+    public void armazenarGrupo(String namespace, String environment, Map<String, String> valores) {
+        if (valores.isEmpty()) {
+            return;
+        }
+        String grupo = namespace + ":" + environment;
+        RedisConfig config = propriedades.getRedis();
+        Expiration expiracao = config.getTtl() > 0 ? Expiration.milliseconds(config.getTtl()) : Expiration.persistent();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) conexao -> {
+                StringRedisConnection conexaoTexto = (StringRedisConnection) conexao;
+                String chaveGrupo = chaveGrupo(grupo);
+                conexaoTexto.del(chaveGrupo);
+                conexaoTexto.hMSet(chaveGrupo, valores);
+                if (config.getTtl() > 0) {
+                    conexaoTexto.pExpire(chaveGrupo, config.getTtl());
+                }
+                valores.forEach((chave, valor) ->
+                    conexaoTexto.set(chaveRedis(grupo + ":" + chave), valor, expiracao, SetOption.ifAbsent()));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.warn("Falha ao gravar o grupo {} no cache L2: {}", grupo, e.getMessage());
+        }
+    }
+
+    /**
+     * Aplica mudanças vindas do servidor às chaves namespace:environment:chave: grava os valores novos,
+     * remove as chaves sem valor (null) e descarta o mapa dos grupos afetados, em um único pipeline
+     */
+    public void aplicarMudancas(Map<String, String> mudancas) {
+        if (mudancas.isEmpty()) {
+            return;
+        }
+        RedisConfig config = propriedades.getRedis();
+        Expiration expiracao = config.getTtl() > 0 ? Expiration.milliseconds(config.getTtl()) : Expiration.persistent();
+        Set<String> grupos = new LinkedHashSet<>();
+        mudancas.keySet().forEach(chave -> {
+            int separador = chave.indexOf(':', chave.indexOf(':') + 1);
+            if (separador > 0) {
+                grupos.add(chave.substring(0, separador));
+            }
+        });
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) conexao -> {
+                StringRedisConnection conexaoTexto = (StringRedisConnection) conexao;
+                mudancas.forEach((chave, valor) -> {
+                    if (valor != null) {
+                        conexaoTexto.set(chaveRedis(chave), valor, expiracao, SetOption.upsert());
+                    } else {
+                        conexaoTexto.del(chaveRedis(chave));
+                    }
+                });
+                grupos.forEach(grupo -> conexaoTexto.del(chaveGrupo(grupo)));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.warn("Falha ao aplicar {} mudanças no cache L2: {}", mudancas.size(), e.getMessage());
+        }
+    }
+
+    private String chaveRedis(String chave) {
+        return propriedades.getRedis().getKeyPrefix() + chave;
+    }
+
+    // Hash do grupo namespace:environment, distinto das chaves namespace:environment:chave
+    private String chaveGrupo(String grupo) {
+        return propriedades.getRedis().getKeyPrefix() + grupo + "#grupo";
+    }
+
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    public long getAusencias() {
+        return ausencias.sum();
+    }
+
+    public long getFalhas() {
+        return falhas.sum();
+    }
+}
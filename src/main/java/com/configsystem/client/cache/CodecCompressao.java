@@ -0,0 +1,24 @@
+package com.configsystem.client.cache;
+
+/**
+ * Codec de compressão dos valores grandes do CacheInteligente
+ *
+ * Implementações registradas como bean substituem o codec escolhido em config.client.cache-policy.compression.codec.
+ */
+public interface CodecCompressao {
+
+    /**
+     * Nome do codec, usado em logs e métricas
+     */
+    String getNome();
+
+    /**
+     * Comprime os bytes do valor
+     */
+    byte[] comprimir(byte[] dados);
+
+    /**
+     * Descomprime os bytes, conhecido o tamanho original
+     */
+    byte[] descomprimir(byte[] comprimido, int tamanhoOriginal);
+}
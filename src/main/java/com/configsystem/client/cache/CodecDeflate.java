@@ -0,0 +1,62 @@
+package com.configsystem.client.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codec Deflate da JDK, sempre disponível
+ */
+public class CodecDeflate implements CodecCompressao {
+
+    private final int nivel;
+
+    public CodecDeflate() {
+        this(Deflater.BEST_SPEED);
+    }
+
+    public CodecDeflate(int nivel) {
+        this.nivel = nivel;
+    }
+
+    @Override
+    public String getNome() {
+        return "deflate";
+    }
+
+    @Override
+    public byte[] comprimir(byte[] dados) {
+        Deflater deflater = new Deflater(nivel);
+        try {
+            deflater.setInput(dados);
+            deflater.finish();
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(64, dados.length / 4));
+            byte[] bloco = new byte[8192];
+            while (!deflater.finished()) {
+                saida.write(bloco, 0, deflater.deflate(bloco));
+            }
+            return saida.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] descomprimir(byte[] comprimido, int tamanhoOriginal) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(comprimido);
+            byte[] original = new byte[tamanhoOriginal];
+            int lidos = 0;
+            while (lidos < tamanhoOriginal && !inflater.finished()) {
+                lidos += inflater.inflate(original, lidos, tamanhoOriginal - lidos);
+            }
+            return original;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Valor comprimido corrompido no cache", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
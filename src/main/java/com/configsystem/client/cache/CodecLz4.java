@@ -0,0 +1,37 @@
+package com.configsystem.client.cache;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Codec LZ4 (lz4-java): compressão menor que Deflate, com leitura bem mais rápida
+ *
+ * Requer org.lz4:lz4-java no classpath.
+ */
+public class CodecLz4 implements CodecCompressao {
+
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor descompressor;
+
+    public CodecLz4() {
+        LZ4Factory fabrica = LZ4Factory.fastestInstance();
+        this.compressor = fabrica.fastCompressor();
+        this.descompressor = fabrica.fastDecompressor();
+    }
+
+    @Override
+    public String getNome() {
+        return "lz4";
+    }
+
+    @Override
+    public byte[] comprimir(byte[] dados) {
+        return compressor.compress(dados);
+    }
+
+    @Override
+    public byte[] descomprimir(byte[] comprimido, int tamanhoOriginal) {
+        return descompressor.decompress(comprimido, tamanhoOriginal);
+    }
+}
@@ -0,0 +1,117 @@
+package com.configsystem.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compressão transparente dos valores grandes do CacheInteligente
+ *
+ * Valores a partir do limiar são comprimidos com o codec configurado e mantidos no heap só se ficarem
+ * menores. A leitura passa por uma camada quente de valores já descomprimidos, limitada em bytes e
+ * indexada pela identidade do valor comprimido, evitando descompressões repetidas das chaves mais lidas.
+ */
+final class CompressorValores {
+
+    private final CodecCompressao codec;
+    private final int limiar;
+
+    // Valores descomprimidos recentemente, por identidade do valor comprimido
+    private final Cache<ValorComprimido, String> quentes;
+
+    private final AtomicLong bytesOriginais = new AtomicLong();
+    private final AtomicLong bytesComprimidos = new AtomicLong();
+    private final LongAdder valores = new LongAdder();
+    private final LongAdder descompressoes = new LongAdder();
+
+    CompressorValores(CodecCompressao codec, int limiar, long tamanhoCamadaQuente) {
+        this.codec = codec;
+        this.limiar = limiar;
+        this.quentes = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(tamanhoCamadaQuente)
+            .weigher((ValorComprimido comprimido, String valor) -> 2 * valor.length())
+            .build();
+    }
+
+    /**
+     * Comprime o valor; null se o valor é menor que o limiar ou a compressão não reduz o tamanho
+     */
+    ValorComprimido comprimir(String valor) {
+        if (valor.length() < limiar) {
+            return null;
+        }
+
+        byte[] original = valor.getBytes(StandardCharsets.UTF_8);
+        byte[] comprimido = codec.comprimir(original);
+        if (comprimido.length >= original.length) {
+            return null;
+        }
+
+        bytesOriginais.addAndGet(original.length);
+        bytesComprimidos.addAndGet(comprimido.length);
+        valores.increment();
+        return new ValorComprimido(comprimido, original.length);
+    }
+
+    /**
+     * Lê o valor, descomprimindo-o apenas se não estiver na camada quente
+     */
+    String ler(ValorComprimido comprimido) {
+        return quentes.get(comprimido, this::descomprimir);
+    }
+
+    /**
+     * Libera a contabilização de um valor removido do cache
+     */
+    void liberar(ValorComprimido comprimido) {
+        bytesOriginais.addAndGet(-comprimido.tamanhoOriginal);
+        bytesComprimidos.addAndGet(-comprimido.dados.length);
+        valores.decrement();
+        quentes.invalidate(comprimido);
+    }
+
+    private String descomprimir(ValorComprimido comprimido) {
+        descompressoes.increment();
+        return new String(codec.descomprimir(comprimido.dados, comprimido.tamanhoOriginal), StandardCharsets.UTF_8);
+    }
+
+    String getNomeCodec() {
+        return codec.getNome();
+    }
+
+    /**
+     * Bytes economizados pelos valores comprimidos em cache
+     */
+    long getBytesEconomizados() {
+        return bytesOriginais.get() - bytesComprimidos.get();
+    }
+
+    long getValores() {
+        return valores.sum();
+    }
+
+    long getDescompressoes() {
+        return descompressoes.sum();
+    }
+
+    /**
+     * Valor comprimido e o tamanho original em bytes UTF-8
+     */
+    static final class ValorComprimido {
+        private final byte[] dados;
+        private final int tamanhoOriginal;
+
+        private ValorComprimido(byte[] dados, int tamanhoOriginal) {
+            this.dados = dados;
+            this.tamanhoOriginal = tamanhoOriginal;
+        }
+
+        int tamanho() {
+            return dados.length;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.configsystem.client.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Estatísticas do CacheInteligente em janelas deslizantes
+ *
+ * Os eventos são contados em um anel de fatias de 5 segundos cobrindo os últimos 5 minutos; um resumo
+ * soma as fatias dentro da janela pedida. As latências de carga entram em um histograma logarítmico
+ * com 4 faixas por potência de 2, e os percentis são estimados pelo limite superior da faixa (erro
+ * máximo de 25%).
+ */
+public final class EstatisticasJanela {
+
+    static final Duration DURACAO_FATIA = Duration.ofSeconds(5);
+    static final Duration JANELA_MAXIMA = Duration.ofMinutes(5);
+
+    // Latências abaixo de 1024 ns ficam na primeira faixa; 4 faixas por potência de 2 até ~18 minutos
+    private static final int EXPOENTE_MINIMO = 10;
+    private static final int EXPOENTE_MAXIMO = 40;
+    private static final int FAIXAS_LATENCIA = (EXPOENTE_MAXIMO - EXPOENTE_MINIMO + 1) * 4 + 1;
+
+    private final long duracaoFatiaMs = DURACAO_FATIA.toMillis();
+    private final Fatia[] fatias = new Fatia[(int) (JANELA_MAXIMA.toMillis() / duracaoFatiaMs)];
+    private final LongSupplier relogioMs;
+
+    EstatisticasJanela() {
+        this(System::currentTimeMillis);
+    }
+
+    EstatisticasJanela(LongSupplier relogioMs) {
+        this.relogioMs = relogioMs;
+        for (int i = 0; i < fatias.length; i++) {
+            fatias[i] = new Fatia();
+        }
+    }
+
+    /**
+     * Contador do Caffeine que alimenta a janela deslizante além das estatísticas acumuladas do cache
+     */
+    StatsCounter criarContador() {
+        return new Contador();
+    }
+
+    /**
+     * Fatia do período atual, zerada se ainda guarda um período anterior do anel
+     */
+    private Fatia fatiaAtual() {
+        long periodo = relogioMs.getAsLong() / duracaoFatiaMs;
+        Fatia fatia = fatias[(int) (periodo % fatias.length)];
+        if (fatia.periodo != periodo) {
+            synchronized (fatia) {
+                if (fatia.periodo != periodo) {
+                    fatia.zerar(periodo);
+                }
+            }
+        }
+        return fatia;
+    }
+
+    /**
+     * Soma as fatias dos últimos {@code janela}, limitada a 5 minutos
+     */
+    Resumo resumir(Duration janela) {
+        long periodoAtual = relogioMs.getAsLong() / duracaoFatiaMs;
+        long quantidade = Math.min(fatias.length, Math.max(1, janela.toMillis() / duracaoFatiaMs));
+
+        long acertos = 0, ausencias = 0, cargas = 0, falhas = 0, evictions = 0, tempoCarga = 0;
+        long[] latencias = new long[FAIXAS_LATENCIA];
+        for (Fatia fatia : fatias) {
+            long idade = periodoAtual - fatia.periodo;
+            if (idade < 0 || idade >= quantidade) {
+                continue;
+            }
+            acertos += fatia.acertos.sum();
+            ausencias += fatia.ausencias.sum();
+            cargas += fatia.cargas.sum();
+            falhas += fatia.falhas.sum();
+            evictions += fatia.evictions.sum();
+            tempoCarga += fatia.tempoCarga.sum();
+            for (int i = 0; i < FAIXAS_LATENCIA; i++) {
+                latencias[i] += fatia.latencias.get(i);
+            }
+        }
+        return new Resumo(Duration.ofMillis(quantidade * duracaoFatiaMs), acertos, ausencias, cargas, falhas,
+            evictions, tempoCarga, latencias);
+    }
+
+    static int faixaLatencia(long nanos) {
+        if (nanos < (1L << EXPOENTE_MINIMO)) {
+            return 0;
+        }
+        int expoente = Math.min(63 - Long.numberOfLeadingZeros(nanos), EXPOENTE_MAXIMO);
+        int subfaixa = expoente == EXPOENTE_MAXIMO && nanos >= (1L << (EXPOENTE_MAXIMO + 1))
+            ? 3 : (int) (nanos >>> (expoente - 2)) & 3;
+        return (expoente - EXPOENTE_MINIMO) * 4 + subfaixa + 1;
+    }
+
+    static long limiteSuperiorFaixa(int faixa) {
+        if (faixa == 0) {
+            return 1L << EXPOENTE_MINIMO;
+        }
+        int expoente = (faixa - 1) / 4 + EXPOENTE_MINIMO;
+        int subfaixa = (faixa - 1) % 4;
+        return (long) (4 + subfaixa + 1) << (expoente - 2);
+    }
+
+    private final class Contador implements StatsCounter {
+        private final ConcurrentStatsCounter acumulado = new ConcurrentStatsCounter();
+
+        @Override
+        public void recordHits(int count) {
+            acumulado.recordHits(count);
+            fatiaAtual().acertos.add(count);
+        }
+
+        @Override
+        public void recordMisses(int count) {
+            acumulado.recordMisses(count);
+            fatiaAtual().ausencias.add(count);
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+            acumulado.recordLoadSuccess(loadTime);
+            fatiaAtual().registrarCarga(loadTime, false);
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+            acumulado.recordLoadFailure(loadTime);
+            fatiaAtual().registrarCarga(loadTime, true);
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            acumulado.recordEviction(weight, cause);
+            fatiaAtual().evictions.increment();
+        }
+
+        @Override
+        public CacheStats snapshot() {
+            return acumulado.snapshot();
+        }
+    }
+
+    /**
+     * Contadores de um período de 5 segundos
+     */
+    private static final class Fatia {
+        private volatile long periodo = -1;
+        private final LongAdder acertos = new LongAdder();
+        private final LongAdder ausencias = new LongAdder();
+        private final LongAdder cargas = new LongAdder();
+        private final LongAdder falhas = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder tempoCarga = new LongAdder();
+        private final AtomicLongArray latencias = new AtomicLongArray(FAIXAS_LATENCIA);
+
+        void registrarCarga(long nanos, boolean falha) {
+            (falha ? falhas : cargas).increment();
+            tempoCarga.add(nanos);
+            latencias.incrementAndGet(faixaLatencia(nanos));
+        }
+
+        void zerar(long novoPeriodo) {
+            acertos.reset();
+            ausencias.reset();
+            cargas.reset();
+            falhas.reset();
+            evictions.reset();
+            tempoCarga.reset();
+            for (int i = 0; i < FAIXAS_LATENCIA; i++) {
+                latencias.set(i, 0);
+            }
+            periodo = novoPeriodo;
+        }
+    }
+
+    /**
+     * Estatísticas de uma janela
+     */
+    public static final class Resumo {
+        private final Duration janela;
+        private final long acertos;
+        private final long ausencias;
+        private final long cargas;
+        private final long falhas;
+        private final long evictions;
+        private final long tempoCarga;
+        private final long[] latencias;
+
+        private Resumo(Duration janela, long acertos, long ausencias, long cargas, long falhas, long evictions,
+                       long tempoCarga, long[] latencias) {
+            this.janela = janela;
+            this.acertos = acertos;
+            this.ausencias = ausencias;
+            this.cargas = cargas;
+            this.falhas = falhas;
+            this.evictions = evictions;
+            this.tempoCarga = tempoCarga;
+            this.latencias = latencias;
+        }
+
+        public Duration getJanela() {
+            return janela;
+        }
+
+        public long getAcertos() {
+            return acertos;
+        }
+
+        public long getAusencias() {
+            return ausencias;
+        }
+
+        public long getRequisicoes() {
+            return acertos + ausencias;
+        }
+
+        public long getCargas() {
+            return cargas;
+        }
+
+        public long getFalhasCarga() {
+            return falhas;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Taxa de acertos da janela; 1.0 sem requisições, como no CacheStats
+         */
+        public double getTaxaAcertos() {
+            long requisicoes = getRequisicoes();
+            return requisicoes == 0 ? 1.0 : (double) acertos / requisicoes;
+        }
+
+        public double getTaxaAusencias() {
+            long requisicoes = getRequisicoes();
+            return requisicoes == 0 ? 0.0 : (double) ausencias / requisicoes;
+        }
+
+        /**
+         * Tempo médio das cargas (sucesso e falha) em nanossegundos
+         */
+        public double getMediaCargaNanos() {
+            long total = cargas + falhas;
+            return total == 0 ? 0.0 : (double) tempoCarga / total;
+        }
+
+        /**
+         * Percentil da latência das cargas em nanossegundos, 0 sem cargas na janela
+         */
+        public long getPercentilCargaNanos(double percentil) {
+            long total = cargas + falhas;
+            if (total == 0) {
+                return 0;
+            }
+            long posicao = (long) Math.ceil(percentil * total);
+            long acumulado = 0;
+            for (int i = 0; i < latencias.length; i++) {
+                acumulado += latencias[i];
+                if (acumulado >= posicao) {
+                    return limiteSuperiorFaixa(i);
+                }
+            }
+            return limiteSuperiorFaixa(latencias.length - 1);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.configsystem.client.configuracao;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,6 +16,7 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -30,9 +34,14 @@ import java.util.Map;
 @ComponentScan("com.configsystem.client")
 public class ConfiguracaoAutoClienteConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(ConfiguracaoAutoClienteConfig.class);
+
     @Autowired
     private PropriedadesClienteConfiguracao propriedades;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     @Bean
     @ConditionalOnProperty(name = "config.client.kafka.enabled", havingValue = "true")
     public ConsumerFactory<String, String> fabricaConsumidor() {
@@ -47,19 +56,50 @@ public class ConfiguracaoAutoClienteConfig {
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 3000);
         
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        DefaultKafkaConsumerFactory<String, String> fabrica = new DefaultKafkaConsumerFactory<>(configProps);
+        
+        // Expõe métricas do consumidor, incluindo o lag (kafka.consumer.fetch.manager.records.lag*)
+        if (meterRegistry != null) {
+            fabrica.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        }
+        
+        return fabrica;
     }
 
     @Bean
     @ConditionalOnProperty(name = "config.client.kafka.enabled", havingValue = "true")
     public ConcurrentKafkaListenerContainerFactory<String, String> fabricaContainerListenerKafka() {
         ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(fabricaConsumidor());
-        factory.setConcurrency(1);
-        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        ConsumerFactory<String, String> fabrica = fabricaConsumidor();
+        factory.setConsumerFactory(fabrica);
+        factory.setConcurrency(resolverConcorrencia());
+        
+        ContainerProperties propriedadesContainer = factory.getContainerProperties();
+        if (propriedades.getDispatch().isAsync()) {
+            // Listeners fora da thread do consumidor: cada registro é confirmado quando o despachante o conclui,
+            // e os offsets são gravados por poll até o primeiro registro ainda pendente (at-least-once)
+            propriedadesContainer.setAckMode(ContainerProperties.AckMode.MANUAL);
+            propriedadesContainer.setAsyncAcks(true);
+        } else {
+            // Commit de offsets em lote: a cada ack-count registros ou ack-time ms, o que ocorrer primeiro
+            propriedadesContainer.setAckMode(ContainerProperties.AckMode.COUNT_TIME);
+            propriedadesContainer.setAckCount(propriedades.getKafka().getAckCount());
+            propriedadesContainer.setAckTime(propriedades.getKafka().getAckTime());
+        }
         return factory;
     }
 
+    /**
+     * Resolve a concorrência do listener sem consultar o broker na inicialização (padrão: 1 consumidor)
+     * O Kafka atribui cada partição a um único consumidor, preservando a ordem por chave; consumidores além
+     * do número de partições ficam ociosos até um rebalanceamento
+     */
+    private int resolverConcorrencia() {
+        int concorrencia = Math.max(1, propriedades.getKafka().getConcurrency());
+        logger.info("Listener Kafka com concorrência {} para o tópico {}", concorrencia, propriedades.getKafka().getTopic());
+        return concorrencia;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -3,6 +3,9 @@ package com.configsystem.client.configuracao;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Propriedades de configuração do cliente
  */
@@ -23,6 +26,27 @@ public class PropriedadesClienteConfiguracao {
     // Kafka configuration
     private KafkaConfig kafka = new KafkaConfig();
     
+    // Despacho de eventos de mudança
+    private DispatchConfig dispatch = new DispatchConfig();
+    
+    // Canal push (SSE/long-poll) alternativo ao Kafka
+    private PushConfig push = new PushConfig();
+    
+    // Cache de valores já convertidos para os campos anotados
+    private ConversionCacheConfig conversionCache = new ConversionCacheConfig();
+    
+    // Configurações de reinjeção dos campos anotados
+    private RefreshConfig refresh = new RefreshConfig();
+    
+    // Políticas de capacidade e expiração do CacheInteligente
+    private CachePolicyConfig cachePolicy = new CachePolicyConfig();
+    
+    // Cache L2 em Redis compartilhado entre as instâncias do serviço
+    private RedisConfig redis = new RedisConfig();
+    
+    // Perfil de acessos às chaves (mais lidas, mais ausências, nunca lidas)
+    private ProfilerConfig profiler = new ProfilerConfig();
+    
     // Getters and setters
     public String getServerUrl() {
         return serverUrl;
@@ -104,10 +128,168 @@ public class PropriedadesClienteConfiguracao {
         this.kafka = kafka;
     }
     
+    public DispatchConfig getDispatch() {
+        return dispatch;
+    }
+    
+    public void setDispatch(DispatchConfig dispatch) {
+        this.dispatch = dispatch;
+    }
+    
+    public PushConfig getPush() {
+        return push;
+    }
+    
+    public void setPush(PushConfig push) {
+        this.push = push;
+    }
+    
+    public ConversionCacheConfig getConversionCache() {
+        return conversionCache;
+    }
+    
+    public void setConversionCache(ConversionCacheConfig conversionCache) {
+        this.conversionCache = conversionCache;
+    }
+    
+    public RefreshConfig getRefresh() {
+        return refresh;
+    }
+    
+    public void setRefresh(RefreshConfig refresh) {
+        this.refresh = refresh;
+    }
+    
+    public CachePolicyConfig getCachePolicy() {
+        return cachePolicy;
+    }
+    
+    public void setCachePolicy(CachePolicyConfig cachePolicy) {
+        this.cachePolicy = cachePolicy;
+    }
+    
+    public RedisConfig getRedis() {
+        return redis;
+    }
+    
+    public void setRedis(RedisConfig redis) {
+        this.redis = redis;
+    }
+    
+    public ProfilerConfig getProfiler() {
+        return profiler;
+    }
+    
+    public void setProfiler(ProfilerConfig profiler) {
+        this.profiler = profiler;
+    }
+    
+    public static class ProfilerConfig {
+        private boolean enabled = true;
+        private int sketchWidth = 4096; // colunas por linha do count-min sketch
+        private int topK = 20;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getSketchWidth() {
+            return sketchWidth;
+        }
+        
+        public void setSketchWidth(int sketchWidth) {
+            this.sketchWidth = sketchWidth;
+        }
+        
+        public int getTopK() {
+            return topK;
+        }
+        
+        public void setTopK(int topK) {
+            this.topK = topK;
+        }
+    }
+    
+    public static class RedisConfig {
+        private boolean enabled = false;
+        private String keyPrefix = "config-client:";
+        private long ttl = 300000; // 5 minutos
+        private int batchSize = 500; // chaves por MGET
+        private boolean invalidationEnabled = false;
+        private String invalidationChannel = "config-client:invalidacoes";
+        private int invalidationMaxInlineValue = 4096; // caracteres; valores maiores são apenas invalidados
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+        
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+        
+        public long getTtl() {
+            return ttl;
+        }
+        
+        public void setTtl(long ttl) {
+            this.ttl = ttl;
+        }
+        
+        public int getBatchSize() {
+            return batchSize;
+        }
+        
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+        
+        public boolean isInvalidationEnabled() {
+            return invalidationEnabled;
+        }
+        
+        public void setInvalidationEnabled(boolean invalidationEnabled) {
+            this.invalidationEnabled = invalidationEnabled;
+        }
+        
+        public String getInvalidationChannel() {
+            return invalidationChannel;
+        }
+        
+        public void setInvalidationChannel(String invalidationChannel) {
+            this.invalidationChannel = invalidationChannel;
+        }
+        
+        public int getInvalidationMaxInlineValue() {
+            return invalidationMaxInlineValue;
+        }
+        
+        public void setInvalidationMaxInlineValue(int invalidationMaxInlineValue) {
+            this.invalidationMaxInlineValue = invalidationMaxInlineValue;
+        }
+    }
+    
     public static class KafkaConfig {
         private boolean enabled = false;
         private String bootstrapServers = "localhost:9092";
         private String topic = "config-changes";
+        private boolean snapshotEnabled = false;
+        private String snapshotTopic = "config-snapshot";
+        private long snapshotTimeout = 30000; // 30 segundos
+        private int concurrency = 1; // consumidores além do número de partições ficam ociosos
+        private int ackCount = 100;
+        private long ackTime = 5000; // 5 segundos
         
         public boolean isEnabled() {
             return enabled;
@@ -132,5 +314,449 @@ public class PropriedadesClienteConfiguracao {
         public void setTopic(String topic) {
             this.topic = topic;
         }
+        
+        public boolean isSnapshotEnabled() {
+            return snapshotEnabled;
+        }
+        
+        public void setSnapshotEnabled(boolean snapshotEnabled) {
+            this.snapshotEnabled = snapshotEnabled;
+        }
+        
+        public String getSnapshotTopic() {
+            return snapshotTopic;
+        }
+        
+        public void setSnapshotTopic(String snapshotTopic) {
+            this.snapshotTopic = snapshotTopic;
+        }
+        
+        public long getSnapshotTimeout() {
+            return snapshotTimeout;
+        }
+        
+        public void setSnapshotTimeout(long snapshotTimeout) {
+            this.snapshotTimeout = snapshotTimeout;
+        }
+        
+        public int getConcurrency() {
+            return concurrency;
+        }
+        
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+        
+        public int getAckCount() {
+            return ackCount;
+        }
+        
+        public void setAckCount(int ackCount) {
+            this.ackCount = ackCount;
+        }
+        
+        public long getAckTime() {
+            return ackTime;
+        }
+        
+        public void setAckTime(long ackTime) {
+            this.ackTime = ackTime;
+        }
+    }
+    
+    public static class DispatchConfig {
+        private boolean async = true;
+        private int threads = 4;
+        private int queueCapacity = 1000;
+        private boolean virtualThreads = true;
+        
+        public boolean isAsync() {
+            return async;
+        }
+        
+        public void setAsync(boolean async) {
+            this.async = async;
+        }
+        
+        public int getThreads() {
+            return threads;
+        }
+        
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+        
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+        
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+        
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+        
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+    }
+    
+    public static class PushConfig {
+        private boolean enabled = false;
+        private String path = "/api/v1/configuracoes/{namespace}/{environment}/eventos";
+        private long reconnectDelay = 1000; // 1 segundo
+        private long maxReconnectDelay = 30000; // 30 segundos
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public String getPath() {
+            return path;
+        }
+        
+        public void setPath(String path) {
+            this.path = path;
+        }
+        
+        public long getReconnectDelay() {
+            return reconnectDelay;
+        }
+        
+        public void setReconnectDelay(long reconnectDelay) {
+            this.reconnectDelay = reconnectDelay;
+        }
+        
+        public long getMaxReconnectDelay() {
+            return maxReconnectDelay;
+        }
+        
+        public void setMaxReconnectDelay(long maxReconnectDelay) {
+            this.maxReconnectDelay = maxReconnectDelay;
+        }
+    }
+    
+    public static class ConversionCacheConfig {
+        private boolean enabled = true;
+        private long maximumSize = 10000;
+        private long maximumWeight = 16 * 1024 * 1024; // bytes estimados; 0 = limitar por entradas
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+        
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+        
+        public long getMaximumWeight() {
+            return maximumWeight;
+        }
+        
+        public void setMaximumWeight(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+    }
+    
+    public static class RefreshConfig {
+        private long debounceWindow = 0; // 0 = reinjetar a cada evento
+        private long maxDelay = 1000; // 1 segundo
+        private boolean parallel = false;
+        private int parallelThreshold = 256; // vínculos afetados a partir dos quais a reinjeção é paralela
+        private int parallelism = 0; // 0 = processadores disponíveis
+        
+        public long getDebounceWindow() {
+            return debounceWindow;
+        }
+        
+        public void setDebounceWindow(long debounceWindow) {
+            this.debounceWindow = debounceWindow;
+        }
+        
+        public long getMaxDelay() {
+            return maxDelay;
+        }
+        
+        public void setMaxDelay(long maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+        
+        public boolean isParallel() {
+            return parallel;
+        }
+        
+        public void setParallel(boolean parallel) {
+            this.parallel = parallel;
+        }
+        
+        public int getParallelThreshold() {
+            return parallelThreshold;
+        }
+        
+        public void setParallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+        }
+        
+        public int getParallelism() {
+            return parallelism;
+        }
+        
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+    
+    public static class CachePolicyConfig {
+        private long maximumSize = 10000;
+        private long maximumWeight = 0; // bytes; 0 = limite por quantidade de entradas
+        private long expireAfterWrite = 1800000; // 30 minutos
+        private long expireAfterAccess = 600000; // 10 minutos
+        private long refreshAfterWrite = 0; // ms; 0 = sem recarga em segundo plano
+        private int loaderThreads = 4;
+        private long healthWindow = 300000; // 5 minutos
+        private long healthMinRequests = 100;
+        private double healthMinHitRate = 0.7;
+        private Map<String, NamespaceCachePolicy> namespaces = new HashMap<>();
+        private OffHeapConfig offHeap = new OffHeapConfig();
+        private CompressionConfig compression = new CompressionConfig();
+        
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+        
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+        
+        public long getMaximumWeight() {
+            return maximumWeight;
+        }
+        
+        public void setMaximumWeight(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+        
+        public long getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+        
+        public void setExpireAfterWrite(long expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+        
+        public long getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+        
+        public void setExpireAfterAccess(long expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+        }
+        
+        public long getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+        
+        public void setRefreshAfterWrite(long refreshAfterWrite) {
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+        
+        public int getLoaderThreads() {
+            return loaderThreads;
+        }
+        
+        public void setLoaderThreads(int loaderThreads) {
+            this.loaderThreads = loaderThreads;
+        }
+        
+        public long getHealthWindow() {
+            return healthWindow;
+        }
+        
+        public void setHealthWindow(long healthWindow) {
+            this.healthWindow = healthWindow;
+        }
+        
+        public long getHealthMinRequests() {
+            return healthMinRequests;
+        }
+        
+        public void setHealthMinRequests(long healthMinRequests) {
+            this.healthMinRequests = healthMinRequests;
+        }
+        
+        public double getHealthMinHitRate() {
+            return healthMinHitRate;
+        }
+        
+        public void setHealthMinHitRate(double healthMinHitRate) {
+            this.healthMinHitRate = healthMinHitRate;
+        }
+        
+        public Map<String, NamespaceCachePolicy> getNamespaces() {
+            return namespaces;
+        }
+        
+        public void setNamespaces(Map<String, NamespaceCachePolicy> namespaces) {
+            this.namespaces = namespaces;
+        }
+        
+        public OffHeapConfig getOffHeap() {
+            return offHeap;
+        }
+        
+        public void setOffHeap(OffHeapConfig offHeap) {
+            this.offHeap = offHeap;
+        }
+        
+        public CompressionConfig getCompression() {
+            return compression;
+        }
+        
+        public void setCompression(CompressionConfig compression) {
+            this.compression = compression;
+        }
+    }
+    
+    // Compressão transparente de valores grandes do CacheInteligente
+    public static class CompressionConfig {
+        private boolean enabled = false;
+        private int threshold = 1024; // caracteres a partir dos quais o valor é comprimido
+        private String codec = "deflate"; // deflate ou lz4 (requer org.lz4:lz4-java)
+        private long hotCacheBytes = 4194304; // 4 MB de valores descomprimidos
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getThreshold() {
+            return threshold;
+        }
+        
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+        
+        public String getCodec() {
+            return codec;
+        }
+        
+        public void setCodec(String codec) {
+            this.codec = codec;
+        }
+        
+        public long getHotCacheBytes() {
+            return hotCacheBytes;
+        }
+        
+        public void setHotCacheBytes(long hotCacheBytes) {
+            this.hotCacheBytes = hotCacheBytes;
+        }
+    }
+    
+    // Camada fora do heap para valores grandes do CacheInteligente
+    public static class OffHeapConfig {
+        private boolean enabled = false;
+        private int threshold = 32768; // caracteres a partir dos quais o valor vai para fora do heap
+        private long maxBytes = 268435456; // 256 MB; 0 = sem limite
+        private long hotCacheBytes = 8388608; // 8 MB de valores decodificados
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getThreshold() {
+            return threshold;
+        }
+        
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+        
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+        
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+        
+        public long getHotCacheBytes() {
+            return hotCacheBytes;
+        }
+        
+        public void setHotCacheBytes(long hotCacheBytes) {
+            this.hotCacheBytes = hotCacheBytes;
+        }
+    }
+    
+    // Sobrescritas por namespace; atributos não informados herdam a política geral
+    public static class NamespaceCachePolicy {
+        private Long maximumSize;
+        private Long maximumWeight;
+        private Long expireAfterWrite;
+        private Long expireAfterAccess;
+        private Long refreshAfterWrite;
+        
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+        
+        public void setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+        
+        public Long getMaximumWeight() {
+            return maximumWeight;
+        }
+        
+        public void setMaximumWeight(Long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+        
+        public Long getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+        
+        public void setExpireAfterWrite(Long expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+        
+        public Long getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+        
+        public void setExpireAfterAccess(Long expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+        }
+        
+        public Long getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+        
+        public void setRefreshAfterWrite(Long refreshAfterWrite) {
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.configsystem.client.handle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base dos handles de configuração: referência viva para o valor de uma chave
+ *
+ * O valor é mantido já convertido e atualizado no lugar pelo cliente a cada mudança da chave,
+ * de modo que a leitura não faz busca em mapa, conversão de string nem alocação.
+ */
+public abstract class AbstractConfigHandle {
+
+    protected static final Logger logger = LoggerFactory.getLogger(AbstractConfigHandle.class);
+
+    private final String chave;
+    private final String namespace;
+    private final String environment;
+
+    protected AbstractConfigHandle(String chave, String namespace, String environment) {
+        this.chave = chave;
+        this.namespace = namespace;
+        this.environment = environment;
+    }
+
+    /**
+     * Aplica um novo valor bruto da chave; null ou vazio restaura o valor padrão
+     * Chamado pelo cliente a cada atualização da chave no cache local
+     */
+    public final void atualizar(String valor) {
+        if (valor == null || valor.isEmpty()) {
+            restaurarPadrao();
+            return;
+        }
+
+        try {
+            aplicar(valor.trim());
+        } catch (RuntimeException e) {
+            // Mantém o último valor válido
+            logger.warn("Valor inválido para {}.{}.{}: '{}' ({})", namespace, environment, chave, valor, e.getMessage());
+        }
+    }
+
+    /**
+     * Converte e publica o novo valor
+     */
+    protected abstract void aplicar(String valor);
+
+    /**
+     * Publica o valor padrão do handle
+     */
+    protected abstract void restaurarPadrao();
+
+    public String getChave() {
+        return chave;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+}
@@ -0,0 +1,38 @@
+package com.configsystem.client.handle;
+
+/**
+ * Handle de configuração especializado para boolean, sem boxing na leitura
+ */
+public class BooleanConfigHandle extends AbstractConfigHandle {
+
+    private final boolean valorPadrao;
+    private volatile boolean valor;
+
+    public BooleanConfigHandle(String chave, String namespace, String environment, boolean valorPadrao) {
+        super(chave, namespace, environment);
+        this.valorPadrao = valorPadrao;
+        this.valor = valorPadrao;
+    }
+
+    /**
+     * Obtém o valor atual
+     */
+    public boolean get() {
+        return valor;
+    }
+
+    @Override
+    protected void aplicar(String valor) {
+        this.valor = Boolean.parseBoolean(valor);
+    }
+
+    @Override
+    protected void restaurarPadrao() {
+        this.valor = valorPadrao;
+    }
+
+    @Override
+    public String toString() {
+        return getChave() + "=" + valor;
+    }
+}
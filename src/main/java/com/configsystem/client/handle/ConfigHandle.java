@@ -0,0 +1,46 @@
+package com.configsystem.client.handle;
+
+import java.util.function.Function;
+
+/**
+ * Handle tipado para o valor vivo de uma configuração
+ *
+ * Uso:
+ * ConfigHandle<Duration> timeout = servicoCliente.obterHandle("app.timeout", Duration.class, Duration.ofSeconds(30));
+ * timeout.get();
+ */
+public class ConfigHandle<T> extends AbstractConfigHandle {
+
+    private final Function<String, T> conversor;
+    private final T valorPadrao;
+    private volatile T valor;
+
+    public ConfigHandle(String chave, String namespace, String environment, Function<String, T> conversor, T valorPadrao) {
+        super(chave, namespace, environment);
+        this.conversor = conversor;
+        this.valorPadrao = valorPadrao;
+        this.valor = valorPadrao;
+    }
+
+    /**
+     * Obtém o valor atual, já convertido
+     */
+    public T get() {
+        return valor;
+    }
+
+    @Override
+    protected void aplicar(String valor) {
+        this.valor = conversor.apply(valor);
+    }
+
+    @Override
+    protected void restaurarPadrao() {
+        this.valor = valorPadrao;
+    }
+
+    @Override
+    public String toString() {
+        return getChave() + "=" + valor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.configsystem.client.handle;
+
+/**
+ * Handle de configuração especializado para int, sem boxing na leitura
+ */
+public class IntConfigHandle extends AbstractConfigHandle {
+
+    private final int valorPadrao;
+    private volatile int valor;
+
+    public IntConfigHandle(String chave, String namespace, String environment, int valorPadrao) {
+        super(chave, namespace, environment);
+        this.valorPadrao = valorPadrao;
+        this.valor = valorPadrao;
+    }
+
+    /**
+     * Obtém o valor atual
+     */
+    public int get() {
+        return valor;
+    }
+
+    @Override
+    protected void aplicar(String valor) {
+        this.valor = Integer.parseInt(valor);
+    }
+
+    @Override
+    protected void restaurarPadrao() {
+        this.valor = valorPadrao;
+    }
+
+    @Override
+    public String toString() {
+        return getChave() + "=" + valor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.configsystem.client.handle;
+
+/**
+ * Handle de configuração especializado para long, sem boxing na leitura
+ */
+public class LongConfigHandle extends AbstractConfigHandle {
+
+    private final long valorPadrao;
+    private volatile long valor;
+
+    public LongConfigHandle(String chave, String namespace, String environment, long valorPadrao) {
+        super(chave, namespace, environment);
+        this.valorPadrao = valorPadrao;
+        this.valor = valorPadrao;
+    }
+
+    /**
+     * Obtém o valor atual
+     */
+    public long get() {
+        return valor;
+    }
+
+    @Override
+    protected void aplicar(String valor) {
+        this.valor = Long.parseLong(valor);
+    }
+
+    @Override
+    protected void restaurarPadrao() {
+        this.valor = valorPadrao;
+    }
+
+    @Override
+    public String toString() {
+        return getChave() + "=" + valor;
+    }
+}
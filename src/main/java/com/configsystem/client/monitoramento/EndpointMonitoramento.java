@@ -1,6 +1,7 @@
 package com.configsystem.client.monitoramento;
 
 import com.configsystem.client.cache.CacheInteligente;
+import com.configsystem.client.cache.EstatisticasJanela;
 import com.configsystem.client.servico.ServicoClienteConfiguracao;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +11,10 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Endpoint customizado para monitoramento da SDK de configurações
@@ -19,12 +23,18 @@ import java.util.Map;
 @Endpoint(id = "config-client")
 public class EndpointMonitoramento {
     
+    private static final int LIMITE_CHAVES = 20;
+    private static final int LIMITE_NUNCA_LIDAS = 100;
+    
     @Autowired
     private CacheInteligente cache;
     
     @Autowired
     private ServicoClienteConfiguracao servicoCliente;
     
+    @Autowired(required = false)
+    private PerfilAcessos perfilAcessos;
+    
     @ReadOperation
     public Map<String, Object> informacoesDetalhadas() {
         Map<String, Object> info = new HashMap<>();
@@ -44,6 +54,11 @@ public class EndpointMonitoramento {
         cacheInfo.put("total_misses", stats.missCount());
         cacheInfo.put("evictions", stats.evictionCount());
         cacheInfo.put("load_time_avg_ms", String.format("%.2f", stats.averageLoadPenalty() / 1_000_000.0));
+        cacheInfo.put("total_loads", stats.loadCount());
+        cacheInfo.put("load_failures", stats.loadFailureCount());
+        
+        cacheInfo.put("janela_1m", resumirJanela(cache.getEstatisticasRecentes(CacheInteligente.JANELA_CURTA)));
+        cacheInfo.put("janela_5m", resumirJanela(cache.getEstatisticasRecentes(CacheInteligente.JANELA_LONGA)));
         
         info.put("cache", cacheInfo);
         
@@ -56,9 +71,48 @@ public class EndpointMonitoramento {
         
         info.put("performance", performance);
         
+        if (perfilAcessos != null) {
+            info.put("acessos", resumirAcessos());
+        }
+        
         return info;
     }
     
+    /**
+     * Chaves mais lidas (candidatas a handles vivos), com mais ausências e nunca lidas (candidatas a remoção)
+     */
+    private Map<String, Object> resumirAcessos() {
+        Set<String> conhecidas = new HashSet<>(servicoCliente.obterCacheLocal().keySet());
+        conhecidas.addAll(cache.getChaves());
+        List<String> nuncaLidas = perfilAcessos.getChavesNuncaLidas(conhecidas);
+        
+        Map<String, Object> acessos = new HashMap<>();
+        acessos.put("total_leituras", perfilAcessos.getLeituras());
+        acessos.put("total_ausencias", perfilAcessos.getAusencias());
+        acessos.put("mais_lidas", perfilAcessos.getChavesMaisLidas(LIMITE_CHAVES));
+        acessos.put("mais_ausencias", perfilAcessos.getChavesComMaisAusencias(LIMITE_CHAVES));
+        acessos.put("chaves_conhecidas", conhecidas.size());
+        acessos.put("total_nunca_lidas", nuncaLidas.size());
+        acessos.put("nunca_lidas", nuncaLidas.subList(0, Math.min(LIMITE_NUNCA_LIDAS, nuncaLidas.size())));
+        return acessos;
+    }
+    
+    private Map<String, Object> resumirJanela(EstatisticasJanela.Resumo resumo) {
+        Map<String, Object> janela = new HashMap<>();
+        janela.put("hit_rate", String.format("%.2f%%", resumo.getTaxaAcertos() * 100));
+        janela.put("miss_rate", String.format("%.2f%%", resumo.getTaxaAusencias() * 100));
+        janela.put("hits", resumo.getAcertos());
+        janela.put("misses", resumo.getAusencias());
+        janela.put("evictions", resumo.getEvictions());
+        janela.put("loads", resumo.getCargas());
+        janela.put("load_failures", resumo.getFalhasCarga());
+        janela.put("load_time_avg_ms", String.format("%.2f", resumo.getMediaCargaNanos() / 1_000_000.0));
+        janela.put("load_time_p50_ms", String.format("%.2f", resumo.getPercentilCargaNanos(0.50) / 1_000_000.0));
+        janela.put("load_time_p95_ms", String.format("%.2f", resumo.getPercentilCargaNanos(0.95) / 1_000_000.0));
+        janela.put("load_time_p99_ms", String.format("%.2f", resumo.getPercentilCargaNanos(0.99) / 1_000_000.0));
+        return janela;
+    }
+    
     private String gerarRecomendacoes(CacheStats stats) {
         if (stats.hitRate() < 0.5) {
             return "Cache com baixa eficiência. Considere aumentar o TTL ou revisar os padrões de acesso.";
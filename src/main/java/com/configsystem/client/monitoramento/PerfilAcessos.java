@@ -0,0 +1,91 @@
+package com.configsystem.client.monitoramento;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao.ProfilerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Perfil de acessos às configurações desde a inicialização
+ *
+ * Alimentado pelas leituras do ServicoClienteConfiguracao, do CacheInteligente e da injeção e reinjeção
+ * de campos @ValorConfiguracao (chaves namespace:environment:chave). Identifica as chaves mais lidas, candidatas a handles vivos, as que
+ * mais falham no cache e, a partir das chaves conhecidas, as nunca lidas, candidatas a remoção.
+ * Colisões do sketch podem apenas superestimar frequências: uma chave reportada como nunca lida de
+ * fato não foi lida.
+ */
+@Component
+@ConditionalOnProperty(name = "config.client.profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class PerfilAcessos {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerfilAcessos.class);
+
+    @Autowired(required = false)
+    private PropriedadesClienteConfiguracao propriedades;
+
+    private RastreadorFrequencia leituras;
+    private RastreadorFrequencia ausencias;
+
+    @PostConstruct
+    public void inicializar() {
+        ProfilerConfig config = propriedades != null ? propriedades.getProfiler() : new ProfilerConfig();
+        leituras = new RastreadorFrequencia(config.getSketchWidth(), config.getTopK());
+        ausencias = new RastreadorFrequencia(config.getSketchWidth(), config.getTopK());
+        logger.info("Perfil de acessos habilitado: sketch de {} colunas, top {}", leituras.getLargura(), config.getTopK());
+    }
+
+    /**
+     * Registra a leitura de uma chave namespace:environment:chave
+     */
+    public void registrarLeitura(String chave) {
+        leituras.registrar(chave);
+    }
+
+    /**
+     * Registra uma leitura da chave não atendida pelo cache
+     */
+    public void registrarAusencia(String chave) {
+        ausencias.registrar(chave);
+    }
+
+    /**
+     * Chaves mais lidas com a quantidade estimada de leituras
+     */
+    public Map<String, Long> getChavesMaisLidas(int quantidade) {
+        return leituras.topo(quantidade);
+    }
+
+    /**
+     * Chaves com mais leituras não atendidas pelo cache
+     */
+    public Map<String, Long> getChavesComMaisAusencias(int quantidade) {
+        return ausencias.topo(quantidade);
+    }
+
+    /**
+     * Chaves conhecidas que nunca foram lidas desde a inicialização, em ordem alfabética
+     */
+    public List<String> getChavesNuncaLidas(Collection<String> chavesConhecidas) {
+        return chavesConhecidas.stream()
+            .distinct()
+            .filter(chave -> leituras.estimar(chave) == 0)
+            .sorted()
+            .toList();
+    }
+
+    public long getLeituras() {
+        return leituras.getRegistros();
+    }
+
+    public long getAusencias() {
+        return ausencias.getRegistros();
+    }
+}
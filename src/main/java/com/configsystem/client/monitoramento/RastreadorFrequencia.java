@@ -0,0 +1,157 @@
+package com.configsystem.client.monitoramento;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Frequência aproximada de chaves em memória constante: count-min sketch com top-K
+ *
+ * Cada registro incrementa um contador por linha do sketch; a estimativa é o menor deles e nunca
+ * subestima a frequência real. As linhas usam um hash de 64 bits da chave (MurmurHash64A sobre os
+ * caracteres UTF-16), cujas metades geram índices independentes: chaves com o mesmo String.hashCode
+ * não colidem em todas as linhas. As K chaves mais frequentes são acompanhadas por um conjunto de até 2K
+ * candidatas, podado com um heap mínimo pelas estimativas do sketch. Chaves já candidatas não tomam
+ * lock no caminho de leitura.
+ */
+final class RastreadorFrequencia {
+
+    private static final int PROFUNDIDADE = 4;
+    private static final long SEMENTE = 0xc3a5c85c97cb3127L;
+    private static final long MULTIPLICADOR = 0xc6a4a7935bd1e995L;
+
+    private final int largura;
+    private final int mascara;
+    private final AtomicLongArray contadores;
+    private final int k;
+    private final LongAdder registros = new LongAdder();
+
+    // Candidatas ao top-K e a estimativa mínima para entrar no conjunto, atualizada a cada poda
+    private final Set<String> candidatas = ConcurrentHashMap.newKeySet();
+    private volatile long minimoCandidatas;
+
+    RastreadorFrequencia(int largura, int k) {
+        this.largura = Integer.highestOneBit(Math.max(16, largura) - 1) << 1;
+        this.mascara = this.largura - 1;
+        this.contadores = new AtomicLongArray(PROFUNDIDADE * this.largura);
+        this.k = Math.max(1, k);
+    }
+
+    /**
+     * Registra uma ocorrência da chave e retorna a frequência estimada
+     */
+    long registrar(String chave) {
+        registros.increment();
+        long hash = hash64(chave);
+        long estimativa = Long.MAX_VALUE;
+        for (int linha = 0; linha < PROFUNDIDADE; linha++) {
+            estimativa = Math.min(estimativa, contadores.incrementAndGet(indice(hash, linha)));
+        }
+        if (estimativa > minimoCandidatas && !candidatas.contains(chave)) {
+            admitir(chave);
+        }
+        return estimativa;
+    }
+
+    /**
+     * Frequência estimada da chave; 0 garante que a chave nunca foi registrada
+     */
+    long estimar(String chave) {
+        long hash = hash64(chave);
+        long estimativa = Long.MAX_VALUE;
+        for (int linha = 0; linha < PROFUNDIDADE; linha++) {
+            estimativa = Math.min(estimativa, contadores.get(indice(hash, linha)));
+        }
+        return estimativa;
+    }
+
+    // Duplo hashing (Kirsch-Mitzenmacher): linha i usa h1 + i * h2, com h1 e h2 das metades do hash
+    private int indice(long hash, int linha) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return linha * largura + ((h1 + linha * h2) & mascara);
+    }
+
+    /**
+     * MurmurHash64A sobre os caracteres UTF-16 da chave, quatro por bloco de 64 bits
+     */
+    private static long hash64(String chave) {
+        int tamanho = chave.length();
+        long h = SEMENTE ^ (tamanho * 2L * MULTIPLICADOR);
+
+        int i = 0;
+        for (; i + 4 <= tamanho; i += 4) {
+            long bloco = chave.charAt(i)
+                | (long) chave.charAt(i + 1) << 16
+                | (long) chave.charAt(i + 2) << 32
+                | (long) chave.charAt(i + 3) << 48;
+            bloco *= MULTIPLICADOR;
+            bloco ^= bloco >>> 47;
+            bloco *= MULTIPLICADOR;
+            h ^= bloco;
+            h *= MULTIPLICADOR;
+        }
+        if (i < tamanho) {
+            long resto = 0;
+            for (int j = 0; i + j < tamanho; j++) {
+                resto |= (long) chave.charAt(i + j) << (16 * j);
+            }
+            h ^= resto;
+            h *= MULTIPLICADOR;
+        }
+
+        h ^= h >>> 47;
+        h *= MULTIPLICADOR;
+        h ^= h >>> 47;
+        return h;
+    }
+
+    private synchronized void admitir(String chave) {
+        candidatas.add(chave);
+        if (candidatas.size() <= 2 * k) {
+            return;
+        }
+
+        // Poda para as K maiores estimativas com um heap mínimo de tamanho K
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(k + 1, Map.Entry.comparingByValue());
+        for (String candidata : candidatas) {
+            heap.add(Map.entry(candidata, estimar(candidata)));
+            if (heap.size() > k) {
+                candidatas.remove(heap.poll().getKey());
+            }
+        }
+        minimoCandidatas = heap.peek().getValue();
+    }
+
+    /**
+     * Até n chaves mais frequentes (limitado a K), da maior para a menor estimativa
+     */
+    Map<String, Long> topo(int n) {
+        List<Map.Entry<String, Long>> estimativas = new ArrayList<>();
+        for (String candidata : candidatas) {
+            estimativas.add(Map.entry(candidata, estimar(candidata)));
+        }
+        estimativas.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+
+        Map<String, Long> topo = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> estimativa : estimativas.subList(0, Math.min(Math.min(n, k), estimativas.size()))) {
+            topo.put(estimativa.getKey(), estimativa.getValue());
+        }
+        return topo;
+    }
+
+    long getRegistros() {
+        return registros.sum();
+    }
+
+    int getLargura() {
+        return largura;
+    }
+}
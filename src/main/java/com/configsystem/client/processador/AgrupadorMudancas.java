@@ -0,0 +1,103 @@
+package com.configsystem.client.processador;
+
+import com.configsystem.client.servico.ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Agrupa eventos de mudança em rajada antes da reinjeção
+ *
+ * Cada evento adia a reinjeção pela janela configurada, até o atraso máximo contado a partir do
+ * primeiro evento pendente. Eventos repetidos da mesma chave são reduzidos ao último.
+ */
+final class AgrupadorMudancas {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgrupadorMudancas.class);
+
+    private final long janelaNanos;
+    private final long atrasoMaximoNanos;
+    private final Consumer<Collection<EventoMudancaConfiguracao>> reinjecao;
+    private final ScheduledExecutorService agendador;
+    private final LongAdder eventosAgrupados = new LongAdder();
+
+    // Eventos pendentes por namespace:environment:chave, protegidos pelo monitor do agrupador
+    private Map<String, EventoMudancaConfiguracao> pendentes = new LinkedHashMap<>();
+    private long primeiroPendente;
+    private ScheduledFuture<?> agendamento;
+
+    AgrupadorMudancas(long janelaMs, long atrasoMaximoMs, Consumer<Collection<EventoMudancaConfiguracao>> reinjecao) {
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        this.atrasoMaximoNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(janelaMs, atrasoMaximoMs));
+        this.reinjecao = reinjecao;
+        this.agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "config-refresh-debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registra o evento e reagenda a reinjeção do lote pendente
+     */
+    synchronized void registrar(EventoMudancaConfiguracao evento) {
+        long agora = System.nanoTime();
+        if (pendentes.isEmpty()) {
+            primeiroPendente = agora;
+        } else {
+            eventosAgrupados.increment();
+        }
+        pendentes.put(evento.getNamespace() + ":" + evento.getEnvironment() + ":" + evento.getChave(), evento);
+
+        if (agendamento != null) {
+            agendamento.cancel(false);
+        }
+        long prazo = Math.min(agora + janelaNanos, primeiroPendente + atrasoMaximoNanos);
+        agendamento = agendador.schedule(this::descarregar, Math.max(0, prazo - agora), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Reinjeta os eventos pendentes de uma só vez
+     */
+    void descarregar() {
+        Collection<EventoMudancaConfiguracao> lote;
+        synchronized (this) {
+            if (pendentes.isEmpty()) {
+                return;
+            }
+            lote = pendentes.values();
+            pendentes = new LinkedHashMap<>();
+            agendamento = null;
+        }
+
+        try {
+            reinjecao.accept(lote);
+        } catch (Exception e) {
+            logger.error("Erro ao reinjetar lote de {} mudanças de configuração: {}", lote.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Aplica as mudanças pendentes e encerra o agendador
+     */
+    void encerrar() {
+        agendador.shutdownNow();
+        descarregar();
+    }
+
+    /**
+     * Obtém a quantidade de eventos absorvidos por um lote já pendente
+     */
+    long getEventosAgrupados() {
+        return eventosAgrupados.sum();
+    }
+}
@@ -0,0 +1,127 @@
+package com.configsystem.client.processador;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache de valores convertidos por chave, plano de conversão e revisão
+ *
+ * Guarda a forma preparada do valor junto do valor bruto e da revisão aplicada da chave: listas,
+ * Duration ou BigDecimal são convertidos uma vez por mudança, e não a cada injeção ou reinjeção.
+ * Apenas valores imutáveis são compartilhados entre os beans; para tipos complexos o cache guarda
+ * a árvore JSON já validada e cada bean recebe sua própria instância. Tipos registrados sem garantia
+ * de imutabilidade não passam pelo cache.
+ *
+ * Uma entrada deixa de valer quando a revisão da chave ou o valor bruto mudam. O cache é limitado
+ * pelo peso estimado em bytes das entradas ou, com peso máximo 0, pelo número de entradas.
+ */
+final class CacheValoresConvertidos {
+
+    // Estimativa fixa por entrada: chave, plano, revisão e estruturas do cache
+    private static final int OVERHEAD_ENTRADA_BYTES = 128;
+
+    private final Cache<ChaveConversao, ValorConvertido> cache;
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    CacheValoresConvertidos(long tamanhoMaximo, long pesoMaximo) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            // Remoções na thread chamadora: o limite vale assim que a entrada é escrita
+            .executor(Runnable::run);
+        if (pesoMaximo > 0) {
+            builder.maximumWeight(pesoMaximo).weigher(CacheValoresConvertidos::pesoEntrada);
+        } else {
+            builder.maximumSize(tamanhoMaximo);
+        }
+        this.cache = builder.build();
+    }
+
+    /**
+     * Obtém o valor convertido, convertendo apenas se a revisão ou o valor bruto mudaram
+     */
+    Object converter(String chaveCache, PlanoConversao plano, Long revisao, String valorBruto) {
+        if (!plano.isCompartilhavel()) {
+            return plano.converter(valorBruto);
+        }
+
+        ChaveConversao chave = new ChaveConversao(chaveCache, plano);
+        ValorConvertido atual = cache.getIfPresent(chave);
+        if (atual != null && atual.corresponde(revisao, valorBruto)) {
+            acertos.increment();
+            return plano.materializar(atual.valor);
+        }
+
+        falhas.increment();
+        // Valores inválidos propagam a exceção e não são armazenados
+        Object preparado = plano.preparar(valorBruto);
+        cache.put(chave, new ValorConvertido(revisao, valorBruto, preparado));
+        return plano.materializar(preparado);
+    }
+
+    long getAcertos() {
+        return acertos.sum();
+    }
+
+    long getFalhas() {
+        return falhas.sum();
+    }
+
+    double getTaxaAcertos() {
+        long total = getAcertos() + getFalhas();
+        return total == 0 ? 0.0 : (double) getAcertos() / total;
+    }
+
+    long getTamanho() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Peso estimado da entrada: o valor bruto em UTF-16 e uma forma preparada de tamanho equivalente
+     */
+    private static int pesoEntrada(ChaveConversao chave, ValorConvertido valor) {
+        long peso = OVERHEAD_ENTRADA_BYTES + 2L * chave.chaveCache.length() + 4L * valor.valorBruto.length();
+        return (int) Math.min(peso, Integer.MAX_VALUE);
+    }
+
+    private static final class ChaveConversao {
+        private final String chaveCache;
+        private final PlanoConversao plano;
+
+        ChaveConversao(String chaveCache, PlanoConversao plano) {
+            this.chaveCache = chaveCache;
+            this.plano = plano;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ChaveConversao)) return false;
+            ChaveConversao outra = (ChaveConversao) o;
+            return plano == outra.plano && chaveCache.equals(outra.chaveCache);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * chaveCache.hashCode() + System.identityHashCode(plano);
+        }
+    }
+
+    private static final class ValorConvertido {
+        private final Long revisao;
+        private final String valorBruto;
+        private final Object valor;
+
+        ValorConvertido(Long revisao, String valorBruto, Object valor) {
+            this.revisao = revisao;
+            this.valorBruto = valorBruto;
+            this.valor = valor;
+        }
+
+        boolean corresponde(Long revisaoAtual, String valorBrutoAtual) {
+            return Objects.equals(revisao, revisaoAtual) && valorBruto.equals(valorBrutoAtual);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.configsystem.client.processador;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Índice de vínculos por chave de configuração
+ *
+ * Cada chave aponta para os vínculos agrupados por padrão namespace:environment, onde namespace ou
+ * environment vazios na anotação viram curinga ("*") e casam com qualquer valor do evento.
+ * Um evento consulta no máximo quatro padrões, independentemente da quantidade de campos registrados.
+ * Vínculos de beans coletados pelo GC são removidos a cada registro, busca ou contagem.
+ */
+final class IndiceVinculos {
+
+    private static final String QUALQUER = "*";
+
+    private final Map<String, Map<String, List<VinculoCampo>>> vinculosPorChave = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> filaColetados = new ReferenceQueue<>();
+
+    /**
+     * Registra um vínculo do campo com o bean no índice
+     */
+    void registrar(Object bean, InjetorCampo injetor) {
+        removerColetados();
+
+        String padrao = padrao(injetor.getAnotacao().namespace(), injetor.getAnotacao().environment());
+        vinculosPorChave
+            .computeIfAbsent(injetor.getChave(), chave -> new ConcurrentHashMap<>())
+            .computeIfAbsent(padrao, p -> new CopyOnWriteArrayList<>())
+            .add(new VinculoCampo(bean, injetor, filaColetados));
+    }
+
+    /**
+     * Busca os vínculos afetados por uma mudança em namespace/environment/chave
+     */
+    List<VinculoCampo> buscar(String namespace, String environment, String chave) {
+        removerColetados();
+
+        Map<String, List<VinculoCampo>> porPadrao = vinculosPorChave.get(chave);
+        if (porPadrao == null) {
+            return List.of();
+        }
+
+        List<VinculoCampo> afetados = new ArrayList<>();
+        adicionar(afetados, porPadrao.get(namespace + ":" + environment));
+        adicionar(afetados, porPadrao.get(namespace + ":" + QUALQUER));
+        adicionar(afetados, porPadrao.get(QUALQUER + ":" + environment));
+        adicionar(afetados, porPadrao.get(QUALQUER + ":" + QUALQUER));
+        return afetados;
+    }
+
+    /**
+     * Obtém a quantidade de vínculos com beans ainda vivos
+     */
+    int tamanho() {
+        removerColetados();
+
+        return vinculosPorChave.values().stream()
+            .flatMap(porPadrao -> porPadrao.values().stream())
+            .mapToInt(List::size)
+            .sum();
+    }
+
+    /**
+     * Remove do índice os vínculos cujos beans foram coletados
+     */
+    private void removerColetados() {
+        Reference<?> referencia;
+        while ((referencia = filaColetados.poll()) != null) {
+            VinculoCampo vinculo = (VinculoCampo) referencia;
+            InjetorCampo injetor = vinculo.getInjetor();
+            Map<String, List<VinculoCampo>> porPadrao = vinculosPorChave.get(injetor.getChave());
+            if (porPadrao != null) {
+                List<VinculoCampo> vinculos = porPadrao.get(padrao(injetor.getAnotacao().namespace(), injetor.getAnotacao().environment()));
+                if (vinculos != null) {
+                    vinculos.remove(vinculo);
+                }
+            }
+        }
+    }
+
+    private static void adicionar(List<VinculoCampo> destino, List<VinculoCampo> origem) {
+        if (origem != null) {
+            destino.addAll(origem);
+        }
+    }
+
+    private static String padrao(String namespace, String environment) {
+        return (namespace.isEmpty() ? QUALQUER : namespace) + ":" + (environment.isEmpty() ? QUALQUER : environment);
+    }
+}
@@ -0,0 +1,169 @@
+package com.configsystem.client.processador;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import com.configsystem.client.handle.AbstractConfigHandle;
+import com.configsystem.client.handle.ConfigHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Profiles;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Injetor compilado de um campo anotado
+ *
+ * Resolve uma única vez, no registro do campo, o acesso ao campo, o tipo do valor e os atributos da anotação,
+ * evitando as chamadas ao proxy da anotação a cada injeção ou atualização. A atribuição usa Field.set: um
+ * MethodHandle guardado por campo não é mais rápido (ver InjetorCampoBenchmark). A conversão do valor fica
+ * a cargo do PlanoConversao do campo.
+ */
+final class InjetorCampo {
+
+    private static final Logger logger = LoggerFactory.getLogger(InjetorCampo.class);
+
+    private final Field campo;
+    private final ValorConfiguracao anotacao;
+
+    // Atributos da anotação resolvidos no registro
+    private final String chave;
+    private final String namespace;
+    private final String environment;
+    private final String valorPadrao;
+    private final String chaveFallback;
+    private final boolean obrigatorio;
+    private final Profiles perfis;
+
+    // Campos do tipo handle recebem o handle uma única vez; tipoValor é o tipo do valor convertido
+    private final boolean handle;
+    private final Class<?> tipoValor;
+
+    private InjetorCampo(Field campo, ValorConfiguracao anotacao, Class<?> tipoValor) {
+        this.campo = campo;
+        this.anotacao = anotacao;
+        this.tipoValor = tipoValor;
+        this.handle = AbstractConfigHandle.class.isAssignableFrom(campo.getType());
+        this.chave = anotacao.value();
+        this.namespace = anotacao.namespace().isEmpty() ? null : anotacao.namespace();
+        this.environment = anotacao.environment().isEmpty() ? null : anotacao.environment();
+        this.valorPadrao = anotacao.defaultValue();
+        this.chaveFallback = anotacao.fallback().isEmpty() ? null : anotacao.fallback();
+        this.obrigatorio = anotacao.required();
+        this.perfis = anotacao.profiles().length == 0 ? null : Profiles.of(anotacao.profiles());
+    }
+
+    /**
+     * Compila o injetor para um campo anotado
+     * Retorna null, registrando o erro, se o campo não aceita atribuição (ex: static final)
+     */
+    static InjetorCampo compilar(Field campo, ValorConfiguracao anotacao) {
+        try {
+            if (Modifier.isStatic(campo.getModifiers()) && Modifier.isFinal(campo.getModifiers())) {
+                throw new IllegalStateException("campo static final não aceita atribuição");
+            }
+            campo.setAccessible(true);
+            Class<?> tipoValor;
+            if (AbstractConfigHandle.class.isAssignableFrom(campo.getType())) {
+                tipoValor = tipoValorHandle(campo, anotacao);
+            } else {
+                tipoValor = anotacao.type() != String.class ? anotacao.type() : campo.getType();
+            }
+            return new InjetorCampo(campo, anotacao, tipoValor);
+        } catch (RuntimeException e) {
+            logger.error("Erro ao injetar valor no campo {}: {}", campo.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Atribui um valor já pronto ao campo do bean
+     */
+    void atribuir(Object bean, Object valorConvertido) {
+        try {
+            campo.set(bean, valorConvertido);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Falha ao atribuir valor ao campo " + campo.getName(), e);
+        }
+    }
+
+    Field getCampo() {
+        return campo;
+    }
+
+    /**
+     * Indica se o campo é um handle de configuração, atualizado no lugar em vez de reinjetado
+     */
+    boolean isHandle() {
+        return handle;
+    }
+
+    /**
+     * Tipo do valor do campo, ou do valor do handle para campos ConfigHandle
+     */
+    Class<?> getTipoValor() {
+        return tipoValor;
+    }
+
+    ValorConfiguracao getAnotacao() {
+        return anotacao;
+    }
+
+    String getChave() {
+        return chave;
+    }
+
+    /**
+     * Namespace da anotação, ou null para usar o padrão do cliente
+     */
+    String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Environment da anotação, ou null para usar o padrão do cliente
+     */
+    String getEnvironment() {
+        return environment;
+    }
+
+    String getValorPadrao() {
+        return valorPadrao;
+    }
+
+    /**
+     * Chave de fallback da anotação, ou null se não informada
+     */
+    String getChaveFallback() {
+        return chaveFallback;
+    }
+
+    boolean isObrigatorio() {
+        return obrigatorio;
+    }
+
+    /**
+     * Profiles da anotação, ou null se o campo vale para qualquer profile
+     */
+    Profiles getPerfis() {
+        return perfis;
+    }
+
+    /**
+     * Tipo do valor de um campo ConfigHandle: type() da anotação ou o parâmetro genérico declarado
+     */
+    private static Class<?> tipoValorHandle(Field campo, ValorConfiguracao anotacao) {
+        if (campo.getType() != ConfigHandle.class || anotacao.type() != String.class) {
+            return anotacao.type();
+        }
+        Type tipoGenerico = campo.getGenericType();
+        if (tipoGenerico instanceof ParameterizedType) {
+            Type argumento = ((ParameterizedType) tipoGenerico).getActualTypeArguments()[0];
+            if (argumento instanceof Class) {
+                return (Class<?>) argumento;
+            }
+        }
+        return String.class;
+    }
+}
@@ -0,0 +1,91 @@
+package com.configsystem.client.processador;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Metadados de campos @ValorConfiguracao de uma classe
+ *
+ * Calculados uma única vez por classe (ClassValue) e reutilizados por todas as instâncias, incluindo
+ * beans prototype. Classes de pacotes de framework são descartadas sem percorrer a hierarquia.
+ */
+final class MetadadosClasse {
+
+    static final MetadadosClasse VAZIO = new MetadadosClasse(List.of());
+
+    // Pacotes de infraestrutura que nunca declaram campos @ValorConfiguracao
+    private static final String[] PACOTES_FRAMEWORK = {
+        "java.", "javax.", "jakarta.", "jdk.", "sun.", "com.sun.",
+        "org.springframework.", "org.apache.", "org.slf4j.", "ch.qos.logback.",
+        "com.fasterxml.jackson.", "com.github.benmanes.caffeine.", "io.micrometer.",
+        "io.netty.", "reactor."
+    };
+
+    private static final ClassValue<MetadadosClasse> CACHE = new ClassValue<>() {
+        @Override
+        protected MetadadosClasse computeValue(Class<?> tipo) {
+            return analisar(tipo);
+        }
+    };
+
+    private final List<InjetorCampo> injetores;
+    private final boolean comPerfis;
+
+    private MetadadosClasse(List<InjetorCampo> injetores) {
+        this.injetores = injetores;
+        this.comPerfis = injetores.stream().anyMatch(injetor -> injetor.getPerfis() != null);
+    }
+
+    /**
+     * Obtém os metadados da classe, analisando-a apenas na primeira chamada
+     */
+    static MetadadosClasse de(Class<?> tipo) {
+        return isPacoteFramework(tipo) ? VAZIO : CACHE.get(tipo);
+    }
+
+    /**
+     * Verifica se a classe pertence a um pacote de framework
+     */
+    static boolean isPacoteFramework(Class<?> tipo) {
+        String nome = tipo.getName();
+        for (String pacote : PACOTES_FRAMEWORK) {
+            if (nome.startsWith(pacote)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MetadadosClasse analisar(Class<?> tipo) {
+        List<InjetorCampo> injetores = new ArrayList<>();
+        ReflectionUtils.doWithFields(tipo, field -> {
+            ValorConfiguracao anotacao = field.getAnnotation(ValorConfiguracao.class);
+            InjetorCampo injetor = anotacao != null ? InjetorCampo.compilar(field, anotacao) : null;
+            if (injetor != null) {
+                injetores.add(injetor);
+            }
+        });
+        return injetores.isEmpty() ? VAZIO : new MetadadosClasse(List.copyOf(injetores));
+    }
+
+    /**
+     * Injetores compilados dos campos anotados, na ordem da hierarquia
+     */
+    List<InjetorCampo> getInjetores() {
+        return injetores;
+    }
+
+    /**
+     * Indica se algum campo da classe restringe os profiles em que é aplicável
+     */
+    boolean isComPerfis() {
+        return comPerfis;
+    }
+
+    boolean isVazio() {
+        return injetores.isEmpty();
+    }
+}
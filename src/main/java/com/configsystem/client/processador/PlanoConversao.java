@@ -0,0 +1,220 @@
+package com.configsystem.client.processador;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import com.configsystem.client.validacao.ValidadorTipos;
+import com.configsystem.client.validacao.ValidadorTipos.ValidacaoException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Plano de conversão compilado de um campo anotado
+ *
+ * Resolve no registro, a partir de type(), separator(), validator(), min() e max() da anotação,
+ * o conversor do ValidadorTipos (ou um ObjectReader do ObjectMapper compartilhado para tipos complexos),
+ * a validação pré-compilada e o intervalo numérico. A conversão só executa o que foi selecionado.
+ *
+ * Para o cache de valores convertidos, preparar() gera a forma que pode ser compartilhada entre campos:
+ * o próprio valor para tipos imutáveis, ou a árvore JSON para tipos complexos, que materializar()
+ * transforma em uma instância nova para cada campo.
+ */
+final class PlanoConversao {
+
+    // Tipos cujos valores convertidos podem ser compartilhados entre beans
+    private static final Set<Class<?>> TIPOS_IMUTAVEIS = Set.of(
+        String.class, Integer.class, Long.class, Double.class, Float.class, Short.class, Byte.class,
+        Boolean.class, Character.class, BigDecimal.class, BigInteger.class, Duration.class, Period.class,
+        Instant.class, LocalDate.class, LocalDateTime.class, LocalTime.class, OffsetDateTime.class,
+        ZonedDateTime.class, UUID.class, List.class);
+
+    private final Class<?> tipo;
+    private final Function<String, Object> conversor;
+    private final ObjectReader leitorJson;
+    private final Predicate<String> validacao;
+    private final String validador;
+    private final boolean verificarIntervalo;
+    private final double minimo;
+    private final double maximo;
+
+    private PlanoConversao(Class<?> tipo, Function<String, Object> conversor, ObjectReader leitorJson,
+                           Predicate<String> validacao, String validador, boolean verificarIntervalo,
+                           double minimo, double maximo) {
+        this.tipo = tipo;
+        this.conversor = conversor;
+        this.leitorJson = leitorJson;
+        this.validacao = validacao;
+        this.validador = validador;
+        this.verificarIntervalo = verificarIntervalo;
+        this.minimo = minimo;
+        this.maximo = maximo;
+    }
+
+    /**
+     * Compila o plano de conversão para o tipo de valor do campo
+     */
+    static PlanoConversao compilar(InjetorCampo injetor, ValidadorTipos validadorTipos,
+                                   Function<Class<?>, ObjectReader> leitorPorTipo) {
+        ValorConfiguracao anotacao = injetor.getAnotacao();
+        Class<?> tipo = injetor.getTipoValor();
+
+        Predicate<String> validacao = anotacao.validator().isEmpty()
+            ? null
+            : validadorTipos.compilarValidacao(anotacao.validator());
+
+        // min()/max() com os valores padrão da anotação não restringem o campo
+        boolean verificarIntervalo = isNumerico(tipo)
+            && (anotacao.min() != Double.MIN_VALUE || anotacao.max() != Double.MAX_VALUE);
+
+        Function<String, Object> conversor = selecionarConversor(tipo, anotacao.separator(), validadorTipos);
+        // Tipos complexos: JSON com o ObjectReader do tipo, criado uma vez a partir do ObjectMapper compartilhado
+        ObjectReader leitorJson = conversor == null ? leitorPorTipo.apply(tipo) : null;
+
+        return new PlanoConversao(tipo, conversor, leitorJson,
+            validacao, anotacao.validator(), verificarIntervalo, anotacao.min(), anotacao.max());
+    }
+
+    /**
+     * Assinatura dos atributos que determinam a conversão: campos com a mesma assinatura compartilham o plano
+     */
+    static String assinatura(InjetorCampo injetor) {
+        ValorConfiguracao anotacao = injetor.getAnotacao();
+        return injetor.getTipoValor().getName() + "|" + anotacao.separator() + "|" + anotacao.validator()
+            + "|" + anotacao.min() + "|" + anotacao.max();
+    }
+
+    /**
+     * Valida e converte o valor bruto
+     */
+    Object converter(String valor) {
+        String texto = validar(valor);
+        Object convertido = leitorJson != null
+            ? lerJson(texto, () -> leitorJson.readValue(texto))
+            : conversor.apply(texto);
+        return verificarIntervalo(convertido, texto);
+    }
+
+    /**
+     * Indica se preparar() gera uma forma que pode ser compartilhada entre campos
+     * Demais tipos registrados podem ser mutáveis e são convertidos para cada campo
+     */
+    boolean isCompartilhavel() {
+        return leitorJson != null || tipo.isPrimitive() || tipo.isEnum() || TIPOS_IMUTAVEIS.contains(tipo);
+    }
+
+    /**
+     * Indica se o valor convertido é imutável e pode ser atribuído a vários campos
+     */
+    boolean isImutavel() {
+        return leitorJson == null && isCompartilhavel();
+    }
+
+    /**
+     * Valida o valor bruto e gera a forma compartilhável: o valor convertido ou a árvore JSON
+     */
+    Object preparar(String valor) {
+        String texto = validar(valor);
+        if (leitorJson != null) {
+            JsonNode arvore = lerJson(texto, () -> leitorJson.readTree(texto));
+            if (arvore.isMissingNode()) {
+                throw new ValidacaoException(String.format(
+                    "Não foi possível converter '%s' para %s: valor vazio", texto, tipo.getSimpleName()));
+            }
+            return arvore;
+        }
+        return verificarIntervalo(conversor.apply(texto), texto);
+    }
+
+    /**
+     * Obtém o valor do campo a partir da forma preparada, criando uma instância nova para tipos complexos
+     */
+    Object materializar(Object preparado) {
+        if (leitorJson == null) {
+            return preparado;
+        }
+        JsonNode arvore = (JsonNode) preparado;
+        Object convertido = lerJson(arvore, () -> leitorJson.readValue(arvore));
+        return verificarIntervalo(convertido, arvore);
+    }
+
+    Class<?> getTipo() {
+        return tipo;
+    }
+
+    private String validar(String valor) {
+        String texto = valor.trim();
+        if (validacao != null && !validacao.test(texto)) {
+            throw new ValidacaoException(String.format(
+                "Valor '%s' não atende ao validador '%s'", texto, validador));
+        }
+        return texto;
+    }
+
+    private Object verificarIntervalo(Object convertido, Object origem) {
+        if (verificarIntervalo) {
+            double numero = ((Number) convertido).doubleValue();
+            if (numero < minimo || numero > maximo) {
+                throw new ValidacaoException(String.format(
+                    "Valor %s fora do intervalo [%s, %s]", origem, minimo, maximo));
+            }
+        }
+        return convertido;
+    }
+
+    private <T> T lerJson(Object origem, LeituraJson<T> leitura) {
+        try {
+            return leitura.ler();
+        } catch (Exception e) {
+            throw new ValidacaoException(String.format(
+                "Não foi possível converter '%s' para %s: %s", origem, tipo.getSimpleName(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Conversor do tipo, ou null para tipos complexos convertidos de JSON
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> selecionarConversor(Class<?> tipo, String separador,
+                                                                ValidadorTipos validadorTipos) {
+        if (tipo == String.class) {
+            return valor -> valor;
+        } else if (tipo == List.class) {
+            Pattern padraoSeparador = Pattern.compile(Pattern.quote(separador));
+            return valor -> padraoSeparador.splitAsStream(valor)
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toUnmodifiableList());
+        } else if (tipo.isEnum()) {
+            return valor -> Enum.valueOf((Class<Enum>) tipo, valor);
+        }
+
+        return validadorTipos.obterConversor(tipo);
+    }
+
+    private static boolean isNumerico(Class<?> tipo) {
+        return Number.class.isAssignableFrom(tipo)
+            || tipo == int.class || tipo == long.class || tipo == double.class
+            || tipo == float.class || tipo == short.class || tipo == byte.class;
+    }
+
+    @FunctionalInterface
+    private interface LeituraJson<T> {
+        T ler() throws Exception;
+    }
+}
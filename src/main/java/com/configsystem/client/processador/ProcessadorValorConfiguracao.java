@@ -1,21 +1,52 @@
 package com.configsystem.client.processador;
 
 import com.configsystem.client.anotacao.ValorConfiguracao;
-import com.configsystem.client.servico.ServicoListenerMudancaConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.handle.BooleanConfigHandle;
+import com.configsystem.client.handle.IntConfigHandle;
+import com.configsystem.client.handle.LongConfigHandle;
+import com.configsystem.client.monitoramento.PerfilAcessos;
+import com.configsystem.client.servico.RegistroVersoesConfiguracao;
+import com.configsystem.client.servico.ServicoBootstrapTopicoCompactado;
+import com.configsystem.client.servico.ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao;
 import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import com.configsystem.client.validacao.ValidadorTipos;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ReflectionUtils;
 
+import jakarta.annotation.PreDestroy;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Processador responsável por injetar valores de configuração em campos anotados com @ValorConfiguracao
@@ -25,150 +56,677 @@ public class ProcessadorValorConfiguracao implements BeanPostProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(ProcessadorValorConfiguracao.class);
 
+    // Marca valores vazios ou inválidos, que não devem ser atribuídos ao campo
+    private static final Object SEM_VALOR = new Object();
+
     @Autowired
     private ServicoClienteConfiguracao servicoCliente;
 
-    // Mapeia objetos para seus campos anotados
-    private final Map<Object, Map<Field, ValorConfiguracao>> beansAnotados = new ConcurrentHashMap<>();
+    @Autowired
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @Autowired(required = false)
+    private ValidadorTipos validadorTipos;
+
+    @Autowired(required = false)
+    private ObjectMapper objectMapper;
+
+    // Profiles ativos, avaliados contra profiles() de cada campo no registro
+    @Autowired(required = false)
+    private Environment environment;
+
+    // Revisão aplicada de cada chave, usada para invalidar valores convertidos
+    @Autowired(required = false)
+    private RegistroVersoesConfiguracao registroVersoes;
+
+    // Garante que o snapshot do tópico compactado seja carregado antes da injeção inicial
+    @Autowired(required = false)
+    private ServicoBootstrapTopicoCompactado bootstrapTopico;
+
+    // Resolvido só após o refresh, para não antecipar a criação do registro de métricas
+    @Autowired(required = false)
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    // Leituras atendidas pela carga em lote, que não passam pelo ServicoClienteConfiguracao
+    @Autowired(required = false)
+    private PerfilAcessos perfilAcessos;
+
+    // Mapeia objetos para seus campos anotados, por identidade e referência fraca para não reter
+    // beans prototype ou de escopo
+    private final Cache<Object, Map<Field, ValorConfiguracao>> beansAnotados = Caffeine.newBuilder()
+        .weakKeys()
+        .build();
+
+    // Índice chave -> vínculos atualizáveis, usado para localizar os campos afetados por um evento
+    private final IndiceVinculos indiceVinculos = new IndiceVinculos();
+
+    // Valores da carga inicial por grupo namespace:environment, cada grupo resolvido de uma só vez
+    private final Map<String, Map<String, String>> valoresIniciais = new ConcurrentHashMap<>();
+    private volatile boolean cargaInicialConcluida = false;
+
+    // Planos de conversão por campo, compartilhados entre campos com a mesma assinatura de conversão,
+    // e ObjectReaders por tipo, compilados uma vez no registro
+    private final Map<InjetorCampo, PlanoConversao> planos = new ConcurrentHashMap<>();
+    private final Map<String, PlanoConversao> planosPorAssinatura = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> leitores = new ConcurrentHashMap<>();
+    private volatile ValidadorTipos validadorPadrao;
+    private volatile ObjectMapper objectMapperPadrao;
+    private volatile CacheValoresConvertidos cacheConvertidos;
+
+    // Agrupa eventos em rajada quando config.client.refresh.debounce-window está habilitado
+    private volatile AgrupadorMudancas agrupador;
+
+    // Pool da reinjeção paralela de eventos com muitos vínculos afetados (config.client.refresh.parallel)
+    private volatile ForkJoinPool poolReinjecao;
+    private volatile Timer duracaoSerial;
+    private volatile Timer duracaoParalela;
+    private volatile Timer duracaoLote;
 
     @Override
     public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
-        Class<?> clazz = bean.getClass();
+        MetadadosClasse metadados = MetadadosClasse.de(bean.getClass());
+        if (metadados.isVazio()) {
+            return bean;
+        }
+
+        List<InjetorCampo> injetores = injetoresAtivos(metadados);
+        if (injetores.isEmpty()) {
+            return bean;
+        }
+
         Map<Field, ValorConfiguracao> camposAnotados = new HashMap<>();
+        for (InjetorCampo injetor : injetores) {
+            camposAnotados.put(injetor.getCampo(), injetor.getAnotacao());
 
-        ReflectionUtils.doWithFields(clazz, field -> {
-            ValorConfiguracao anotacao = field.getAnnotation(ValorConfiguracao.class);
-            if (anotacao != null) {
-                field.setAccessible(true);
-                camposAnotados.put(field, anotacao);
-                
-                // Injetar valor inicial
-                injetarValorConfiguracao(bean, field, anotacao);
+            if (injetor.isHandle()) {
+                // Handles se atualizam no lugar: injetados uma única vez
+                injetor.atribuir(bean, criarHandle(injetor));
+                continue;
             }
-        });
 
-        if (!camposAnotados.isEmpty()) {
-            beansAnotados.put(bean, camposAnotados);
-            logger.info("Registrado bean {} com {} campos anotados com @ValorConfiguracao", 
-                       beanName, camposAnotados.size());
+            // Injetar valor inicial
+            aplicarValor(bean, injetor, converterParaCampo(injetor, plano(injetor), resolverValorInicial(injetor)));
         }
 
+        beansAnotados.put(bean, camposAnotados);
+        for (InjetorCampo injetor : injetores) {
+            if (injetor.getAnotacao().refreshable() && !injetor.isHandle()) {
+                indiceVinculos.registrar(bean, injetor);
+            }
+        }
+        logger.debug("Registrado bean {} com {} campos anotados com @ValorConfiguracao", 
+                   beanName, camposAnotados.size());
+
         return bean;
     }
 
+    /**
+     * Injetores dos campos aplicáveis aos profiles ativos: campos de outros profiles não são buscados,
+     * indexados para eventos nem incluídos na carga inicial
+     */
+    private List<InjetorCampo> injetoresAtivos(MetadadosClasse metadados) {
+        if (!metadados.isComPerfis() || environment == null) {
+            return metadados.getInjetores();
+        }
+
+        List<InjetorCampo> ativos = new ArrayList<>(metadados.getInjetores().size());
+        for (InjetorCampo injetor : metadados.getInjetores()) {
+            if (injetor.getPerfis() == null || environment.acceptsProfiles(injetor.getPerfis())) {
+                ativos.add(injetor);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("Campo {} ignorado: profiles {} inativos", injetor.getCampo().getName(),
+                    String.join(",", injetor.getAnotacao().profiles()));
+            }
+        }
+        return ativos;
+    }
+
     /**
      * Escuta eventos de mudança de configuração
      */
     @EventListener
-    public void processarMudancaConfiguracao(ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao evento) {
+    public void processarMudancaConfiguracao(EventoMudancaConfiguracao evento) {
         logger.info("Processando mudança de configuração: {}.{}.{}", 
                    evento.getNamespace(), evento.getEnvironment(), evento.getChave());
 
-        for (Map.Entry<Object, Map<Field, ValorConfiguracao>> entry : beansAnotados.entrySet()) {
-            Object bean = entry.getKey();
-            Map<Field, ValorConfiguracao> campos = entry.getValue();
+        AgrupadorMudancas agrupadorAtivo = agrupador();
+        if (agrupadorAtivo != null) {
+            agrupadorAtivo.registrar(evento);
+            return;
+        }
+
+        // Valores da carga inicial desta chave ficaram obsoletos
+        valoresIniciais.values().forEach(grupo -> grupo.remove(evento.getChave()));
+
+        List<VinculoCampo> afetados = indiceVinculos.buscar(evento.getNamespace(), evento.getEnvironment(), evento.getChave());
+
+        long inicio = System.nanoTime();
+        // Sem propriedades (ex: processador criado fora do contexto) a reinjeção é serial
+        PropriedadesClienteConfiguracao.RefreshConfig config = propriedades != null ? propriedades.getRefresh() : null;
+        if (config != null && config.isParallel() && afetados.size() >= config.getParallelThreshold()) {
+            reinjetarEmParalelo(afetados);
+            registrarDuracao(duracaoParalela, inicio, afetados.size());
+        } else {
+            reinjetarVinculos(afetados);
+            registrarDuracao(duracaoSerial, inicio, afetados.size());
+        }
+    }
+
+    /**
+     * Divide os vínculos afetados em partes contíguas, reinjetadas no pool fork-join
+     */
+    private void reinjetarEmParalelo(List<VinculoCampo> afetados) {
+        ForkJoinPool pool = poolReinjecao();
+        int partes = Math.min(pool.getParallelism(), afetados.size());
+        int tamanhoParte = (afetados.size() + partes - 1) / partes;
+
+        CompletableFuture<?>[] tarefas = new CompletableFuture<?>[partes];
+        for (int i = 0; i < partes; i++) {
+            List<VinculoCampo> parte = afetados.subList(i * tamanhoParte, Math.min(afetados.size(), (i + 1) * tamanhoParte));
+            tarefas[i] = CompletableFuture.runAsync(() -> reinjetarVinculos(parte), pool);
+        }
 
-            for (Map.Entry<Field, ValorConfiguracao> campoEntry : campos.entrySet()) {
-                Field campo = campoEntry.getKey();
-                ValorConfiguracao anotacao = campoEntry.getValue();
+        try {
+            CompletableFuture.allOf(tarefas).join();
+        } catch (CompletionException e) {
+            // Mantém para o evento a mesma falha da reinjeção serial (ex: configuração obrigatória)
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
 
-                if (deveAtualizarCampo(anotacao, evento) && anotacao.refreshable()) {
-                    logger.info("Atualizando campo {} no bean {}", campo.getName(), bean.getClass().getSimpleName());
-                    injetarValorConfiguracao(bean, campo, anotacao);
+    /**
+     * Reinjeta os vínculos na ordem recebida
+     */
+    private void reinjetarVinculos(List<VinculoCampo> afetados) {
+        // Instâncias da mesma classe compartilham o injetor: o valor é resolvido uma vez por campo
+        // e convertido uma vez quando imutável; objetos mutáveis são criados para cada bean
+        InjetorCampo ultimoInjetor = null;
+        String ultimoValor = null;
+        Object ultimoConvertido = SEM_VALOR;
+        for (VinculoCampo vinculo : afetados) {
+            Object bean = vinculo.getBean();
+            if (bean == null) {
+                continue;
+            }
+            InjetorCampo injetor = vinculo.getInjetor();
+            if (injetor != ultimoInjetor) {
+                ultimoInjetor = injetor;
+                ultimoValor = resolverValor(injetor);
+                ultimoConvertido = converterParaCampo(injetor, plano(injetor), ultimoValor);
+            } else if (ultimoConvertido != SEM_VALOR && !plano(injetor).isImutavel()) {
+                ultimoConvertido = converterParaCampo(injetor, plano(injetor), ultimoValor);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Atualizando campo {} no bean {}", injetor.getCampo().getName(), bean.getClass().getSimpleName());
+            }
+            aplicarValor(bean, injetor, ultimoConvertido);
+        }
+    }
+
+    /**
+     * Reinjeta um lote de mudanças: os valores são convertidos antes e cada bean afetado recebe
+     * todos os seus campos novos de uma vez, sem estados intermediários entre eventos do lote
+     */
+    private void reinjetarLote(Collection<EventoMudancaConfiguracao> eventos) {
+        long inicio = System.nanoTime();
+        Map<InjetorCampo, String> valores = new HashMap<>();
+        Map<InjetorCampo, Object> convertidos = new HashMap<>();
+        Map<Object, Map<InjetorCampo, Object>> camposPorBean = new IdentityHashMap<>();
+
+        for (EventoMudancaConfiguracao evento : eventos) {
+            valoresIniciais.values().forEach(grupo -> grupo.remove(evento.getChave()));
+
+            for (VinculoCampo vinculo : indiceVinculos.buscar(evento.getNamespace(), evento.getEnvironment(), evento.getChave())) {
+                Object bean = vinculo.getBean();
+                if (bean == null) {
+                    continue;
+                }
+                InjetorCampo injetor = vinculo.getInjetor();
+                // A falha de um campo não impede a aplicação dos demais campos do lote
+                try {
+                    Object convertido = converterNoLote(injetor, valores, convertidos);
+                    if (convertido != SEM_VALOR) {
+                        camposPorBean.computeIfAbsent(bean, b -> new LinkedHashMap<>()).put(injetor, convertido);
+                    }
+                } catch (RuntimeException e) {
+                    convertidos.put(injetor, SEM_VALOR);
+                    logger.error("Campo {} ignorado no lote de mudanças: {}", injetor.getCampo().getName(), e.getMessage());
                 }
             }
         }
+
+        int aplicados = 0;
+        for (Map.Entry<Object, Map<InjetorCampo, Object>> entrada : camposPorBean.entrySet()) {
+            for (Map.Entry<InjetorCampo, Object> campo : entrada.getValue().entrySet()) {
+                try {
+                    if (aplicarValor(entrada.getKey(), campo.getKey(), campo.getValue())) {
+                        aplicados++;
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Campo {} ignorado no lote de mudanças: {}", campo.getKey().getCampo().getName(), e.getMessage());
+                }
+            }
+        }
+        logger.info("Lote de {} mudanças de configuração reinjetado em {} beans", eventos.size(), camposPorBean.size());
+        registrarDuracao(duracaoLote, inicio, aplicados);
     }
 
     /**
-     * Injeta valor de configuração em um campo
+     * Converte o valor de um campo do lote: resolvido uma vez por campo e convertido uma vez quando imutável
      */
-    private void injetarValorConfiguracao(Object bean, Field campo, ValorConfiguracao anotacao) {
-        try {
-            String namespace = anotacao.namespace().isEmpty() ? null : anotacao.namespace();
-            String environment = anotacao.environment().isEmpty() ? null : anotacao.environment();
-            
-            String valor;
-            if (namespace != null && environment != null) {
-                valor = servicoCliente.buscarValorConfiguracao(anotacao.value(), namespace, environment);
-            } else {
-                valor = servicoCliente.buscarValorConfiguracao(anotacao.value());
+    private Object converterNoLote(InjetorCampo injetor, Map<InjetorCampo, String> valores,
+                                   Map<InjetorCampo, Object> convertidos) {
+        Object convertido = convertidos.get(injetor);
+        if (convertido != null) {
+            return convertido;
+        }
+        if (!valores.containsKey(injetor)) {
+            valores.put(injetor, resolverValor(injetor));
+        }
+        PlanoConversao plano = plano(injetor);
+        convertido = converterParaCampo(injetor, plano, valores.get(injetor));
+        if (convertido == SEM_VALOR || plano.isImutavel()) {
+            convertidos.put(injetor, convertido);
+        }
+        return convertido;
+    }
+
+    /**
+     * Registra a duração total da reinjeção
+     */
+    private void registrarDuracao(Timer timer, long inicio, int vinculos) {
+        long duracao = System.nanoTime() - inicio;
+        if (timer != null) {
+            timer.record(duracao, TimeUnit.NANOSECONDS);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Reinjeção de {} vínculos concluída em {} µs", vinculos, TimeUnit.NANOSECONDS.toMicros(duracao));
+        }
+    }
+
+    /**
+     * Pool fork-join da reinjeção paralela, criado no primeiro evento que atinge o limiar
+     */
+    private ForkJoinPool poolReinjecao() {
+        if (poolReinjecao == null) {
+            synchronized (this) {
+                if (poolReinjecao == null) {
+                    int paralelismo = propriedades != null ? propriedades.getRefresh().getParallelism() : 0;
+                    AtomicInteger contador = new AtomicInteger();
+                    poolReinjecao = new ForkJoinPool(paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors(),
+                        pool -> {
+                            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                            thread.setName("config-refresh-" + contador.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }, null, false);
+                }
             }
+        }
+        return poolReinjecao;
+    }
 
-            if (valor == null) {
-                valor = anotacao.defaultValue();
+    /**
+     * Agrupador de mudanças, criado no primeiro evento quando a janela de debounce é positiva
+     */
+    private AgrupadorMudancas agrupador() {
+        if (agrupador == null && propriedades != null && propriedades.getRefresh().getDebounceWindow() > 0) {
+            synchronized (this) {
+                if (agrupador == null) {
+                    PropriedadesClienteConfiguracao.RefreshConfig config = propriedades.getRefresh();
+                    agrupador = new AgrupadorMudancas(config.getDebounceWindow(), config.getMaxDelay(), this::reinjetarLote);
+                }
             }
+        }
+        return agrupador;
+    }
+
+    /**
+     * Aplica as mudanças ainda pendentes no agrupador e encerra o pool de reinjeção
+     */
+    @PreDestroy
+    public void finalizar() {
+        if (agrupador != null) {
+            agrupador.encerrar();
+        }
+        if (poolReinjecao != null) {
+            poolReinjecao.shutdown();
+        }
+    }
+
+    /**
+     * Encerra a carga inicial: beans criados depois disso resolvem seus valores chave a chave
+     */
+    @EventListener
+    public void finalizarCargaInicial(ContextRefreshedEvent evento) {
+        if (!cargaInicialConcluida) {
+            cargaInicialConcluida = true;
+            registrarMetricas();
+            logger.info("Carga inicial de configurações concluída: {} grupos namespace/environment", valoresIniciais.size());
+            valoresIniciais.clear();
+        }
+    }
+
+    private void registrarMetricas() {
+        MeterRegistry registry = meterRegistry != null ? meterRegistry.getIfAvailable() : null;
+        if (registry != null) {
+            Gauge.builder("config.client.bindings.live", this, ProcessadorValorConfiguracao::getQuantidadeVinculos)
+                .description("Campos atualizáveis vinculados a beans ainda vivos")
+                .register(registry);
+            FunctionCounter.builder("config.client.refresh.collapsed", this, ProcessadorValorConfiguracao::getEventosAgrupados)
+                .description("Eventos de mudança absorvidos por um lote de reinjeção já pendente")
+                .register(registry);
+            duracaoSerial = timerReinjecao(registry, "serial");
+            duracaoParalela = timerReinjecao(registry, "paralelo");
+            duracaoLote = timerReinjecao(registry, "lote");
+
+            CacheValoresConvertidos cache = cacheConvertidos();
+            if (cache != null) {
+                FunctionCounter.builder("config.client.conversion.cache", cache, CacheValoresConvertidos::getAcertos)
+                    .tag("resultado", "acerto")
+                    .description("Conversões reaproveitadas do cache de valores convertidos")
+                    .register(registry);
+                FunctionCounter.builder("config.client.conversion.cache", cache, CacheValoresConvertidos::getFalhas)
+                    .tag("resultado", "falha")
+                    .description("Conversões executadas por ausência ou invalidação no cache")
+                    .register(registry);
+                Gauge.builder("config.client.conversion.cache.size", cache, CacheValoresConvertidos::getTamanho)
+                    .description("Valores convertidos em cache")
+                    .register(registry);
+            }
+        }
+    }
 
+    private static Timer timerReinjecao(MeterRegistry registry, String modo) {
+        return Timer.builder("config.client.refresh.duration")
+            .tag("modo", modo)
+            .description("Duração total da reinjeção dos campos afetados por mudanças de configuração")
+            .register(registry);
+    }
+
+    /**
+     * Resolve o valor inicial do campo a partir da carga em lote do seu grupo namespace/environment
+     */
+    private String resolverValorInicial(InjetorCampo injetor) {
+        if (!cargaInicialConcluida) {
+            String namespace = namespaceDe(injetor);
+            String environment = environmentDe(injetor);
+
+            Map<String, String> grupo = valoresIniciais.computeIfAbsent(namespace + ":" + environment,
+                g -> carregarGrupo(namespace, environment));
+
+            // Grupo vazio indica falha na carga ou servidor sem suporte: buscar chave a chave
+            if (!grupo.isEmpty()) {
+                String prefixo = namespace + ":" + environment + ":";
+                registrarLeitura(prefixo + injetor.getChave());
+                String valor = grupo.get(injetor.getChave());
+                if (valor == null && injetor.getChaveFallback() != null) {
+                    registrarLeitura(prefixo + injetor.getChaveFallback());
+                    valor = grupo.get(injetor.getChaveFallback());
+                }
+                return valor != null ? valor : injetor.getValorPadrao();
+            }
+        }
+        return resolverValor(injetor);
+    }
+
+    private void registrarLeitura(String chaveCache) {
+        if (perfilAcessos != null) {
+            perfilAcessos.registrarLeitura(chaveCache);
+        }
+    }
+
+    /**
+     * Cria o handle vivo do campo, com o valor padrão da anotação
+     */
+    private Object criarHandle(InjetorCampo injetor) {
+        String chave = injetor.getChave();
+        String namespace = namespaceDe(injetor);
+        String environment = environmentDe(injetor);
+        Class<?> tipo = injetor.getCampo().getType();
+
+        if (tipo == IntConfigHandle.class) {
+            int padrao = converterPadrao(injetor, valor -> validador().converter(valor, Integer.class), 0);
+            return servicoCliente.obterHandleInt(chave, namespace, environment, padrao);
+        } else if (tipo == LongConfigHandle.class) {
+            long padrao = converterPadrao(injetor, valor -> validador().converter(valor, Long.class), 0L);
+            return servicoCliente.obterHandleLong(chave, namespace, environment, padrao);
+        } else if (tipo == BooleanConfigHandle.class) {
+            boolean padrao = converterPadrao(injetor, valor -> validador().converter(valor, Boolean.class), false);
+            return servicoCliente.obterHandleBoolean(chave, namespace, environment, padrao);
+        }
+        Function<String, Object> conversor = plano(injetor)::converter;
+        return servicoCliente.obterHandle(chave, namespace, environment, conversor, converterPadrao(injetor, conversor, null));
+    }
+
+    /**
+     * Converte o valor padrão da anotação; sem padrão ou com padrão inválido usa o valor informado
+     */
+    private <T> T converterPadrao(InjetorCampo injetor, Function<String, T> conversor, T semPadrao) {
+        String padrao = injetor.getValorPadrao();
+        if (padrao.isEmpty()) {
+            return semPadrao;
+        }
+        try {
+            T convertido = conversor.apply(padrao);
+            return convertido != null ? convertido : semPadrao;
+        } catch (RuntimeException e) {
+            logger.error("Valor padrão inválido para o campo {}: '{}' ({})", injetor.getCampo().getName(), padrao, e.getMessage());
+            return semPadrao;
+        }
+    }
+
+    /**
+     * Namespace efetivo do campo: o da anotação, se namespace e environment foram informados, ou o padrão
+     */
+    private String namespaceDe(InjetorCampo injetor) {
+        return injetor.getNamespace() != null && injetor.getEnvironment() != null
+            ? injetor.getNamespace() : propriedades.getNamespace();
+    }
+
+    /**
+     * Environment efetivo do campo: o da anotação, se namespace e environment foram informados, ou o padrão
+     */
+    private String environmentDe(InjetorCampo injetor) {
+        return injetor.getNamespace() != null && injetor.getEnvironment() != null
+            ? injetor.getEnvironment() : propriedades.getEnvironment();
+    }
+
+    /**
+     * Carrega todas as configurações de um grupo, do snapshot do tópico compactado ou com uma única requisição
+     */
+    private Map<String, String> carregarGrupo(String namespace, String environment) {
+        Map<String, String> valores = new ConcurrentHashMap<>();
+
+        if (bootstrapTopico != null && bootstrapTopico.isCarregado()) {
+            String prefixo = namespace + ":" + environment + ":";
+            servicoCliente.obterCacheLocal().forEach((chaveCache, valor) -> {
+                if (chaveCache.startsWith(prefixo)) {
+                    valores.put(chaveCache.substring(prefixo.length()), valor);
+                }
+            });
+            logger.debug("Grupo {}.{} carregado do snapshot: {} configurações", namespace, environment, valores.size());
+        } else {
+            servicoCliente.buscarTodasConfiguracoes(namespace, environment).forEach((chave, valor) -> {
+                if (valor != null) {
+                    valores.put(chave, valor);
+                }
+            });
+            logger.debug("Grupo {}.{} carregado em lote: {} configurações", namespace, environment, valores.size());
+        }
+
+        return valores;
+    }
+
+    /**
+     * Resolve o valor atual do campo: chave principal, chave de fallback e por fim o valor padrão da anotação
+     */
+    private String resolverValor(InjetorCampo injetor) {
+        String valor = buscarValor(injetor, injetor.getChave());
+        if (valor == null && injetor.getChaveFallback() != null) {
+            valor = buscarValor(injetor, injetor.getChaveFallback());
+        }
+        return valor != null ? valor : injetor.getValorPadrao();
+    }
+
+    private String buscarValor(InjetorCampo injetor, String chave) {
+        try {
+            if (injetor.getNamespace() != null && injetor.getEnvironment() != null) {
+                return servicoCliente.buscarValorConfiguracao(chave, injetor.getNamespace(), injetor.getEnvironment());
+            }
+            return servicoCliente.buscarValorConfiguracao(chave);
+        } catch (Exception e) {
+            logger.error("Erro ao buscar valor do campo {}: {}", injetor.getCampo().getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Converte e valida o valor do campo; SEM_VALOR quando vazio ou inválido
+     */
+    private Object converterParaCampo(InjetorCampo injetor, PlanoConversao plano, String valor) {
+        try {
             if (valor != null && !valor.isEmpty()) {
-                Object valorConvertido = converterValor(valor, campo.getType());
-                campo.set(bean, valorConvertido);
-                
-                logger.debug("Valor injetado no campo {}: {}", campo.getName(), valor);
-            } else if (anotacao.required()) {
-                throw new IllegalStateException("Configuração obrigatória não encontrada: " + anotacao.value());
+                return converterValor(injetor, plano, valor);
+            } else if (injetor.isObrigatorio()) {
+                throw new IllegalStateException("Configuração obrigatória não encontrada: " + injetor.getChave());
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao injetar valor no campo {}: {}", injetor.getCampo().getName(), e.getMessage());
+            if (injetor.isObrigatorio()) {
+                throw new RuntimeException("Falha ao injetar configuração obrigatória", e);
             }
+        }
+        return SEM_VALOR;
+    }
 
+    /**
+     * Converte o valor, reaproveitando a conversão anterior enquanto a revisão e o valor bruto não mudarem
+     */
+    private Object converterValor(InjetorCampo injetor, PlanoConversao plano, String valor) {
+        CacheValoresConvertidos cache = cacheConvertidos();
+        if (cache == null) {
+            return plano.converter(valor);
+        }
+
+        String namespace = namespaceDe(injetor);
+        String environment = environmentDe(injetor);
+        Long revisao = registroVersoes != null
+            ? registroVersoes.obterRevisaoAplicada(namespace, environment, injetor.getChave())
+            : null;
+        return cache.converter(namespace + ":" + environment + ":" + injetor.getChave(), plano, revisao, valor);
+    }
+
+    /**
+     * Atribui o valor convertido ao campo do bean
+     * Retorna false se não havia valor ou a atribuição falhou
+     */
+    private boolean aplicarValor(Object bean, InjetorCampo injetor, Object convertido) {
+        if (convertido == SEM_VALOR) {
+            return false;
+        }
+
+        try {
+            injetor.atribuir(bean, convertido);
+            
+            logger.debug("Valor injetado no campo {}: {}", injetor.getCampo().getName(), convertido);
+            return true;
         } catch (Exception e) {
-            logger.error("Erro ao injetar valor no campo {}: {}", campo.getName(), e.getMessage());
-            if (anotacao.required()) {
+            logger.error("Erro ao injetar valor no campo {}: {}", injetor.getCampo().getName(), e.getMessage());
+            if (injetor.isObrigatorio()) {
                 throw new RuntimeException("Falha ao injetar configuração obrigatória", e);
             }
+            return false;
         }
     }
 
     /**
-     * Verifica se o campo deve ser atualizado com base no evento
+     * Obtém o plano de conversão do campo, compilando-o no primeiro uso
      */
-    private boolean deveAtualizarCampo(ValorConfiguracao anotacao, ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao evento) {
-        String anotacaoNamespace = anotacao.namespace().isEmpty() ? null : anotacao.namespace();
-        String anotacaoEnvironment = anotacao.environment().isEmpty() ? null : anotacao.environment();
-        
-        boolean namespaceCoincide = anotacaoNamespace == null || anotacaoNamespace.equals(evento.getNamespace());
-        boolean environmentCoincide = anotacaoEnvironment == null || anotacaoEnvironment.equals(evento.getEnvironment());
-        boolean chaveCoincide = anotacao.value().equals(evento.getChave());
-        
-        return namespaceCoincide && environmentCoincide && chaveCoincide;
+    private PlanoConversao plano(InjetorCampo injetor) {
+        return planos.computeIfAbsent(injetor, i -> planosPorAssinatura.computeIfAbsent(PlanoConversao.assinatura(i),
+            assinatura -> PlanoConversao.compilar(i, validador(), this::leitorPara)));
     }
 
     /**
-     * Converte string para o tipo do campo
+     * Cache de valores convertidos, criado no primeiro uso conforme config.client.conversion-cache
      */
-    private Object converterValor(String valor, Class<?> tipoDestino) {
-        if (tipoDestino == String.class) {
-            return valor;
-        } else if (tipoDestino == Integer.class || tipoDestino == int.class) {
-            return Integer.valueOf(valor);
-        } else if (tipoDestino == Long.class || tipoDestino == long.class) {
-            return Long.valueOf(valor);
-        } else if (tipoDestino == Double.class || tipoDestino == double.class) {
-            return Double.valueOf(valor);
-        } else if (tipoDestino == Float.class || tipoDestino == float.class) {
-            return Float.valueOf(valor);
-        } else if (tipoDestino == Boolean.class || tipoDestino == boolean.class) {
-            return Boolean.valueOf(valor);
-        } else {
-            // Para tipos complexos, tentar deserializar JSON
-            try {
-                return new com.fasterxml.jackson.databind.ObjectMapper().readValue(valor, tipoDestino);
-            } catch (Exception e) {
-                logger.warn("Não foi possível converter valor '{}' para tipo {}: {}", 
-                           valor, tipoDestino.getName(), e.getMessage());
-                return valor;
+    private CacheValoresConvertidos cacheConvertidos() {
+        if (cacheConvertidos == null && propriedades != null && propriedades.getConversionCache().isEnabled()) {
+            synchronized (this) {
+                if (cacheConvertidos == null) {
+                    cacheConvertidos = new CacheValoresConvertidos(propriedades.getConversionCache().getMaximumSize(),
+                        propriedades.getConversionCache().getMaximumWeight());
+                }
             }
         }
+        return cacheConvertidos;
+    }
+
+    /**
+     * ObjectReader do tipo, criado uma vez a partir do ObjectMapper compartilhado
+     */
+    private ObjectReader leitorPara(Class<?> tipo) {
+        return leitores.computeIfAbsent(tipo, t -> mapper().readerFor(t));
+    }
+
+    private ValidadorTipos validador() {
+        if (validadorTipos != null) {
+            return validadorTipos;
+        }
+        if (validadorPadrao == null) {
+            validadorPadrao = new ValidadorTipos();
+        }
+        return validadorPadrao;
+    }
+
+    private ObjectMapper mapper() {
+        if (objectMapper != null) {
+            return objectMapper;
+        }
+        if (objectMapperPadrao == null) {
+            objectMapperPadrao = new ObjectMapper();
+        }
+        return objectMapperPadrao;
+    }
+
+    /**
+     * Obtém a quantidade de eventos de mudança agrupados a um lote pendente
+     */
+    public long getEventosAgrupados() {
+        return agrupador != null ? agrupador.getEventosAgrupados() : 0;
+    }
+
+    /**
+     * Obtém a taxa de acertos do cache de valores convertidos
+     */
+    public double getTaxaAcertosConversao() {
+        CacheValoresConvertidos cache = cacheConvertidos();
+        return cache != null ? cache.getTaxaAcertos() : 0.0;
     }
 
     /**
      * Obtém a quantidade de beans anotados
      */
     public int getQuantidadeBeansAnotados() {
-        return beansAnotados.size();
+        beansAnotados.cleanUp();
+        return (int) beansAnotados.estimatedSize();
+    }
+
+    /**
+     * Obtém a quantidade de campos indexados para atualização
+     */
+    public int getQuantidadeVinculos() {
+        return indiceVinculos.tamanho();
     }
 
     /**
      * Obtém todos os beans anotados
      */
     public Map<Object, Map<Field, ValorConfiguracao>> getBeansAnotados() {
-        return new HashMap<>(beansAnotados);
+        return new IdentityHashMap<>(beansAnotados.asMap());
     }
 }
@@ -0,0 +1,42 @@
+package com.configsystem.client.processador;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+
+/**
+ * Vínculo entre um campo anotado com @ValorConfiguracao e a instância do bean que o contém
+ *
+ * Mantém o bean por referência fraca: beans prototype ou de escopo coletados pelo GC são
+ * enfileirados na fila de referências do índice e removidos dele.
+ */
+final class VinculoCampo extends WeakReference<Object> {
+
+    private final InjetorCampo injetor;
+
+    VinculoCampo(Object bean, InjetorCampo injetor, ReferenceQueue<Object> filaColetados) {
+        super(bean, filaColetados);
+        this.injetor = injetor;
+    }
+
+    /**
+     * Obtém o bean, ou null se já foi coletado
+     */
+    Object getBean() {
+        return get();
+    }
+
+    Field getCampo() {
+        return injetor.getCampo();
+    }
+
+    InjetorCampo getInjetor() {
+        return injetor;
+    }
+
+    ValorConfiguracao getAnotacao() {
+        return injetor.getAnotacao();
+    }
+}
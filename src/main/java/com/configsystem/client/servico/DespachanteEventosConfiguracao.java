@@ -0,0 +1,186 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Despacha eventos de mudança de configuração para os listeners fora da thread do consumidor
+ *
+ * - Eventos da mesma chave (namespace:environment:chave) são entregues na ordem de chegada
+ * - Listeners executam em um executor limitado (virtual threads quando a JVM suporta)
+ * - Quando a capacidade se esgota, a thread produtora (ex: consumidor Kafka) é bloqueada
+ */
+@Component
+public class DespachanteEventosConfiguracao {
+
+    private static final Logger logger = LoggerFactory.getLogger(DespachanteEventosConfiguracao.class);
+
+    @Autowired
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @Autowired
+    private ApplicationEventPublisher publicadorEventos;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // Último evento enfileirado por chave - novos eventos encadeiam nele para manter a ordem
+    private final Map<String, CompletableFuture<Void>> filasPorChave = new ConcurrentHashMap<>();
+    private final AtomicLong eventosDespachados = new AtomicLong();
+
+    private ExecutorService executor;
+    private Semaphore capacidade;
+    private int capacidadeTotal;
+    private Timer latenciaDespacho;
+
+    @PostConstruct
+    public void inicializar() {
+        PropriedadesClienteConfiguracao.DispatchConfig config = propriedades.getDispatch();
+        if (!config.isAsync()) {
+            logger.info("Despacho assíncrono de eventos desabilitado - listeners executam na thread do consumidor");
+            return;
+        }
+
+        this.capacidadeTotal = config.getQueueCapacity();
+        this.capacidade = new Semaphore(capacidadeTotal);
+        this.executor = criarExecutor(config);
+
+        if (meterRegistry != null) {
+            Gauge.builder("config.client.dispatch.queue.depth", this, DespachanteEventosConfiguracao::getProfundidadeFila)
+                .description("Eventos de mudança aguardando ou em execução nos listeners")
+                .register(meterRegistry);
+            latenciaDespacho = Timer.builder("config.client.dispatch.latency")
+                .description("Tempo entre o recebimento do evento e o fim da execução dos listeners")
+                .register(meterRegistry);
+        }
+
+        logger.info("Despacho assíncrono de eventos inicializado com capacidade de {} eventos", capacidadeTotal);
+    }
+
+    /**
+     * Cria o executor dos listeners, usando virtual threads quando disponíveis (JDK 21+)
+     */
+    private ExecutorService criarExecutor(PropriedadesClienteConfiguracao.DispatchConfig config) {
+        if (config.isVirtualThreads()) {
+            try {
+                Method fabrica = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                logger.info("Listeners de mudança executando em virtual threads");
+                return (ExecutorService) fabrica.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.debug("Virtual threads indisponíveis nesta JVM - usando pool de {} threads", config.getThreads());
+            }
+        }
+
+        AtomicInteger contador = new AtomicInteger();
+        return Executors.newFixedThreadPool(config.getThreads(), tarefa -> {
+            Thread thread = new Thread(tarefa, "config-dispatch-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Enfileira um evento para os listeners, bloqueando enquanto não houver capacidade
+     * O futuro completa quando os listeners terminam de processar o evento (ou o evento é descartado)
+     */
+    public CompletableFuture<Void> despachar(ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao evento) {
+        if (executor == null) {
+            publicadorEventos.publishEvent(evento);
+            eventosDespachados.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            capacidade.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Despacho interrompido - evento descartado: {}", evento);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long enfileiradoEm = System.nanoTime();
+        String chave = evento.getNamespace() + ":" + evento.getEnvironment() + ":" + evento.getChave();
+
+        // Uma falha do evento anterior não impede a entrega dos seguintes da mesma chave
+        CompletableFuture<Void> proximo = filasPorChave.compute(chave, (k, anterior) ->
+            (anterior != null ? anterior.exceptionally(erro -> null) : CompletableFuture.<Void>completedFuture(null))
+                .thenRunAsync(() -> executar(evento, enfileiradoEm), executor)
+        );
+        proximo.whenComplete((resultado, erro) -> {
+            filasPorChave.remove(chave, proximo);
+            // Rejeitado pelo executor (ex: encerramento): executar não rodou e não devolveu a capacidade
+            if (erro != null && erro.getCause() instanceof RejectedExecutionException) {
+                capacidade.release();
+                logger.warn("Despacho rejeitado - evento descartado: {}", evento);
+            }
+        });
+        return proximo;
+    }
+
+    private void executar(ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao evento, long enfileiradoEm) {
+        try {
+            publicadorEventos.publishEvent(evento);
+            eventosDespachados.incrementAndGet();
+        } catch (Exception e) {
+            logger.error("Erro em listener de mudança de configuração para {}: {}", evento, e.getMessage(), e);
+        } finally {
+            capacidade.release();
+            if (latenciaDespacho != null) {
+                latenciaDespacho.record(System.nanoTime() - enfileiradoEm, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void finalizar() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warn("Eventos de mudança pendentes descartados no encerramento: {}", getProfundidadeFila());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Obtém a quantidade de eventos aguardando ou em execução
+     */
+    public int getProfundidadeFila() {
+        return capacidade != null ? capacidadeTotal - capacidade.availablePermits() : 0;
+    }
+
+    /**
+     * Obtém o total de eventos entregues aos listeners
+     */
+    public long getEventosDespachados() {
+        return eventosDespachados.get();
+    }
+}
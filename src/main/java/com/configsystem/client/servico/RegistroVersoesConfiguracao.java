@@ -0,0 +1,154 @@
+package com.configsystem.client.servico;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro da última revisão aplicada por namespace/environment/chave
+ *
+ * Eventos com revisão menor (obsoletos) ou igual (duplicados) à já aplicada são descartados
+ * antes de qualquer I/O ou atualização de beans. As revisões são sempre as do servidor, vindas dos
+ * eventos (Kafka, SSE, invalidações entre instâncias) ou das respostas HTTP.
+ */
+@Component
+public class RegistroVersoesConfiguracao {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistroVersoesConfiguracao.class);
+
+    private static final String CAMPO_REVISAO = "revision";
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Long> revisoesAplicadas = new ConcurrentHashMap<>();
+    private final AtomicLong eventosObsoletos = new AtomicLong();
+    private final AtomicLong eventosDuplicados = new AtomicLong();
+
+    private Counter contadorObsoletos;
+    private Counter contadorDuplicados;
+
+    @PostConstruct
+    public void inicializar() {
+        if (meterRegistry != null) {
+            contadorObsoletos = Counter.builder("config.client.events.discarded")
+                .tag("motivo", "obsoleto")
+                .description("Eventos de mudança descartados por revisão anterior à aplicada")
+                .register(meterRegistry);
+            contadorDuplicados = Counter.builder("config.client.events.discarded")
+                .tag("motivo", "duplicado")
+                .description("Eventos de mudança descartados por revisão já aplicada")
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Registra a revisão se for mais recente que a aplicada
+     * Retorna false quando o evento deve ser descartado. Para mudanças aplicadas sem I/O; quando a aplicação
+     * pode falhar, use isMaisRecente e registre com registrarAplicada após o sucesso
+     */
+    public boolean registrarSeMaisRecente(String namespace, String environment, String chave, long revisao) {
+        String chaveRevisao = namespace + ":" + environment + ":" + chave;
+        long[] revisaoAnterior = {Long.MIN_VALUE};
+
+        revisoesAplicadas.compute(chaveRevisao, (k, atual) -> {
+            if (atual != null && revisao <= atual) {
+                revisaoAnterior[0] = atual;
+                return atual;
+            }
+            return revisao;
+        });
+
+        if (revisaoAnterior[0] == Long.MIN_VALUE) {
+            return true;
+        }
+        registrarDescarte(chaveRevisao, revisao, revisaoAnterior[0]);
+        return false;
+    }
+
+    /**
+     * Verifica, sem registrar, se a revisão é mais recente que a aplicada
+     * Retorna false, contando o descarte, quando o evento deve ser descartado
+     */
+    public boolean isMaisRecente(String namespace, String environment, String chave, long revisao) {
+        String chaveRevisao = namespace + ":" + environment + ":" + chave;
+        Long aplicada = revisoesAplicadas.get(chaveRevisao);
+        if (aplicada == null || revisao > aplicada) {
+            return true;
+        }
+        registrarDescarte(chaveRevisao, revisao, aplicada);
+        return false;
+    }
+
+    /**
+     * Registra a revisão de uma mudança já aplicada, mantendo a maior entre ela e a registrada
+     */
+    public void registrarAplicada(String namespace, String environment, String chave, long revisao) {
+        revisoesAplicadas.merge(namespace + ":" + environment + ":" + chave, revisao, Math::max);
+    }
+
+    private void registrarDescarte(String chaveRevisao, long revisao, long aplicada) {
+        if (revisao == aplicada) {
+            eventosDuplicados.incrementAndGet();
+            if (contadorDuplicados != null) {
+                contadorDuplicados.increment();
+            }
+            logger.debug("Evento duplicado descartado: {} revisão {}", chaveRevisao, revisao);
+        } else {
+            eventosObsoletos.incrementAndGet();
+            if (contadorObsoletos != null) {
+                contadorObsoletos.increment();
+            }
+            logger.debug("Evento obsoleto descartado: {} revisão {} (aplicada: {})", chaveRevisao, revisao, aplicada);
+        }
+    }
+
+    /**
+     * Extrai a revisão do servidor de um evento ou registro: apenas o campo "revision", número ou texto numérico
+     * Outros campos (ex: version, timestamp) não são usados, para nunca comparar contadores com instantes.
+     * Retorna null quando não há revisão
+     */
+    public static Long extrairRevisao(Map<String, ?> registro) {
+        Object valor = registro.get(CAMPO_REVISAO);
+        if (valor instanceof Number) {
+            return ((Number) valor).longValue();
+        }
+        if (valor instanceof String) {
+            try {
+                return Long.valueOf((String) valor);
+            } catch (NumberFormatException e) {
+                logger.debug("Campo {} não é uma revisão válida: {}", CAMPO_REVISAO, valor);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtém a última revisão aplicada para uma chave, ou null se desconhecida
+     */
+    public Long obterRevisaoAplicada(String namespace, String environment, String chave) {
+        return revisoesAplicadas.get(namespace + ":" + environment + ":" + chave);
+    }
+
+    /**
+     * Obtém a quantidade de eventos descartados por serem anteriores à revisão aplicada
+     */
+    public long getEventosObsoletos() {
+        return eventosObsoletos.get();
+    }
+
+    /**
+     * Obtém a quantidade de eventos descartados por repetirem a revisão aplicada
+     */
+    public long getEventosDuplicados() {
+        return eventosDuplicados.get();
+    }
+}
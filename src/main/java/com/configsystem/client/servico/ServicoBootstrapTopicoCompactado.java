@@ -0,0 +1,239 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço que semeia o cache local a partir de um tópico Kafka compactado (log-compacted)
+ *
+ * Na inicialização o tópico é lido desde o início até os end offsets atuais, populando o cache
+ * sem nenhuma carga HTTP. Em seguida o mesmo consumidor passa a acompanhar o tópico em tempo real.
+ *
+ * Formato esperado dos registros:
+ * - chave: namespace:environment:chave
+ * - valor: valor da configuração (registro nulo/tombstone indica remoção)
+ * - cabeçalho "revision" (opcional): revisão do servidor, usada para descartar mudanças obsoletas
+ */
+@Service
+@ConditionalOnProperty(prefix = "config.client.kafka", name = {"enabled", "snapshot-enabled"}, havingValue = "true")
+public class ServicoBootstrapTopicoCompactado {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServicoBootstrapTopicoCompactado.class);
+
+    private static final Duration INTERVALO_POLL = Duration.ofMillis(500);
+    private static final String CABECALHO_REVISAO = "revision";
+
+    @Autowired
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @Autowired
+    private ServicoProcessamentoMudanca processamento;
+
+    @Autowired
+    private ConsumerFactory<String, String> fabricaConsumidor;
+
+    private Consumer<String, String> consumidor;
+    private Thread threadAcompanhamento;
+    private volatile boolean ativo = false;
+    private volatile boolean carregado = false;
+    private long registrosCarregados = 0;
+
+    @PostConstruct
+    public void inicializar() {
+        String topico = propriedades.getKafka().getSnapshotTopic();
+        consumidor = fabricaConsumidor.createConsumer();
+
+        try {
+            List<TopicPartition> particoes = atribuirParticoes(topico);
+            if (particoes.isEmpty()) {
+                logger.warn("Tópico compactado {} não encontrado - bootstrap via Kafka desabilitado", topico);
+                consumidor.close();
+                return;
+            }
+
+            carregarAteFimAtual(particoes);
+        } catch (Exception e) {
+            logger.error("Erro ao carregar snapshot do tópico compactado {}: {}", topico, e.getMessage(), e);
+            consumidor.close();
+            return;
+        }
+
+        iniciarAcompanhamento(topico);
+    }
+
+    /**
+     * Atribui todas as partições do tópico ao consumidor, posicionadas no início
+     */
+    private List<TopicPartition> atribuirParticoes(String topico) {
+        Duration timeout = Duration.ofMillis(propriedades.getKafka().getSnapshotTimeout());
+        List<PartitionInfo> infos = consumidor.partitionsFor(topico, timeout);
+        if (infos == null || infos.isEmpty()) {
+            return List.of();
+        }
+
+        List<TopicPartition> particoes = infos.stream()
+            .map(info -> new TopicPartition(info.topic(), info.partition()))
+            .collect(Collectors.toList());
+        consumidor.assign(particoes);
+        consumidor.seekToBeginning(particoes);
+        return particoes;
+    }
+
+    /**
+     * Lê o tópico até os end offsets capturados no início da carga
+     */
+    private void carregarAteFimAtual(List<TopicPartition> particoes) {
+        long inicio = System.currentTimeMillis();
+        long timeout = propriedades.getKafka().getSnapshotTimeout();
+        Map<TopicPartition, Long> offsetsFinais = consumidor.endOffsets(particoes, Duration.ofMillis(timeout));
+
+        while (!alcancouOffsetsFinais(offsetsFinais)) {
+            if (System.currentTimeMillis() - inicio > timeout) {
+                logger.warn("Timeout de {}ms ao carregar snapshot - {} registros carregados até o momento",
+                           timeout, registrosCarregados);
+                return;
+            }
+
+            ConsumerRecords<String, String> registros = consumidor.poll(INTERVALO_POLL);
+            for (ConsumerRecord<String, String> registro : registros) {
+                aplicarRegistro(registro, false);
+                registrosCarregados++;
+            }
+        }
+
+        carregado = true;
+        logger.info("Snapshot do tópico compactado carregado: {} registros em {}ms",
+                   registrosCarregados, System.currentTimeMillis() - inicio);
+    }
+
+    private boolean alcancouOffsetsFinais(Map<TopicPartition, Long> offsetsFinais) {
+        for (Map.Entry<TopicPartition, Long> entry : offsetsFinais.entrySet()) {
+            if (consumidor.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Inicia a thread que acompanha o tópico após a carga inicial
+     */
+    private void iniciarAcompanhamento(String topico) {
+        ativo = true;
+        threadAcompanhamento = new Thread(this::acompanharTopico, "config-snapshot-" + topico);
+        threadAcompanhamento.setDaemon(true);
+        threadAcompanhamento.start();
+    }
+
+    private void acompanharTopico() {
+        try {
+            while (ativo) {
+                ConsumerRecords<String, String> registros = consumidor.poll(Duration.ofSeconds(1));
+                for (ConsumerRecord<String, String> registro : registros) {
+                    // Um registro com falha não encerra o acompanhamento
+                    try {
+                        aplicarRegistro(registro, true);
+                    } catch (Exception e) {
+                        logger.error("Erro ao aplicar registro {} do tópico compactado (offset {}): {}",
+                                    registro.key(), registro.offset(), e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (WakeupException e) {
+            if (ativo) {
+                logger.error("Consumidor do tópico compactado interrompido inesperadamente", e);
+            }
+        } catch (Exception e) {
+            logger.error("Erro no consumidor do tópico compactado: {}", e.getMessage(), e);
+        } finally {
+            consumidor.close();
+            // Sem o acompanhamento o cache deixaria de receber mudanças: a sincronização HTTP volta a valer
+            if (ativo) {
+                ativo = false;
+                carregado = false;
+                logger.error("Acompanhamento do tópico compactado encerrado - sincronização HTTP retomada");
+            }
+        }
+    }
+
+    /**
+     * Aplica um registro do tópico pelo pipeline de mudanças, publicando evento de mudança se solicitado
+     */
+    private void aplicarRegistro(ConsumerRecord<String, String> registro, boolean publicarEvento) {
+        String chaveRegistro = registro.key();
+        String[] partes = chaveRegistro != null ? chaveRegistro.split(":", 3) : new String[0];
+        if (partes.length != 3) {
+            logger.debug("Registro ignorado - chave fora do formato namespace:environment:chave: {}", chaveRegistro);
+            return;
+        }
+
+        Long revisao = extrairRevisao(registro);
+        if (publicarEvento) {
+            processamento.processarValor(partes[0], partes[1], partes[2], registro.value(), revisao);
+        } else {
+            processamento.aplicarValor(partes[0], partes[1], partes[2], registro.value(), revisao);
+        }
+    }
+
+    private static Long extrairRevisao(ConsumerRecord<String, String> registro) {
+        Header cabecalho = registro.headers().lastHeader(CABECALHO_REVISAO);
+        if (cabecalho == null || cabecalho.value() == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(new String(cabecalho.value(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            logger.debug("Cabeçalho {} inválido no registro {}", CABECALHO_REVISAO, registro.key());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void finalizar() {
+        if (threadAcompanhamento == null) {
+            return;
+        }
+
+        ativo = false;
+        consumidor.wakeup();
+        try {
+            threadAcompanhamento.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Indica se o snapshot foi carregado completamente até os end offsets e o tópico segue acompanhado
+     */
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    /**
+     * Obtém a quantidade de registros lidos na carga inicial
+     */
+    public long getRegistrosCarregados() {
+        return registrosCarregados;
+    }
+}
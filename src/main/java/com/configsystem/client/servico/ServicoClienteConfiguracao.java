@@ -1,6 +1,14 @@
 package com.configsystem.client.servico;
 
+import com.configsystem.client.cache.CacheRedisCompartilhado;
 import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.monitoramento.PerfilAcessos;
+import com.configsystem.client.handle.AbstractConfigHandle;
+import com.configsystem.client.handle.BooleanConfigHandle;
+import com.configsystem.client.handle.ConfigHandle;
+import com.configsystem.client.handle.IntConfigHandle;
+import com.configsystem.client.handle.LongConfigHandle;
+import com.configsystem.client.validacao.ValidadorTipos;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -9,10 +17,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 /**
  * Serviço principal para comunicação com o servidor de configurações
@@ -28,9 +47,26 @@ public class ServicoClienteConfiguracao {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired(required = false)
+    private ValidadorTipos validadorTipos;
+
+    @Autowired(required = false)
+    private PerfilAcessos perfilAcessos;
+
+    // Cache L2 em Redis, consultado nas ausências do cache local antes do servidor
+    @Autowired(required = false)
+    private CacheRedisCompartilhado cacheCompartilhado;
+
     private final WebClient webClient;
     private final Map<String, String> cacheLocal = new ConcurrentHashMap<>();
 
+    // Handles vivos por chave de cache, atualizados a cada mudança da chave; mantidos por referência fraca
+    // e removidos quando o dono do handle (ex: bean prototype) é coletado pelo GC
+    private final Map<String, List<ReferenciaHandle>> handles = new ConcurrentHashMap<>();
+    private final ReferenceQueue<AbstractConfigHandle> handlesColetados = new ReferenceQueue<>();
+
+    private volatile ValidadorTipos validadorPadrao;
+
     public ServicoClienteConfiguracao(PropriedadesClienteConfiguracao propriedades) {
         this.webClient = WebClient.builder()
             .baseUrl(propriedades.getServerUrl())
@@ -58,6 +94,20 @@ public class ServicoClienteConfiguracao {
      */
     public String buscarValorConfiguracao(String chave, String namespace, String environment) {
         String chaveCache = namespace + ":" + environment + ":" + chave;
+        if (perfilAcessos != null) {
+            perfilAcessos.registrarLeitura(chaveCache);
+            if (!propriedades.isCacheEnabled() || !cacheLocal.containsKey(chaveCache)) {
+                perfilAcessos.registrarAusencia(chaveCache);
+            }
+        }
+        return buscarValor(chave, namespace, environment);
+    }
+
+    /**
+     * Busca no cache local e, se ausente, no cache L2 e no servidor, sem contar como leitura no perfil de acessos
+     */
+    private String buscarValor(String chave, String namespace, String environment) {
+        String chaveCache = namespace + ":" + environment + ":" + chave;
         
         // Verificar cache local primeiro
         if (propriedades.isCacheEnabled()) {
@@ -68,12 +118,26 @@ public class ServicoClienteConfiguracao {
             }
         }
 
+        // Cache L2 compartilhado pelas instâncias
+        if (cacheCompartilhado != null) {
+            String valorCompartilhado = cacheCompartilhado.buscar(chaveCache);
+            if (valorCompartilhado != null) {
+                if (propriedades.isCacheEnabled()) {
+                    cacheLocal.put(chaveCache, valorCompartilhado);
+                }
+                return valorCompartilhado;
+            }
+        }
+
         // Buscar no servidor
         try {
-            String valor = buscarDoServidor(namespace, environment, chave);
+            String valor = buscarValorServidor(namespace, environment, chave);
             if (valor != null && propriedades.isCacheEnabled()) {
                 cacheLocal.put(chaveCache, valor);
             }
+            if (valor != null && cacheCompartilhado != null) {
+                cacheCompartilhado.armazenar(chaveCache, valor);
+            }
             return valor;
         } catch (Exception e) {
             logger.error("Erro ao buscar configuração do servidor: {}", e.getMessage());
@@ -90,18 +154,29 @@ public class ServicoClienteConfiguracao {
 
     /**
      * Busca todas as configurações para um namespace e environment específicos
+     * O mapa vem do cache L2, quando habilitado e presente, ou do servidor
      */
     public Map<String, String> buscarTodasConfiguracoes(String namespace, String environment) {
+        return carregarTodasConfiguracoes(namespace, environment, true);
+    }
+
+    /**
+     * Carrega o mapa do namespace/environment no cache local; o mapa lido do servidor é gravado no cache L2
+     */
+    private Map<String, String> carregarTodasConfiguracoes(String namespace, String environment,
+                                                           boolean consultarCompartilhado) {
         try {
-            String response = webClient.get()
-                .uri("/api/v1/configuracoes/{namespace}/{environment}/map", namespace, environment)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
+            Map<String, String> configs = consultarCompartilhado && cacheCompartilhado != null
+                ? cacheCompartilhado.buscarGrupo(namespace, environment)
+                : null;
+            if (configs == null) {
+                configs = buscarMapaServidor(namespace, environment);
+                if (configs != null && cacheCompartilhado != null) {
+                    cacheCompartilhado.armazenarGrupo(namespace, environment, configs);
+                }
+            }
 
-            if (response != null) {
-                Map<String, String> configs = objectMapper.readValue(response, new TypeReference<Map<String, String>>() {});
-                
+            if (configs != null) {
                 // Atualizar cache local
                 if (propriedades.isCacheEnabled()) {
                     configs.forEach((chave, valor) -> {
@@ -109,6 +184,7 @@ public class ServicoClienteConfiguracao {
                         cacheLocal.put(chaveCache, valor);
                     });
                 }
+                configs.forEach((chave, valor) -> atualizarHandles(namespace + ":" + environment + ":" + chave, valor));
                 
                 return configs;
             }
@@ -128,21 +204,39 @@ public class ServicoClienteConfiguracao {
 
     /**
      * Atualiza uma configuração específica no cache
+     * Retorna false se o servidor não respondeu: o valor atual é mantido
      */
-    public void atualizarConfiguracao(String chave, String namespace, String environment) {
+    public boolean atualizarConfiguracao(String chave, String namespace, String environment) {
         String chaveCache = namespace + ":" + environment + ":" + chave;
         cacheLocal.remove(chaveCache);
         
-        // Buscar nova configuração
-        buscarValorConfiguracao(chave, namespace, environment);
+        // Buscar nova configuração no servidor: o cache L2 pode ter o valor anterior e recebe o novo
+        String valor;
+        try {
+            valor = buscarValorServidor(namespace, environment, chave);
+        } catch (Exception e) {
+            // Sem resposta do servidor a chave é recarregada na próxima leitura; handles mantêm o último valor
+            logger.error("Erro ao buscar configuração do servidor: {}", e.getMessage());
+            return false;
+        }
+        if (cacheCompartilhado != null) {
+            Map<String, String> mudanca = new HashMap<>();
+            mudanca.put(chaveCache, valor);
+            cacheCompartilhado.aplicarMudancas(mudanca);
+        }
+        if (valor != null && propriedades.isCacheEnabled()) {
+            cacheLocal.put(chaveCache, valor);
+        }
+        atualizarHandles(chaveCache, valor);
+        return true;
     }
 
     /**
-     * Atualiza todas as configurações no cache
+     * Atualiza todas as configurações no cache a partir do servidor
      */
     public void atualizarTodasConfiguracoes() {
         cacheLocal.clear();
-        buscarTodasConfiguracoes();
+        carregarTodasConfiguracoes(propriedades.getNamespace(), propriedades.getEnvironment(), false);
     }
 
     /**
@@ -163,30 +257,92 @@ public class ServicoClienteConfiguracao {
         }
     }
 
+    /**
+     * Busca uma configuração no servidor, sem consultar nem atualizar o cache local
+     * Retorna null se a chave não existe; falhas de comunicação são propagadas
+     */
+    public String buscarValorServidor(String namespace, String environment, String chave) {
+        Map<String, Object> registro = buscarRegistroServidor(namespace, environment, chave);
+        return registro != null ? (String) registro.get("value") : null;
+    }
+
+    /**
+     * Busca o registro da configuração no servidor: o valor ("value") e, se informada, a revisão
+     * Retorna null se a chave não existe; falhas de comunicação são propagadas
+     */
+    public Map<String, Object> buscarRegistroServidor(String namespace, String environment, String chave) {
+        return buscarDoServidor(namespace, environment, chave);
+    }
+
+    /**
+     * Busca todas as configurações de um namespace/environment no servidor, sem atualizar o cache local
+     * Retorna null se o servidor não respondeu; falhas de comunicação são propagadas
+     */
+    public Map<String, String> buscarMapaServidor(String namespace, String environment) throws IOException {
+        Map<String, Map<String, Object>> registros = buscarRegistrosServidor(namespace, environment);
+        if (registros == null) {
+            return null;
+        }
+        Map<String, String> mapa = new HashMap<>(registros.size());
+        registros.forEach((chave, registro) -> mapa.put(chave, (String) registro.get("value")));
+        return mapa;
+    }
+
+    /**
+     * Busca os registros de todas as configurações de um namespace/environment em uma única requisição
+     * O mapa do servidor traz, por chave, o valor ou o registro com o valor ("value") e a revisão
+     * Retorna null se o servidor não respondeu; falhas de comunicação são propagadas
+     */
+    public Map<String, Map<String, Object>> buscarRegistrosServidor(String namespace, String environment) throws IOException {
+        String response = webClient.get()
+            .uri("/api/v1/configuracoes/{namespace}/{environment}/map", namespace, environment)
+            .retrieve()
+            .bodyToMono(String.class)
+            .block();
+        if (response == null) {
+            return null;
+        }
+
+        Map<String, Object> mapa = objectMapper.readValue(response, new TypeReference<Map<String, Object>>() {});
+        Map<String, Map<String, Object>> registros = new HashMap<>(mapa.size());
+        mapa.forEach((chave, item) -> {
+            if (item instanceof Map<?, ?>) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> registro = (Map<String, Object>) item;
+                registros.put(chave, registro);
+            } else {
+                registros.put(chave, Collections.singletonMap("value", item != null ? item.toString() : null));
+            }
+        });
+        return registros;
+    }
+
     /**
      * Busca configuração diretamente do servidor
      */
-    private String buscarDoServidor(String namespace, String environment, String chave) {
+    private Map<String, Object> buscarDoServidor(String namespace, String environment, String chave) {
+        String response;
         try {
-            return webClient.get()
+            response = webClient.get()
                 .uri("/api/configs/{namespace}/{environment}/{key}", namespace, environment, chave)
                 .retrieve()
                 .bodyToMono(String.class)
-                .map(response -> {
-                    try {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> config = (Map<String, Object>) objectMapper.readValue(response, Map.class);
-                        return (String) config.get("value");
-                    } catch (Exception e) {
-                        logger.error("Erro ao deserializar resposta: {}", e.getMessage());
-                        return null;
-                    }
-                })
+                // Chave inexistente (ex: removida no servidor)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
                 .block();
         } catch (Exception e) {
             logger.error("Erro ao buscar configuração do servidor: {}", e.getMessage());
             throw e;
         }
+        if (response == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(response, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            logger.error("Erro ao deserializar resposta: {}", e.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -197,6 +353,190 @@ public class ServicoClienteConfiguracao {
         return "Basic " + Base64.getEncoder().encodeToString(auth.getBytes());
     }
 
+    /**
+     * Armazena um valor recebido por outro canal (ex: tópico compactado) diretamente no cache local
+     * Retorna o valor anterior, ou null se a chave não existia
+     */
+    public String armazenarValorLocal(String chave, String namespace, String environment, String valor) {
+        String chaveCache = namespace + ":" + environment + ":" + chave;
+        String anterior = propriedades.isCacheEnabled() ? cacheLocal.put(chaveCache, valor) : null;
+        atualizarHandles(chaveCache, valor);
+        return anterior;
+    }
+
+    /**
+     * Remove um valor do cache local sem buscar novamente no servidor
+     * Retorna o valor removido, ou null se a chave não existia
+     */
+    public String removerValorLocal(String chave, String namespace, String environment) {
+        String chaveCache = namespace + ":" + environment + ":" + chave;
+        String removido = cacheLocal.remove(chaveCache);
+        atualizarHandles(chaveCache, null);
+        return removido;
+    }
+
+    /**
+     * Descarta o valor local da chave, recarregado do cache L2 ou do servidor na próxima leitura
+     * Handles não fazem leitura: os da chave recebem o valor atual e mantêm o anterior se ele não for encontrado
+     */
+    public void descartarValorLocal(String chave, String namespace, String environment) {
+        String chaveCache = namespace + ":" + environment + ":" + chave;
+        cacheLocal.remove(chaveCache);
+        if (handles.containsKey(chaveCache)) {
+            String valor = buscarValor(chave, namespace, environment);
+            if (valor != null) {
+                atualizarHandles(chaveCache, valor);
+            }
+        }
+    }
+
+    /**
+     * Obtém um handle int vivo para a chave no namespace/environment padrão
+     * Handles são atualizados no lugar a cada mudança: obtenha uma vez e reutilize. O cliente mantém apenas
+     * uma referência fraca: o handle deixa de ser atualizado quando não há mais referências a ele
+     */
+    public IntConfigHandle obterHandleInt(String chave, int valorPadrao) {
+        return obterHandleInt(chave, propriedades.getNamespace(), propriedades.getEnvironment(), valorPadrao);
+    }
+
+    public IntConfigHandle obterHandleInt(String chave, String namespace, String environment, int valorPadrao) {
+        return registrarHandle(new IntConfigHandle(chave, namespace, environment, valorPadrao));
+    }
+
+    /**
+     * Obtém um handle long vivo para a chave no namespace/environment padrão
+     */
+    public LongConfigHandle obterHandleLong(String chave, long valorPadrao) {
+        return obterHandleLong(chave, propriedades.getNamespace(), propriedades.getEnvironment(), valorPadrao);
+    }
+
+    public LongConfigHandle obterHandleLong(String chave, String namespace, String environment, long valorPadrao) {
+        return registrarHandle(new LongConfigHandle(chave, namespace, environment, valorPadrao));
+    }
+
+    /**
+     * Obtém um handle boolean vivo para a chave no namespace/environment padrão
+     */
+    public BooleanConfigHandle obterHandleBoolean(String chave, boolean valorPadrao) {
+        return obterHandleBoolean(chave, propriedades.getNamespace(), propriedades.getEnvironment(), valorPadrao);
+    }
+
+    public BooleanConfigHandle obterHandleBoolean(String chave, String namespace, String environment, boolean valorPadrao) {
+        return registrarHandle(new BooleanConfigHandle(chave, namespace, environment, valorPadrao));
+    }
+
+    /**
+     * Obtém um handle tipado vivo para a chave no namespace/environment padrão
+     */
+    public <T> ConfigHandle<T> obterHandle(String chave, Class<T> tipo, T valorPadrao) {
+        return obterHandle(chave, propriedades.getNamespace(), propriedades.getEnvironment(), tipo, valorPadrao);
+    }
+
+    public <T> ConfigHandle<T> obterHandle(String chave, String namespace, String environment, Class<T> tipo, T valorPadrao) {
+        ValidadorTipos validador = validador();
+        return obterHandle(chave, namespace, environment, valor -> validador.converter(valor, tipo), valorPadrao);
+    }
+
+    /**
+     * Obtém um handle vivo com conversor customizado
+     */
+    public <T> ConfigHandle<T> obterHandle(String chave, String namespace, String environment,
+                                           Function<String, T> conversor, T valorPadrao) {
+        return registrarHandle(new ConfigHandle<>(chave, namespace, environment, conversor, valorPadrao));
+    }
+
+    /**
+     * Registra o handle para receber as mudanças da chave e aplica o valor atual
+     */
+    private <H extends AbstractConfigHandle> H registrarHandle(H handle) {
+        removerHandlesColetados();
+
+        String chaveCache = handle.getNamespace() + ":" + handle.getEnvironment() + ":" + handle.getChave();
+        ReferenciaHandle referencia = new ReferenciaHandle(handle, chaveCache, handlesColetados);
+        handles.compute(chaveCache, (c, lista) -> {
+            List<ReferenciaHandle> referencias = lista != null ? lista : new CopyOnWriteArrayList<>();
+            referencias.add(referencia);
+            return referencias;
+        });
+        // Leituras posteriores do handle não passam pelo serviço: conta apenas a resolução inicial
+        if (perfilAcessos != null) {
+            perfilAcessos.registrarLeitura(chaveCache);
+        }
+        handle.atualizar(buscarValor(handle.getChave(), handle.getNamespace(), handle.getEnvironment()));
+        return handle;
+    }
+
+    /**
+     * Propaga o novo valor da chave aos handles registrados
+     */
+    private void atualizarHandles(String chaveCache, String valor) {
+        removerHandlesColetados();
+
+        List<ReferenciaHandle> handlesDaChave = handles.get(chaveCache);
+        if (handlesDaChave != null) {
+            for (ReferenciaHandle referencia : handlesDaChave) {
+                AbstractConfigHandle handle = referencia.get();
+                if (handle != null) {
+                    handle.atualizar(valor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove os handles coletados pelo GC, e as chaves que ficaram sem handles
+     */
+    private void removerHandlesColetados() {
+        Reference<? extends AbstractConfigHandle> coletada;
+        while ((coletada = handlesColetados.poll()) != null) {
+            ReferenciaHandle referencia = (ReferenciaHandle) coletada;
+            handles.computeIfPresent(referencia.chaveCache, (c, lista) -> {
+                lista.remove(referencia);
+                return lista.isEmpty() ? null : lista;
+            });
+        }
+    }
+
+    /**
+     * Obtém a quantidade de handles ainda referenciados pela aplicação
+     */
+    public int getQuantidadeHandles() {
+        removerHandlesColetados();
+
+        return handles.values().stream()
+            .mapToInt(lista -> (int) lista.stream().filter(referencia -> referencia.get() != null).count())
+            .sum();
+    }
+
+    private ValidadorTipos validador() {
+        if (validadorTipos != null) {
+            return validadorTipos;
+        }
+        if (validadorPadrao == null) {
+            validadorPadrao = new ValidadorTipos();
+        }
+        return validadorPadrao;
+    }
+
+    /**
+     * Referência fraca a um handle, com a chave de cache em que está registrado
+     */
+    private static final class ReferenciaHandle extends WeakReference<AbstractConfigHandle> {
+        private final String chaveCache;
+
+        ReferenciaHandle(AbstractConfigHandle handle, String chaveCache, ReferenceQueue<AbstractConfigHandle> fila) {
+            super(handle, fila);
+            this.chaveCache = chaveCache;
+        }
+    }
+
+    /**
+     * Obtém o WebClient autenticado para outros transportes do cliente (ex: canal push)
+     */
+    WebClient getWebClient() {
+        return webClient;
+    }
+
     /**
      * Obtém o cache local
      */
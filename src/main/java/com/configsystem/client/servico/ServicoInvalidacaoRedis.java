@@ -0,0 +1,229 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.cache.CacheInteligente;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canal de invalidação entre instâncias via Redis pub/sub, para implantações sem Kafka
+ *
+ * A instância que detecta mudanças na sincronização periódica publica uma mensagem por chave
+ * (namespace, environment, chave, revisão do servidor e, se pequeno, o novo valor). As demais atualizam
+ * ou removem a chave do cache local e do CacheInteligente sem consultar o servidor. A ordem vem da revisão
+ * do servidor, registrada no RegistroVersoesConfiguracao junto das revisões recebidas pelo Kafka ou SSE:
+ * mensagens com revisão já aplicada ou anterior são descartadas. Sem revisão, ou sem o valor na mensagem,
+ * a chave é descartada e recarregada na próxima leitura.
+ */
+@Service
+@ConditionalOnProperty(name = "config.client.redis.invalidation-enabled", havingValue = "true")
+public class ServicoInvalidacaoRedis implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServicoInvalidacaoRedis.class);
+
+    static final String TIPO_ATUALIZACAO = "UPDATE";
+    static final String TIPO_REMOCAO = "DELETE";
+
+    @Autowired
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ServicoClienteConfiguracao servicoCliente;
+
+    @Autowired
+    private CacheInteligente cacheInteligente;
+
+    @Autowired
+    private RegistroVersoesConfiguracao registroVersoes;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // Identifica as mensagens desta instância, ignoradas ao retornarem pelo canal
+    private final String origem = UUID.randomUUID().toString();
+
+    private final LongAdder publicadas = new LongAdder();
+    private final LongAdder aplicadas = new LongAdder();
+    private RedisMessageListenerContainer container;
+
+    @PostConstruct
+    public void iniciar() {
+        String canal = propriedades.getRedis().getInvalidationChannel();
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisTemplate.getConnectionFactory());
+        container.addMessageListener(this, new ChannelTopic(canal));
+        container.afterPropertiesSet();
+        container.start();
+
+        if (meterRegistry != null) {
+            FunctionCounter.builder("config.client.invalidation.published", publicadas, LongAdder::sum)
+                .description("Invalidações publicadas para as demais instâncias")
+                .register(meterRegistry);
+            FunctionCounter.builder("config.client.invalidation.applied", aplicadas, LongAdder::sum)
+                .description("Invalidações recebidas de outras instâncias e aplicadas")
+                .register(meterRegistry);
+        }
+        logger.info("Invalidação entre instâncias habilitada no canal {}", canal);
+    }
+
+    @PreDestroy
+    public void finalizar() {
+        if (container != null) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                logger.warn("Erro ao encerrar o canal de invalidação: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Publica as chaves alteradas de um namespace/environment, uma mensagem por chave
+     * Valores null indicam chaves removidas no servidor; revisoes traz a revisão do servidor de cada chave,
+     * quando conhecida. O CacheInteligente desta instância é atualizado antes da publicação; o cache L2
+     * já foi atualizado pela sincronização que detectou as mudanças.
+     */
+    public void publicar(String namespace, String environment, Map<String, String> alteradas, Map<String, Long> revisoes) {
+        if (alteradas.isEmpty()) {
+            return;
+        }
+        String prefixo = namespace + ":" + environment + ":";
+
+        List<String> mensagens = new ArrayList<>(alteradas.size());
+        for (Map.Entry<String, String> alterada : alteradas.entrySet()) {
+            String valor = alterada.getValue();
+            atualizarCacheInteligente(prefixo + alterada.getKey(), valor);
+            mensagens.add(criarMensagem(namespace, environment, alterada.getKey(), valor, revisoes.get(alterada.getKey())));
+        }
+
+        String canal = propriedades.getRedis().getInvalidationChannel();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) conexao -> {
+                StringRedisConnection conexaoTexto = (StringRedisConnection) conexao;
+                mensagens.forEach(mensagem -> conexaoTexto.publish(canal, mensagem));
+                return null;
+            });
+            publicadas.add(mensagens.size());
+            logger.debug("{} invalidações publicadas para {}.{}", mensagens.size(), namespace, environment);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao publicar {} invalidações: {}", mensagens.size(), e.getMessage());
+        }
+    }
+
+    private String criarMensagem(String namespace, String environment, String chave, String valor, Long revisao) {
+        Map<String, Object> mensagem = new LinkedHashMap<>();
+        mensagem.put("origin", origem);
+        mensagem.put("namespace", namespace);
+        mensagem.put("environment", environment);
+        mensagem.put("key", chave);
+        mensagem.put("changeType", valor != null ? TIPO_ATUALIZACAO : TIPO_REMOCAO);
+        // Sem revisão do servidor o valor não é enviado: sem ordem garantida, as demais instâncias o buscam no servidor
+        if (revisao != null) {
+            mensagem.put("revision", revisao);
+            if (valor != null && valor.length() <= propriedades.getRedis().getInvalidationMaxInlineValue()) {
+                mensagem.put("value", valor);
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(mensagem);
+        } catch (Exception e) {
+            throw new IllegalStateException("Erro ao serializar invalidação de " + chave, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        processarMensagem(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Aplica uma invalidação recebida de outra instância
+     */
+    public void processarMensagem(String mensagem) {
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> invalidacao = (Map<String, Object>) objectMapper.readValue(mensagem, Map.class);
+            if (origem.equals(invalidacao.get("origin"))) {
+                return;
+            }
+
+            String namespace = (String) invalidacao.get("namespace");
+            String environment = (String) invalidacao.get("environment");
+            String chave = (String) invalidacao.get("key");
+            Long revisao = RegistroVersoesConfiguracao.extrairRevisao(invalidacao);
+            String chaveCache = namespace + ":" + environment + ":" + chave;
+
+            if (revisao != null && !registroVersoes.registrarSeMaisRecente(namespace, environment, chave, revisao)) {
+                logger.debug("Invalidação obsoleta descartada: {} revisão {}", chaveCache, revisao);
+                return;
+            }
+
+            boolean removida = TIPO_REMOCAO.equals(invalidacao.get("changeType"));
+            String valor = (String) invalidacao.get("value");
+            if (revisao != null && removida) {
+                servicoCliente.removerValorLocal(chave, namespace, environment);
+                atualizarCacheInteligente(chaveCache, null);
+            } else if (revisao != null && valor != null) {
+                servicoCliente.armazenarValorLocal(chave, namespace, environment, valor);
+                atualizarCacheInteligente(chaveCache, valor);
+            } else {
+                // Valor grande demais para a mensagem ou sem revisão: a chave é descartada e recarregada sob demanda,
+                // do cache L2 já atualizado pela instância de origem, sem passar os handles pelo valor padrão
+                servicoCliente.descartarValorLocal(chave, namespace, environment);
+                cacheInteligente.invalidar(chaveCache);
+            }
+            aplicadas.increment();
+            logger.debug("Invalidação aplicada: {} revisão {}", chaveCache, revisao);
+        } catch (Exception e) {
+            logger.error("Erro ao processar invalidação: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Atualiza a chave no CacheInteligente apenas se presente, ou a remove quando não há valor
+     */
+    private void atualizarCacheInteligente(String chaveCache, String valor) {
+        if (valor == null) {
+            cacheInteligente.invalidar(chaveCache);
+        } else {
+            cacheInteligente.atualizarSePresente(chaveCache, valor);
+        }
+    }
+
+    public long getPublicadas() {
+        return publicadas.sum();
+    }
+
+    public long getAplicadas() {
+        return aplicadas.sum();
+    }
+}
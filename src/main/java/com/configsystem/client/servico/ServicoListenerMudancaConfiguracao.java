@@ -1,20 +1,16 @@
 package com.configsystem.client.servico;
 
-import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-
 /**
  * Serviço para escutar mudanças de configuração via Kafka
  */
@@ -25,68 +21,27 @@ public class ServicoListenerMudancaConfiguracao {
     private static final Logger logger = LoggerFactory.getLogger(ServicoListenerMudancaConfiguracao.class);
 
     @Autowired
-    private PropriedadesClienteConfiguracao propriedades;
-
-    @Autowired
-    private ServicoClienteConfiguracao servicoCliente;
-
-    @Autowired
-    private ObjectMapper objectMapper;
-
-    @Autowired
-    private ApplicationEventPublisher publicadorEventos;
+    private ServicoProcessamentoMudanca processamentoMudanca;
 
     /**
      * Escuta eventos de mudança de configuração do Kafka
+     * Com despacho assíncrono o registro só é confirmado quando os listeners terminam (ack manual)
      */
-    @KafkaListener(topics = "${config.client.kafka.topic:config-changes}")
+    @KafkaListener(topics = "${config.client.kafka.topic:config-changes}", containerFactory = "fabricaContainerListenerKafka")
     public void processarMudancaConfiguracao(@Payload String mensagem, 
                                         @Header(KafkaHeaders.RECEIVED_TOPIC) String topico,
                                         @Header(KafkaHeaders.RECEIVED_PARTITION) int particao,
-                                        @Header(KafkaHeaders.OFFSET) long offset) {
+                                        @Header(KafkaHeaders.OFFSET) long offset,
+                                        @Header(name = KafkaHeaders.ACKNOWLEDGMENT, required = false) Acknowledgment ack) {
         
         logger.info("Recebido evento de mudança de configuração: topic={}, partition={}, offset={}", 
                    topico, particao, offset);
         
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> evento = (Map<String, Object>) objectMapper.readValue(mensagem, Map.class);
-            
-            String namespace = (String) evento.get("namespace");
-            String environment = (String) evento.get("environment");
-            String chave = (String) evento.get("key");
-            String tipoMudanca = (String) evento.get("changeType");
-            
-            // Verificar se o evento é relevante para este cliente
-            if (isEventoRelevante(namespace, environment)) {
-                logger.info("Processando mudança de configuração: {}.{}.{} - {}", 
-                           namespace, environment, chave, tipoMudanca);
-                
-                // Atualizar cache local
-                servicoCliente.atualizarConfiguracao(chave, namespace, environment);
-                
-                // Publicar evento local para beans interessados
-                EventoMudancaConfiguracao eventoLocal = new EventoMudancaConfiguracao(
-                    namespace, environment, chave, tipoMudanca, mensagem
-                );
-                publicadorEventos.publishEvent(eventoLocal);
-                
-                logger.info("Configuração atualizada com sucesso: {}.{}.{}", namespace, environment, chave);
-            } else {
-                logger.debug("Evento ignorado - não é relevante para este cliente: {}.{}", namespace, environment);
+        processamentoMudanca.processarMensagem(mensagem).whenComplete((resultado, erro) -> {
+            if (ack != null) {
+                ack.acknowledge();
             }
-            
-        } catch (Exception e) {
-            logger.error("Erro ao processar evento de mudança de configuração: {}", e.getMessage(), e);
-        }
-    }
-
-    /**
-     * Verifica se o evento é relevante para este cliente
-     */
-    private boolean isEventoRelevante(String namespace, String environment) {
-        return propriedades.getNamespace().equals(namespace) && 
-               propriedades.getEnvironment().equals(environment);
+        });
     }
 
     /**
@@ -98,14 +53,21 @@ public class ServicoListenerMudancaConfiguracao {
         private final String chave;
         private final String tipoMudanca;
         private final String mensagemOriginal;
+        private final Long revisao;
 
         public EventoMudancaConfiguracao(String namespace, String environment, String chave, 
                                       String tipoMudanca, String mensagemOriginal) {
+            this(namespace, environment, chave, tipoMudanca, mensagemOriginal, null);
+        }
+
+        public EventoMudancaConfiguracao(String namespace, String environment, String chave, 
+                                      String tipoMudanca, String mensagemOriginal, Long revisao) {
             this.namespace = namespace;
             this.environment = environment;
             this.chave = chave;
             this.tipoMudanca = tipoMudanca;
             this.mensagemOriginal = mensagemOriginal;
+            this.revisao = revisao;
         }
 
         public String getNamespace() {
@@ -128,6 +90,13 @@ public class ServicoListenerMudancaConfiguracao {
             return mensagemOriginal;
         }
 
+        /**
+         * Revisão informada pelo servidor, ou null se o evento não trouxer versão
+         */
+        public Long getRevisao() {
+            return revisao;
+        }
+
         @Override
         public String toString() {
             return "EventoMudancaConfiguracao{" +
@@ -135,6 +104,7 @@ public class ServicoListenerMudancaConfiguracao {
                     ", environment='" + environment + '\'' +
                     ", chave='" + chave + '\'' +
                     ", tipoMudanca='" + tipoMudanca + '\'' +
+                    ", revisao=" + revisao +
                     '}';
         }
     }
@@ -0,0 +1,152 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.cache.CacheRedisCompartilhado;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.servico.ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pipeline comum de processamento de mensagens de mudança de configuração
+ *
+ * Usado por todos os transportes (Kafka, SSE/long-poll): interpreta a mensagem, descarta eventos
+ * irrelevantes, obsoletos ou duplicados, atualiza o cache local e despacha o evento para os beans.
+ */
+@Service
+public class ServicoProcessamentoMudanca {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServicoProcessamentoMudanca.class);
+
+    @Autowired
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @Autowired
+    private ServicoClienteConfiguracao servicoCliente;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DespachanteEventosConfiguracao despachante;
+
+    @Autowired
+    private RegistroVersoesConfiguracao registroVersoes;
+
+    @Autowired(required = false)
+    private CacheRedisCompartilhado cacheCompartilhado;
+
+    /**
+     * Processa uma mensagem JSON de mudança de configuração
+     * O futuro completa quando os listeners terminam de processar o evento, ou imediatamente se descartado
+     */
+    public CompletableFuture<Void> processarMensagem(String mensagem) {
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> evento = (Map<String, Object>) objectMapper.readValue(mensagem, Map.class);
+
+            String namespace = (String) evento.get("namespace");
+            String environment = (String) evento.get("environment");
+            String chave = (String) evento.get("key");
+            String tipoMudanca = (String) evento.get("changeType");
+            Long revisao = RegistroVersoesConfiguracao.extrairRevisao(evento);
+
+            // Verificar se o evento é relevante para este cliente
+            if (isEventoRelevante(namespace, environment)) {
+                // Descartar eventos atrasados ou reentregues antes de qualquer I/O
+                if (revisao != null && !registroVersoes.isMaisRecente(namespace, environment, chave, revisao)) {
+                    return CompletableFuture.completedFuture(null);
+                }
+
+                logger.info("Processando mudança de configuração: {}.{}.{} - {}",
+                           namespace, environment, chave, tipoMudanca);
+
+                // Atualizar cache local; a revisão só é registrada se o valor foi obtido, para que uma
+                // reentrega ou a sincronização periódica ainda apliquem a mudança
+                if (!servicoCliente.atualizarConfiguracao(chave, namespace, environment)) {
+                    logger.warn("Mudança não aplicada - servidor indisponível: {}.{}.{}", namespace, environment, chave);
+                    return CompletableFuture.completedFuture(null);
+                }
+                if (revisao != null) {
+                    registroVersoes.registrarAplicada(namespace, environment, chave, revisao);
+                }
+
+                // Publicar evento local para beans interessados (fora da thread do consumidor)
+                EventoMudancaConfiguracao eventoLocal = new EventoMudancaConfiguracao(
+                    namespace, environment, chave, tipoMudanca, mensagem, revisao
+                );
+                CompletableFuture<Void> despacho = despachante.despachar(eventoLocal);
+
+                logger.info("Configuração atualizada com sucesso: {}.{}.{}", namespace, environment, chave);
+                return despacho;
+            } else {
+                logger.debug("Evento ignorado - não é relevante para este cliente: {}.{}", namespace, environment);
+            }
+
+        } catch (Exception e) {
+            logger.error("Erro ao processar evento de mudança de configuração: {}", e.getMessage(), e);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Processa uma mudança que já traz o valor (ex: tópico compactado), sem consulta ao servidor
+     * Diferente de processarMensagem, falhas ao aplicar ou despachar são propagadas ao chamador
+     */
+    public CompletableFuture<Void> processarValor(String namespace, String environment, String chave,
+                                                  String valor, Long revisao) {
+        String tipoMudanca = aplicarValor(namespace, environment, chave, valor, revisao);
+        if (tipoMudanca == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        logger.info("Processando mudança de configuração: {}.{}.{} - {}", namespace, environment, chave, tipoMudanca);
+        if (cacheCompartilhado != null) {
+            Map<String, String> mudanca = new HashMap<>();
+            mudanca.put(namespace + ":" + environment + ":" + chave, valor);
+            cacheCompartilhado.aplicarMudancas(mudanca);
+        }
+
+        return despachante.despachar(new EventoMudancaConfiguracao(
+            namespace, environment, chave, tipoMudanca, valor, revisao
+        ));
+    }
+
+    /**
+     * Aplica no cache local um valor já conhecido (nulo indica remoção), sem publicar evento
+     * Retorna o tipo da mudança, ou null se a revisão é obsoleta ou o valor não mudou
+     */
+    public String aplicarValor(String namespace, String environment, String chave, String valor, Long revisao) {
+        if (revisao != null && !registroVersoes.isMaisRecente(namespace, environment, chave, revisao)) {
+            return null;
+        }
+
+        String tipoMudanca;
+        if (valor == null) {
+            String anterior = servicoCliente.removerValorLocal(chave, namespace, environment);
+            tipoMudanca = anterior != null ? "DELETE" : null;
+        } else {
+            String anterior = servicoCliente.armazenarValorLocal(chave, namespace, environment, valor);
+            tipoMudanca = valor.equals(anterior) ? null : anterior == null ? "CREATE" : "UPDATE";
+        }
+
+        if (revisao != null) {
+            registroVersoes.registrarAplicada(namespace, environment, chave, revisao);
+        }
+        return tipoMudanca;
+    }
+
+    /**
+     * Verifica se o evento é relevante para este cliente
+     */
+    private boolean isEventoRelevante(String namespace, String environment) {
+        return propriedades.getNamespace().equals(namespace) &&
+               propriedades.getEnvironment().equals(environment);
+    }
+}
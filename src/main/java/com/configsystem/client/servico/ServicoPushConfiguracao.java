@@ -0,0 +1,155 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Canal push de mudanças via Server-Sent Events, alternativa leve ao Kafka
+ *
+ * Mantém uma conexão SSE aberta com o servidor de configurações usando o mesmo WebClient do cliente.
+ * Ao reconectar envia o cabeçalho Last-Event-ID para retomar do último evento recebido. Servidores
+ * em modo long-poll podem simplesmente encerrar a resposta após cada lote: a conexão é reaberta.
+ * As mensagens seguem o formato dos eventos Kafka e passam pelo mesmo pipeline de processamento.
+ */
+@Service
+@ConditionalOnProperty(name = "config.client.push.enabled", havingValue = "true")
+public class ServicoPushConfiguracao {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServicoPushConfiguracao.class);
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> TIPO_EVENTO =
+        new ParameterizedTypeReference<ServerSentEvent<String>>() {};
+
+    @Autowired
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @Autowired
+    private ServicoClienteConfiguracao servicoCliente;
+
+    @Autowired
+    private ServicoProcessamentoMudanca processamentoMudanca;
+
+    private final AtomicReference<String> ultimoIdEvento = new AtomicReference<>();
+    private final AtomicLong eventosRecebidos = new AtomicLong();
+    private final AtomicLong reconexoes = new AtomicLong();
+    private volatile boolean conectado = false;
+    private Disposable assinatura;
+
+    @PostConstruct
+    public void iniciar() {
+        PropriedadesClienteConfiguracao.PushConfig config = propriedades.getPush();
+        Duration atrasoReconexao = Duration.ofMillis(config.getReconnectDelay());
+
+        assinatura = Flux.defer(this::abrirConexao)
+            // O pipeline faz I/O bloqueante - sair das threads do reactor-netty mantendo a ordem
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(this::processarEvento)
+            .doOnComplete(this::registrarDesconexao)
+            .repeatWhen(finalizacoes -> finalizacoes.delayElements(atrasoReconexao))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, atrasoReconexao)
+                .maxBackoff(Duration.ofMillis(config.getMaxReconnectDelay()))
+                .transientErrors(true)
+                .doBeforeRetry(sinal -> {
+                    registrarDesconexao();
+                    logger.warn("Canal push desconectado - reconectando (tentativa {}): {}",
+                               sinal.totalRetriesInARow() + 1, sinal.failure().getMessage());
+                }))
+            .subscribe();
+
+        logger.info("Canal push de configurações iniciado para {}.{}", propriedades.getNamespace(), propriedades.getEnvironment());
+    }
+
+    /**
+     * Abre a conexão SSE, retomando a partir do último evento recebido
+     */
+    private Flux<ServerSentEvent<String>> abrirConexao() {
+        String ultimoId = ultimoIdEvento.get();
+
+        return servicoCliente.getWebClient().get()
+            .uri(propriedades.getPush().getPath(), propriedades.getNamespace(), propriedades.getEnvironment())
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .headers(cabecalhos -> {
+                if (ultimoId != null) {
+                    cabecalhos.set("Last-Event-ID", ultimoId);
+                }
+            })
+            .retrieve()
+            .bodyToFlux(TIPO_EVENTO)
+            .doOnSubscribe(s -> {
+                conectado = true;
+                logger.debug("Canal push conectado (Last-Event-ID: {})", ultimoId);
+            });
+    }
+
+    private void processarEvento(ServerSentEvent<String> evento) {
+        if (evento.data() != null) {
+            eventosRecebidos.incrementAndGet();
+            processamentoMudanca.processarMensagem(evento.data());
+        }
+
+        // Atualizar o id só após processar, para reprocessar o evento se a conexão cair no meio
+        if (evento.id() != null) {
+            ultimoIdEvento.set(evento.id());
+        }
+    }
+
+    private void registrarDesconexao() {
+        if (conectado) {
+            reconexoes.incrementAndGet();
+        }
+        conectado = false;
+    }
+
+    @PreDestroy
+    public void finalizar() {
+        if (assinatura != null) {
+            assinatura.dispose();
+        }
+        conectado = false;
+    }
+
+    /**
+     * Indica se a conexão push está aberta
+     */
+    public boolean isConectado() {
+        return conectado;
+    }
+
+    /**
+     * Obtém o id do último evento processado
+     */
+    public String getUltimoIdEvento() {
+        return ultimoIdEvento.get();
+    }
+
+    /**
+     * Obtém a quantidade de eventos recebidos pelo canal
+     */
+    public long getEventosRecebidos() {
+        return eventosRecebidos.get();
+    }
+
+    /**
+     * Obtém a quantidade de reconexões realizadas
+     */
+    public long getReconexoes() {
+        return reconexoes.get();
+    }
+}
@@ -1,5 +1,6 @@
 package com.configsystem.client.servico;
 
+import com.configsystem.client.cache.CacheRedisCompartilhado;
 import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,7 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Serviço responsável pela sincronização periódica de configurações
@@ -23,6 +27,18 @@ public class ServicoSincronizacaoConfiguracao {
     @Autowired
     private ServicoClienteConfiguracao servicoCliente;
 
+    @Autowired
+    private RegistroVersoesConfiguracao registroVersoes;
+
+    @Autowired(required = false)
+    private ServicoBootstrapTopicoCompactado bootstrapTopico;
+
+    @Autowired(required = false)
+    private ServicoInvalidacaoRedis invalidacao;
+
+    @Autowired(required = false)
+    private CacheRedisCompartilhado cacheCompartilhado;
+
     private boolean ultimoStatusServidor = false;
     private long ultimaSincronizacao = 0;
 
@@ -35,6 +51,12 @@ public class ServicoSincronizacaoConfiguracao {
             return;
         }
 
+        // Cache semeado e acompanhado pelo tópico compactado - cargas completas via HTTP são desnecessárias
+        if (bootstrapTopico != null && bootstrapTopico.isCarregado()) {
+            logger.debug("Sincronização periódica ignorada - cache mantido pelo tópico compactado");
+            return;
+        }
+
         logger.debug("Iniciando sincronização periódica de configurações");
         
         try {
@@ -67,27 +89,41 @@ public class ServicoSincronizacaoConfiguracao {
 
     /**
      * Sincroniza apenas se necessário
+     * Compara com o mapa do servidor apenas as chaves presentes no cache local. Sem o canal de invalidação,
+     * qualquer diferença recarrega o grupo; com ele, apenas as chaves alteradas ou removidas são aplicadas,
+     * gravadas no cache L2 e propagadas às demais instâncias
      */
     private void sincronizarSeNecessario() {
         try {
-            // Buscar todas as configurações do servidor
-            Map<String, String> configsServidor = servicoCliente.buscarTodasConfiguracoes();
-            Map<String, String> cacheLocal = servicoCliente.obterCacheLocal();
-            
-            // Verificar se há diferenças
-            int diferencas = 0;
-            for (Map.Entry<String, String> entry : configsServidor.entrySet()) {
-                String valorLocal = cacheLocal.get(entry.getKey());
-                if (!entry.getValue().equals(valorLocal)) {
-                    diferencas++;
-                }
+            String namespace = propriedades.getNamespace();
+            String environment = propriedades.getEnvironment();
+            Map<String, Map<String, Object>> registrosServidor = servicoCliente.buscarRegistrosServidor(namespace, environment);
+            if (registrosServidor == null) {
+                return;
             }
-            
-            if (diferencas > 0) {
-                logger.info("Encontradas {} diferenças entre cache local e servidor - atualizando cache", diferencas);
+
+            // O cache local usa chaves namespace:environment:chave e o mapa do servidor apenas a chave
+            String prefixo = namespace + ":" + environment + ":";
+            Map<String, Map<String, Object>> alteradas = new LinkedHashMap<>();
+            servicoCliente.obterCacheLocal().forEach((chaveCache, valorLocal) -> {
+                if (!chaveCache.startsWith(prefixo)) {
+                    return;
+                }
+                String chave = chaveCache.substring(prefixo.length());
+                Map<String, Object> registro = registrosServidor.get(chave);
+                if (!Objects.equals(valorLocal, registro != null ? registro.get("value") : null)) {
+                    alteradas.put(chave, registro);
+                }
+            });
+
+            if (alteradas.isEmpty()) {
+                logger.debug("Cache local está sincronizado com o servidor");
+            } else if (invalidacao == null) {
+                logger.info("Encontradas {} diferenças entre cache local e servidor - atualizando cache", alteradas.size());
                 servicoCliente.atualizarTodasConfiguracoes();
             } else {
-                logger.debug("Cache local está sincronizado com o servidor");
+                logger.info("Encontradas {} diferenças entre cache local e servidor - aplicando e propagando", alteradas.size());
+                aplicarEPropagar(namespace, environment, alteradas);
             }
             
         } catch (Exception e) {
@@ -95,6 +131,40 @@ public class ServicoSincronizacaoConfiguracao {
         }
     }
 
+    /**
+     * Aplica as chaves alteradas com os valores e revisões do mapa do servidor
+     * O mapa pode ser mais antigo que mudanças já aplicadas pelo Kafka, SSE ou outras instâncias: chaves com
+     * revisão só são aplicadas se ela for mais recente que a registrada
+     */
+    private void aplicarEPropagar(String namespace, String environment, Map<String, Map<String, Object>> alteradas) {
+        String prefixo = namespace + ":" + environment + ":";
+        Map<String, String> aplicadas = new LinkedHashMap<>();
+        Map<String, Long> revisoes = new HashMap<>();
+        alteradas.forEach((chave, registro) -> {
+            String valor = registro != null ? (String) registro.get("value") : null;
+            Long revisao = registro != null ? RegistroVersoesConfiguracao.extrairRevisao(registro) : null;
+            if (revisao != null && !registroVersoes.registrarSeMaisRecente(namespace, environment, chave, revisao)) {
+                return;
+            }
+            if (valor != null) {
+                servicoCliente.armazenarValorLocal(chave, namespace, environment, valor);
+            } else {
+                servicoCliente.removerValorLocal(chave, namespace, environment);
+            }
+            aplicadas.put(chave, valor);
+            if (revisao != null) {
+                revisoes.put(chave, revisao);
+            }
+        });
+
+        if (cacheCompartilhado != null) {
+            Map<String, String> mudancas = new LinkedHashMap<>();
+            aplicadas.forEach((chave, valor) -> mudancas.put(prefixo + chave, valor));
+            cacheCompartilhado.aplicarMudancas(mudancas);
+        }
+        invalidacao.publicar(namespace, environment, aplicadas, revisoes);
+    }
+
     /**
      * Log do status de sincronização
      */
@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 /**
@@ -149,6 +150,24 @@ public class ValidadorTipos {
         }
     }
     
+    /**
+     * Obtém o conversor registrado para o tipo, ou null se não houver
+     */
+    public Function<String, Object> obterConversor(Class<?> tipo) {
+        return conversores.get(tipo);
+    }
+
+    /**
+     * Compila uma validação a partir de um padrão nomeado (email, url, ip, port) ou de um regex customizado
+     */
+    public Predicate<String> compilarValidacao(String padraoOuRegex) {
+        Pattern padrao = padroes.get(padraoOuRegex);
+        if (padrao == null) {
+            padrao = Pattern.compile(padraoOuRegex);
+        }
+        return padrao.asMatchPredicate();
+    }
+
     /**
      * Registra um novo conversor customizado
      */
@@ -1,17 +1,36 @@
 package com.configsystem.client.cache;
 
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao.NamespaceCachePolicy;
+import com.configsystem.client.monitoramento.PerfilAcessos;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.micrometer.core.instrument.MeterRegistry;
-
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Testes unitários para o CacheInteligente
@@ -23,6 +42,12 @@ class CacheInteligenteTest {
     
     @Mock
     private MeterRegistry meterRegistry;
+    
+    @Mock
+    private ServicoClienteConfiguracao servicoCliente;
+    
+    @Mock
+    private CacheRedisCompartilhado cacheCompartilhado;
 
     @BeforeEach
     void setUp() {
@@ -186,4 +211,371 @@ class CacheInteligenteTest {
         assertThat(resultado.get()).isEqualTo(valorNovo);
         assertThat(cache.getTamanho()).isEqualTo(1); // Não deve duplicar
     }
-}
\ No newline at end of file
+
+    @Test
+    void deveLimitarCachePeloTamanhoEstimadoEmBytes() {
+        // Given - 16 KB para todo o cache
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getCachePolicy().setMaximumWeight(16 * 1024);
+        CacheInteligente cachePonderado = new CacheInteligente();
+        ReflectionTestUtils.setField(cachePonderado, "propriedades", propriedades);
+        cachePonderado.inicializar();
+
+        // When - flags pequenas e um JSON de ~40 KB em UTF-16
+        for (int i = 0; i < 50; i++) {
+            cachePonderado.armazenar("app:prod:flag." + i, "true");
+        }
+        cachePonderado.armazenar("app:prod:catalogo", "x".repeat(20_000));
+
+        // Then - o JSON não cabe e as flags continuam em cache
+        assertThat(cachePonderado.getPesoPorNamespace().get("app")).isLessThanOrEqualTo(16 * 1024L);
+        assertThat(cachePonderado.getEvictionsPorNamespace().get("app")).isPositive();
+        assertThat(cachePonderado.contemChave("app:prod:catalogo")).isFalse();
+        assertThat(cachePonderado.contemChave("app:prod:flag.0")).isTrue();
+    }
+
+    @Test
+    void deveContarApenasAReferenciaDeValoresForaDoHeapNoPeso() {
+        // Given - 16 KB de heap e valores grandes fora do heap
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getCachePolicy().setMaximumWeight(16 * 1024);
+        propriedades.getCachePolicy().getOffHeap().setEnabled(true);
+        propriedades.getCachePolicy().getOffHeap().setThreshold(1024);
+        CacheInteligente cachePonderado = new CacheInteligente();
+        ReflectionTestUtils.setField(cachePonderado, "propriedades", propriedades);
+        cachePonderado.inicializar();
+
+        // When - flags pequenas e um JSON de ~40 KB em UTF-16, movido para fora do heap
+        for (int i = 0; i < 50; i++) {
+            cachePonderado.armazenar("app:prod:flag." + i, "true");
+        }
+        cachePonderado.armazenar("app:prod:catalogo", "x".repeat(20_000));
+
+        // Then - o JSON não desloca as flags
+        assertThat(cachePonderado.getEntradasForaHeap()).isEqualTo(1);
+        assertThat(cachePonderado.getEvictionsPorNamespace().get("app")).isZero();
+        assertThat(cachePonderado.contemChave("app:prod:catalogo")).isTrue();
+        assertThat(cachePonderado.contemChave("app:prod:flag.0")).isTrue();
+        assertThat(cachePonderado.getPesoPorNamespace().get("app")).isLessThan(16 * 1024L);
+    }
+
+    @Test
+    void deveAplicarPoliticaPropriaPorNamespace() {
+        // Given
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        NamespaceCachePolicy politicaFlags = new NamespaceCachePolicy();
+        politicaFlags.setMaximumSize(2L);
+        propriedades.getCachePolicy().getNamespaces().put("flags", politicaFlags);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CacheInteligente cacheNamespaces = new CacheInteligente();
+        ReflectionTestUtils.setField(cacheNamespaces, "propriedades", propriedades);
+        ReflectionTestUtils.setField(cacheNamespaces, "meterRegistry", registry);
+        cacheNamespaces.inicializar();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            cacheNamespaces.armazenar("flags:prod:feature." + i, "true");
+            cacheNamespaces.armazenar("app:prod:chave." + i, "valor");
+        }
+
+        // Then - apenas o namespace flags é limitado a 2 entradas
+        assertThat(cacheNamespaces.getEvictionsPorNamespace().get("flags")).isEqualTo(8);
+        assertThat(cacheNamespaces.getEvictionsPorNamespace().get("app")).isZero();
+        assertThat(cacheNamespaces.getTamanho()).isEqualTo(12);
+        assertThat(registry.get("config.client.cache.evictions").tag("namespace", "flags").functionCounter().count())
+            .isEqualTo(8.0);
+        assertThat(registry.get("config.client.cache.weighted.size").tag("namespace", "app").gauge().value())
+            .isPositive();
+    }
+
+    @Test
+    void deveGuardarRevisaoEInstanteDaAtualizacaoNaEntrada() {
+        // Given
+        long antes = System.currentTimeMillis();
+
+        // When
+        cache.armazenar("app:prod:pool.size", "10", 42L);
+        cache.armazenar("app:prod:timeout", "5000");
+
+        // Then
+        assertThat(cache.buscarRevisao("app:prod:pool.size")).hasValue(42L);
+        assertThat(cache.buscarRevisao("app:prod:timeout")).isEmpty();
+        assertThat(cache.buscarAtualizadoEm("app:prod:pool.size").getAsLong()).isGreaterThanOrEqualTo(antes);
+        assertThat(cache.buscarAtualizadoEm("app:prod:inexistente")).isEmpty();
+    }
+
+    @Test
+    void deveManterValoresGrandesForaDoHeap() {
+        // Given
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getCachePolicy().getOffHeap().setEnabled(true);
+        propriedades.getCachePolicy().getOffHeap().setThreshold(1024);
+        CacheInteligente cacheForaHeap = new CacheInteligente();
+        ReflectionTestUtils.setField(cacheForaHeap, "propriedades", propriedades);
+        cacheForaHeap.inicializar();
+        String regras = "{\"regras\":[" + "{\"id\":\"ação\"},".repeat(5_000) + "{}]}";
+
+        // When
+        cacheForaHeap.armazenar("app:prod:regras", regras);
+        cacheForaHeap.armazenar("app:prod:flag", "true");
+
+        // Then - apenas o valor grande vai para fora do heap e é lido integralmente
+        assertThat(cacheForaHeap.getEntradasForaHeap()).isEqualTo(1);
+        assertThat(cacheForaHeap.getBytesForaHeap()).isEqualTo(regras.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(cacheForaHeap.buscar("app:prod:regras")).hasValue(regras);
+        assertThat(cacheForaHeap.buscar("app:prod:regras")).hasValue(regras);
+        assertThat(cacheForaHeap.buscar("app:prod:flag")).hasValue("true");
+
+        // When - substituição por um valor pequeno libera o bloco
+        cacheForaHeap.armazenar("app:prod:regras", "{}");
+
+        // Then
+        assertThat(cacheForaHeap.getBytesForaHeap()).isZero();
+        assertThat(cacheForaHeap.getEntradasForaHeap()).isZero();
+        assertThat(cacheForaHeap.buscar("app:prod:regras")).hasValue("{}");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"deflate", "lz4"})
+    void deveComprimirValoresGrandesDeFormaTransparente(String codec) {
+        // Given
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getCachePolicy().getCompression().setEnabled(true);
+        propriedades.getCachePolicy().getCompression().setCodec(codec);
+        CacheInteligente cacheComprimido = new CacheInteligente();
+        ReflectionTestUtils.setField(cacheComprimido, "propriedades", propriedades);
+        cacheComprimido.inicializar();
+        String json = "{\"itens\":[" + "{\"sku\":\"ABC-123\",\"preço\":10.5},".repeat(200) + "{}]}";
+
+        // When
+        cacheComprimido.armazenar("app:prod:catalogo", json);
+        cacheComprimido.armazenar("app:prod:flag", "true");
+
+        // Then
+        assertThat(cacheComprimido.getBytesEconomizadosCompressao()).isPositive();
+        assertThat(cacheComprimido.buscar("app:prod:catalogo")).hasValue(json);
+        assertThat(cacheComprimido.buscar("app:prod:catalogo")).hasValue(json);
+        assertThat(cacheComprimido.buscar("app:prod:flag")).hasValue("true");
+
+        // When
+        cacheComprimido.invalidar("app:prod:catalogo");
+
+        // Then
+        assertThat(cacheComprimido.getBytesEconomizadosCompressao()).isZero();
+    }
+
+    @Test
+    void deveCarregarDoServidorUmaVezParaBuscasSimultaneas() throws Exception {
+        // Given - carga lenta, liberada só depois de todas as buscas iniciadas
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        when(servicoCliente.buscarValorServidor("app", "prod", "feature.ativa")).thenAnswer(invocacao -> {
+            liberarCarga.await(5, TimeUnit.SECONDS);
+            return "true";
+        });
+        CacheInteligente cacheCarregado = criarCacheComServidor();
+
+        // When
+        List<CompletableFuture<Optional<String>>> buscas = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            buscas.add(cacheCarregado.obterAsync("app:prod:feature.ativa"));
+        }
+        liberarCarga.countDown();
+
+        // Then - uma única requisição atende todas as buscas e o tempo de carga é contabilizado
+        for (CompletableFuture<Optional<String>> busca : buscas) {
+            assertThat(busca.get(5, TimeUnit.SECONDS)).hasValue("true");
+        }
+        verify(servicoCliente, times(1)).buscarValorServidor("app", "prod", "feature.ativa");
+        assertThat(cacheCarregado.buscar("app:prod:feature.ativa")).hasValue("true");
+        // Estatísticas da carga são registradas em paralelo às buscas, ao completar a carga
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cacheCarregado.getEstatisticas().loadCount() == 0 && System.nanoTime() < prazo) {
+            Thread.onSpinWait();
+        }
+        assertThat(cacheCarregado.getEstatisticas().loadCount()).isEqualTo(1);
+        assertThat(cacheCarregado.getEstatisticas().averageLoadPenalty()).isPositive();
+        cacheCarregado.finalizar();
+    }
+
+    @Test
+    void deveRetornarVazioQuandoChaveNaoExisteNoServidor() {
+        // Given
+        when(servicoCliente.buscarValorServidor("app", "prod", "inexistente")).thenReturn(null);
+        when(servicoCliente.buscarValorServidor("app", "prod", "instavel")).thenThrow(new IllegalStateException("timeout"));
+        CacheInteligente cacheCarregado = criarCacheComServidor();
+
+        // When / Then
+        assertThat(cacheCarregado.obter("app:prod:inexistente")).isEmpty();
+        assertThat(cacheCarregado.obter("app:prod:instavel")).isEmpty();
+        assertThat(cacheCarregado.contemChave("app:prod:inexistente")).isFalse();
+        verify(servicoCliente).buscarValorServidor("app", "prod", "instavel");
+        cacheCarregado.finalizar();
+    }
+
+    @Test
+    void deveCarregarVariasChavesComUmaRequisicaoPorNamespace() throws Exception {
+        // Given
+        when(servicoCliente.buscarMapaServidor("app", "prod")).thenReturn(Map.of("a", "1", "b", "2", "outra", "3"));
+        when(servicoCliente.buscarMapaServidor("pagamentos", "prod")).thenReturn(Map.of("limite", "500"));
+        CacheInteligente cacheCarregado = criarCacheComServidor();
+        cacheCarregado.armazenar("app:prod:x", "em-cache");
+
+        // When
+        Map<String, String> valores = cacheCarregado.obterTodos(List.of(
+            "app:prod:a", "app:prod:b", "app:prod:c", "app:prod:x", "pagamentos:prod:limite", "pagamentos:prod:taxa"));
+
+        // Then - chaves ausentes do servidor ficam fora; chaves em cache não são requisitadas
+        assertThat(valores).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "app:prod:a", "1", "app:prod:b", "2", "app:prod:x", "em-cache", "pagamentos:prod:limite", "500"));
+        verify(servicoCliente, times(1)).buscarMapaServidor("app", "prod");
+        verify(servicoCliente, times(1)).buscarMapaServidor("pagamentos", "prod");
+        verify(servicoCliente, never()).buscarValorServidor(anyString(), anyString(), anyString());
+        assertThat(cacheCarregado.buscar("app:prod:b")).hasValue("2");
+        assertThat(cacheCarregado.contemChave("app:prod:outra")).isFalse();
+        cacheCarregado.finalizar();
+    }
+
+    @Test
+    void deveManterBuscarSemCargaDoServidor() {
+        // Given
+        CacheInteligente cacheCarregado = criarCacheComServidor();
+
+        // When / Then
+        assertThat(cacheCarregado.buscar("app:prod:chave")).isEmpty();
+        verifyNoInteractions(servicoCliente);
+        cacheCarregado.finalizar();
+    }
+
+    @Test
+    void deveConsultarCacheCompartilhadoAntesDoServidor() {
+        // Given
+        when(cacheCompartilhado.buscar("app:prod:compartilhada")).thenReturn("do-redis");
+        when(servicoCliente.buscarValorServidor("app", "prod", "nova")).thenReturn("do-servidor");
+        CacheInteligente cacheCarregado = criarCacheComServidor();
+        ReflectionTestUtils.setField(cacheCarregado, "cacheCompartilhado", cacheCompartilhado);
+
+        // When / Then - acerto no L2 não chega ao servidor; ausência é carregada e gravada no L2
+        assertThat(cacheCarregado.obter("app:prod:compartilhada")).hasValue("do-redis");
+        assertThat(cacheCarregado.obter("app:prod:nova")).hasValue("do-servidor");
+        verify(servicoCliente, never()).buscarValorServidor("app", "prod", "compartilhada");
+        verify(cacheCompartilhado).armazenar("app:prod:nova", "do-servidor");
+        cacheCarregado.finalizar();
+    }
+
+    @Test
+    void deveCarregarDoServidorApenasAsChavesAusentesDoCacheCompartilhado() throws Exception {
+        // Given
+        when(cacheCompartilhado.buscarTodos(anyCollection())).thenReturn(Map.of("app:prod:a", "1"));
+        when(servicoCliente.buscarMapaServidor("app", "prod")).thenReturn(Map.of("a", "velho", "b", "2", "c", "3"));
+        CacheInteligente cacheCarregado = criarCacheComServidor();
+        ReflectionTestUtils.setField(cacheCarregado, "cacheCompartilhado", cacheCompartilhado);
+
+        // When
+        Map<String, String> valores = cacheCarregado.obterTodos(List.of("app:prod:a", "app:prod:b", "app:prod:c"));
+
+        // Then
+        assertThat(valores).containsExactlyInAnyOrderEntriesOf(Map.of("app:prod:a", "1", "app:prod:b", "2", "app:prod:c", "3"));
+        verify(servicoCliente, times(1)).buscarMapaServidor("app", "prod");
+        verify(cacheCompartilhado).armazenarTodos(Map.of("app:prod:b", "2", "app:prod:c", "3"));
+        cacheCarregado.finalizar();
+    }
+
+    @Test
+    void deveRecarregarDoServidorEAtualizarCacheCompartilhado() throws InterruptedException {
+        // Given
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getCachePolicy().setRefreshAfterWrite(50);
+        CacheInteligente cacheCarregado = new CacheInteligente();
+        ReflectionTestUtils.setField(cacheCarregado, "propriedades", propriedades);
+        ReflectionTestUtils.setField(cacheCarregado, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(cacheCarregado, "cacheCompartilhado", cacheCompartilhado);
+        cacheCarregado.inicializar();
+        when(cacheCompartilhado.buscar("app:prod:limite")).thenReturn("velho");
+        when(servicoCliente.buscarValorServidor("app", "prod", "limite")).thenReturn("novo");
+        assertThat(cacheCarregado.obter("app:prod:limite")).hasValue("velho");
+        Thread.sleep(100);
+
+        // When - a leitura após o refreshAfterWrite dispara a recarga
+        cacheCarregado.obter("app:prod:limite");
+
+        // Then - a recarga não consulta o L2 e grava nele o valor do servidor
+        long limite = System.currentTimeMillis() + 5000;
+        while (!Optional.of("novo").equals(cacheCarregado.buscar("app:prod:limite")) && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+        }
+        assertThat(cacheCarregado.buscar("app:prod:limite")).hasValue("novo");
+        verify(cacheCompartilhado, times(1)).buscar("app:prod:limite");
+        verify(cacheCompartilhado).aplicarMudancas(Map.of("app:prod:limite", "novo"));
+        cacheCarregado.finalizar();
+    }
+
+    @Test
+    void deveAvaliarHealthPelaJanelaRecente() {
+        // Given
+        AtomicLong relogio = new AtomicLong(1_700_000_000_000L);
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getCachePolicy().setHealthMinRequests(20);
+        CacheInteligente cacheJanela = new CacheInteligente();
+        ReflectionTestUtils.setField(cacheJanela, "propriedades", propriedades);
+        ReflectionTestUtils.setField(cacheJanela, "estatisticasJanela", new EstatisticasJanela(relogio::get));
+        cacheJanela.inicializar();
+        cacheJanela.armazenar("app:prod:a", "1");
+
+        // When / Then - poucas requisições não derrubam uma instância recém-iniciada
+        for (int i = 0; i < 5; i++) {
+            cacheJanela.buscar("app:prod:inexistente");
+        }
+        assertThat(cacheJanela.health().getStatus().getCode()).isEqualTo("UP");
+
+        // When / Then - colapso recente da taxa de acertos
+        for (int i = 0; i < 20; i++) {
+            cacheJanela.buscar("app:prod:inexistente");
+        }
+        assertThat(cacheJanela.health().getStatus().getCode()).isEqualTo("DOWN");
+        assertThat(cacheJanela.health().getDetails()).containsEntry("window-requests", 25L);
+
+        // When / Then - após a janela apenas os acertos recentes contam, embora o total acumulado siga baixo
+        relogio.addAndGet(Duration.ofMinutes(6).toMillis());
+        for (int i = 0; i < 30; i++) {
+            cacheJanela.buscar("app:prod:a");
+        }
+        assertThat(cacheJanela.getEstatisticas().hitRate()).isLessThan(0.7);
+        assertThat(cacheJanela.health().getStatus().getCode()).isEqualTo("UP");
+        assertThat(cacheJanela.getEstatisticasRecentes(CacheInteligente.JANELA_CURTA).getAcertos()).isEqualTo(30);
+    }
+
+    @Test
+    void deveRegistrarLeiturasEAusenciasNoPerfilDeAcessos() {
+        // Given
+        when(servicoCliente.buscarValorServidor("app", "prod", "carregada")).thenReturn("valor");
+        PerfilAcessos perfil = new PerfilAcessos();
+        perfil.inicializar();
+        CacheInteligente cacheCarregado = new CacheInteligente();
+        ReflectionTestUtils.setField(cacheCarregado, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(cacheCarregado, "perfilAcessos", perfil);
+        cacheCarregado.inicializar();
+        cacheCarregado.armazenar("app:prod:armazenada", "valor");
+
+        // When
+        cacheCarregado.buscar("app:prod:armazenada");
+        cacheCarregado.buscar("app:prod:armazenada");
+        cacheCarregado.buscar("app:prod:ausente");
+        cacheCarregado.obter("app:prod:carregada");
+        cacheCarregado.obter("app:prod:carregada");
+
+        // Then - a segunda leitura de app:prod:carregada já é atendida pelo cache
+        assertThat(perfil.getChavesMaisLidas(10)).containsOnly(
+            entry("app:prod:armazenada", 2L), entry("app:prod:carregada", 2L), entry("app:prod:ausente", 1L));
+        assertThat(perfil.getChavesComMaisAusencias(10)).containsOnly(
+            entry("app:prod:ausente", 1L), entry("app:prod:carregada", 1L));
+        assertThat(perfil.getChavesNuncaLidas(List.of("app:prod:armazenada", "app:prod:nunca"))).containsExactly("app:prod:nunca");
+        cacheCarregado.finalizar();
+    }
+
+    private CacheInteligente criarCacheComServidor() {
+        CacheInteligente cacheCarregado = new CacheInteligente();
+        ReflectionTestUtils.setField(cacheCarregado, "servicoCliente", servicoCliente);
+        cacheCarregado.inicializar();
+        return cacheCarregado;
+    }
+}
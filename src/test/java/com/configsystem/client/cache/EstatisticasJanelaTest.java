@@ -0,0 +1,98 @@
+package com.configsystem.client.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários das estatísticas em janelas deslizantes
+ */
+class EstatisticasJanelaTest {
+
+    private final AtomicLong relogio = new AtomicLong(1_700_000_000_000L);
+    private EstatisticasJanela estatisticas;
+    private StatsCounter contador;
+
+    @BeforeEach
+    void setUp() {
+        estatisticas = new EstatisticasJanela(relogio::get);
+        contador = estatisticas.criarContador();
+    }
+
+    @Test
+    void deveConsiderarApenasEventosDentroDaJanela() {
+        // Given - misses antigos e acertos recentes
+        contador.recordMisses(90);
+        contador.recordHits(10);
+        relogio.addAndGet(Duration.ofMinutes(2).toMillis());
+        contador.recordHits(30);
+        contador.recordEviction(1, RemovalCause.SIZE);
+
+        // When
+        EstatisticasJanela.Resumo minuto = estatisticas.resumir(Duration.ofMinutes(1));
+        EstatisticasJanela.Resumo cincoMinutos = estatisticas.resumir(Duration.ofMinutes(5));
+
+        // Then - acumulado segue no snapshot do Caffeine
+        assertThat(minuto.getRequisicoes()).isEqualTo(30);
+        assertThat(minuto.getTaxaAcertos()).isEqualTo(1.0);
+        assertThat(minuto.getEvictions()).isEqualTo(1);
+        assertThat(cincoMinutos.getRequisicoes()).isEqualTo(130);
+        assertThat(cincoMinutos.getTaxaAcertos()).isEqualTo(40.0 / 130);
+        assertThat(contador.snapshot().hitCount()).isEqualTo(40);
+        assertThat(contador.snapshot().missCount()).isEqualTo(90);
+    }
+
+    @Test
+    void deveDescartarFatiasReaproveitadasDoAnel() {
+        // Given
+        contador.recordMisses(50);
+
+        // When - após uma volta completa do anel a mesma fatia recebe o novo período
+        relogio.addAndGet(Duration.ofMinutes(5).toMillis());
+        contador.recordHits(5);
+
+        // Then
+        EstatisticasJanela.Resumo resumo = estatisticas.resumir(Duration.ofMinutes(5));
+        assertThat(resumo.getAcertos()).isEqualTo(5);
+        assertThat(resumo.getAusencias()).isZero();
+    }
+
+    @Test
+    void deveEstimarPercentisDaLatenciaDeCarga() {
+        // Given
+        for (int i = 0; i < 90; i++) {
+            contador.recordLoadSuccess(TimeUnit.MILLISECONDS.toNanos(2));
+        }
+        for (int i = 0; i < 10; i++) {
+            contador.recordLoadFailure(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        // When
+        EstatisticasJanela.Resumo resumo = estatisticas.resumir(Duration.ofMinutes(1));
+
+        // Then
+        assertThat(resumo.getCargas()).isEqualTo(90);
+        assertThat(resumo.getFalhasCarga()).isEqualTo(10);
+        assertThat(resumo.getMediaCargaNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(118) / 10.0);
+        assertThat(resumo.getPercentilCargaNanos(0.50)).isBetween(2_000_000L, 2_500_000L);
+        assertThat(resumo.getPercentilCargaNanos(0.95)).isBetween(100_000_000L, 125_000_000L);
+        assertThat(estatisticas.resumir(Duration.ofMinutes(1)).getPercentilCargaNanos(0.99)).isPositive();
+    }
+
+    @Test
+    void deveLimitarErroDasFaixasDeLatencia() {
+        for (long nanos = 1024; nanos < TimeUnit.SECONDS.toNanos(100); nanos = nanos * 3 / 2 + 7) {
+            long limite = EstatisticasJanela.limiteSuperiorFaixa(EstatisticasJanela.faixaLatencia(nanos));
+            assertThat(limite).isGreaterThan(nanos).isLessThanOrEqualTo(nanos + nanos / 4 + 1);
+        }
+        assertThat(EstatisticasJanela.faixaLatencia(500)).isZero();
+        assertThat(EstatisticasJanela.faixaLatencia(Long.MAX_VALUE)).isEqualTo(EstatisticasJanela.faixaLatencia(1L << 41));
+    }
+}
@@ -0,0 +1,169 @@
+package com.configsystem.client.handle;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.processador.ProcessadorValorConfiguracao;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes dos handles vivos de configuração
+ */
+class ConfigHandleTest {
+
+    private ServicoClienteConfiguracao servicoCliente;
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @BeforeEach
+    void setUp() {
+        propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.setNamespace("app");
+        propriedades.setEnvironment("prod");
+
+        // Sem servidor: os valores chegam apenas pelo cache local
+        servicoCliente = new ServicoClienteConfiguracao(propriedades) {
+            @Override
+            public String buscarValorConfiguracao(String chave, String namespace, String environment) {
+                return obterCacheLocal().get(namespace + ":" + environment + ":" + chave);
+            }
+
+            @Override
+            public Map<String, String> buscarTodasConfiguracoes(String namespace, String environment) {
+                return Map.of();
+            }
+        };
+        ReflectionTestUtils.setField(servicoCliente, "propriedades", propriedades);
+    }
+
+    static class BeanComHandles {
+        @ValorConfiguracao(value = "pool.size", defaultValue = "5")
+        IntConfigHandle tamanhoPool;
+
+        @ValorConfiguracao(value = "feature.nova")
+        BooleanConfigHandle featureNova;
+
+        @ValorConfiguracao(value = "app.timeout", defaultValue = "PT30S")
+        ConfigHandle<Duration> timeout;
+    }
+
+    @Test
+    void deveAtualizarHandlesNoLugarAcadaMudanca() {
+        // Given
+        servicoCliente.armazenarValorLocal("pool.size", "app", "prod", "10");
+        IntConfigHandle tamanhoPool = servicoCliente.obterHandleInt("pool.size", 1);
+        LongConfigHandle timeout = servicoCliente.obterHandleLong("timeout", 1000L);
+        ConfigHandle<Duration> ttl = servicoCliente.obterHandle("cache.ttl", Duration.class, Duration.ofSeconds(30));
+        ConfigHandle<List<String>> hosts = servicoCliente.obterHandle("allowed.hosts", "app", "prod",
+            valor -> List.of(valor.split(",")), List.of());
+
+        // Then - valor atual ou padrão
+        assertThat(tamanhoPool.get()).isEqualTo(10);
+        assertThat(timeout.get()).isEqualTo(1000L);
+        assertThat(ttl.get()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(hosts.get()).isEmpty();
+
+        // When
+        servicoCliente.armazenarValorLocal("pool.size", "app", "prod", "20");
+        servicoCliente.armazenarValorLocal("allowed.hosts", "app", "prod", "a,b");
+        servicoCliente.armazenarValorLocal("cache.ttl", "app", "prod", "PT1M");
+
+        // Then
+        assertThat(tamanhoPool.get()).isEqualTo(20);
+        assertThat(ttl.get()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(hosts.get()).containsExactly("a", "b");
+
+        // When - remoção da chave restaura o padrão
+        servicoCliente.removerValorLocal("pool.size", "app", "prod");
+
+        // Then
+        assertThat(tamanhoPool.get()).isEqualTo(1);
+    }
+
+    static class BeanComPadraoInvalido {
+        @ValorConfiguracao(value = "pool.size", defaultValue = "muitos")
+        IntConfigHandle tamanhoPool;
+
+        @ValorConfiguracao(value = "app.versao", defaultValue = "1.0.0")
+        String versao;
+    }
+
+    @Test
+    void deveManterUltimoValorValidoQuandoConversaoFalha() {
+        // Given
+        LongConfigHandle timeout = servicoCliente.obterHandleLong("timeout", 1000L);
+        servicoCliente.armazenarValorLocal("timeout", "app", "prod", "5000");
+
+        // When
+        servicoCliente.armazenarValorLocal("timeout", "app", "prod", "nao-numerico");
+
+        // Then
+        assertThat(timeout.get()).isEqualTo(5000L);
+    }
+
+    @Test
+    void deveInjetarHandlesEmCamposAnotados() {
+        // Given
+        ProcessadorValorConfiguracao processador = new ProcessadorValorConfiguracao();
+        ReflectionTestUtils.setField(processador, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(processador, "propriedades", propriedades);
+        servicoCliente.armazenarValorLocal("feature.nova", "app", "prod", "true");
+        BeanComHandles bean = new BeanComHandles();
+
+        // When
+        processador.postProcessAfterInitialization(bean, "beanComHandles");
+        IntConfigHandle handleInjetado = bean.tamanhoPool;
+        servicoCliente.armazenarValorLocal("pool.size", "app", "prod", "42");
+        servicoCliente.armazenarValorLocal("app.timeout", "app", "prod", "PT1M");
+
+        // Then - o mesmo handle é atualizado, sem reinjeção do campo
+        assertThat(bean.tamanhoPool).isSameAs(handleInjetado);
+        assertThat(bean.tamanhoPool.get()).isEqualTo(42);
+        assertThat(bean.featureNova.get()).isTrue();
+        assertThat(bean.timeout.get()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(processador.getQuantidadeVinculos()).isZero();
+    }
+
+    @Test
+    void deveUsarPadraoDoTipoQuandoValorPadraoDaAnotacaoEhInvalido() {
+        // Given
+        ProcessadorValorConfiguracao processador = new ProcessadorValorConfiguracao();
+        ReflectionTestUtils.setField(processador, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(processador, "propriedades", propriedades);
+        BeanComPadraoInvalido bean = new BeanComPadraoInvalido();
+
+        // When - o padrão inválido é registrado como erro, sem interromper o pós-processamento
+        processador.postProcessAfterInitialization(bean, "beanComPadraoInvalido");
+
+        // Then
+        assertThat(bean.tamanhoPool.get()).isZero();
+        assertThat(bean.versao).isEqualTo("1.0.0");
+    }
+
+    @Test
+    void deveDescartarHandlesSemReferencias() throws Exception {
+        // Given - um handle mantido pela aplicação e outros descartados, como os de beans prototype coletados
+        IntConfigHandle mantido = servicoCliente.obterHandleInt("pool.size", 1);
+        for (int i = 0; i < 10; i++) {
+            servicoCliente.obterHandleInt("pool.size", 1);
+        }
+
+        // When
+        for (int tentativa = 0; tentativa < 50 && servicoCliente.getQuantidadeHandles() > 1; tentativa++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        servicoCliente.armazenarValorLocal("pool.size", "app", "prod", "7");
+
+        // Then
+        assertThat(servicoCliente.getQuantidadeHandles()).isEqualTo(1);
+        assertThat(mantido.get()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,211 @@
+package com.configsystem.client.integracao;
+
+import com.configsystem.client.configuracao.ConfiguracaoAutoClienteConfig;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.servico.DespachanteEventosConfiguracao;
+import com.configsystem.client.servico.RegistroVersoesConfiguracao;
+import com.configsystem.client.servico.ServicoBootstrapTopicoCompactado;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import com.configsystem.client.servico.ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao;
+import com.configsystem.client.servico.ServicoProcessamentoMudanca;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.condition.EmbeddedKafkaCondition;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes de integração do bootstrap do cache a partir de um tópico compactado
+ */
+@EmbeddedKafka(partitions = 2, topics = {"config-snapshot-test", "config-snapshot-falha-test", "config-snapshot-revisao-test"})
+class BootstrapTopicoCompactadoTest {
+
+    private static final String TOPICO = "config-snapshot-test";
+    private static final String TOPICO_FALHA = "config-snapshot-falha-test";
+    private static final String TOPICO_REVISAO = "config-snapshot-revisao-test";
+
+    private Producer<String, String> produtor;
+    private ServicoClienteConfiguracao servicoCliente;
+    private PropriedadesClienteConfiguracao propriedades;
+    private RegistroVersoesConfiguracao registroVersoes;
+    private ServicoProcessamentoMudanca processamento;
+    private ServicoBootstrapTopicoCompactado bootstrap;
+    private final BlockingQueue<EventoMudancaConfiguracao> eventos = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedKafkaBroker broker = EmbeddedKafkaCondition.getBroker();
+        Map<String, Object> propsProdutor = KafkaTestUtils.producerProps(broker);
+        produtor = new KafkaProducer<>(propsProdutor, new StringSerializer(), new StringSerializer());
+
+        propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.setServerUrl("http://localhost:1"); // servidor inexistente: nenhuma carga HTTP deve ocorrer
+        propriedades.setNamespace("app");
+        propriedades.setEnvironment("prod");
+        propriedades.getKafka().setBootstrapServers(broker.getBrokersAsString());
+        propriedades.getKafka().setSnapshotTopic(TOPICO);
+        propriedades.getKafka().setSnapshotTimeout(10000);
+
+        servicoCliente = new ServicoClienteConfiguracao(propriedades);
+        ReflectionTestUtils.setField(servicoCliente, "propriedades", propriedades);
+        ReflectionTestUtils.setField(servicoCliente, "objectMapper", new ObjectMapper());
+
+        ConfiguracaoAutoClienteConfig configuracao = new ConfiguracaoAutoClienteConfig();
+        ReflectionTestUtils.setField(configuracao, "propriedades", propriedades);
+
+        DespachanteEventosConfiguracao despachante = new DespachanteEventosConfiguracao();
+        ReflectionTestUtils.setField(despachante, "propriedades", propriedades);
+        ReflectionTestUtils.setField(despachante, "publicadorEventos",
+            (ApplicationEventPublisher) evento -> eventos.add((EventoMudancaConfiguracao) evento));
+        despachante.inicializar();
+
+        registroVersoes = new RegistroVersoesConfiguracao();
+        registroVersoes.inicializar();
+
+        processamento = new ServicoProcessamentoMudanca();
+        ReflectionTestUtils.setField(processamento, "propriedades", propriedades);
+        ReflectionTestUtils.setField(processamento, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(processamento, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(processamento, "despachante", despachante);
+        ReflectionTestUtils.setField(processamento, "registroVersoes", registroVersoes);
+
+        bootstrap = new ServicoBootstrapTopicoCompactado();
+        ReflectionTestUtils.setField(bootstrap, "propriedades", propriedades);
+        ReflectionTestUtils.setField(bootstrap, "processamento", processamento);
+        ReflectionTestUtils.setField(bootstrap, "fabricaConsumidor", configuracao.fabricaConsumidor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bootstrap.finalizar();
+        produtor.close();
+    }
+
+    @Test
+    void deveSemearCacheComSnapshotEAcompanharMudancas() throws Exception {
+        // Given - snapshot com atualização e remoção (tombstone)
+        produtor.send(new ProducerRecord<>(TOPICO, "app:prod:database.url", "jdbc:postgresql://db:5432/app")).get();
+        produtor.send(new ProducerRecord<>(TOPICO, "app:prod:pool.size", "10")).get();
+        produtor.send(new ProducerRecord<>(TOPICO, "app:prod:pool.size", "20")).get();
+        produtor.send(new ProducerRecord<>(TOPICO, "app:prod:feature.antiga", "true")).get();
+        produtor.send(new ProducerRecord<>(TOPICO, "app:prod:feature.antiga", null)).get();
+
+        // When
+        bootstrap.inicializar();
+
+        // Then - cache semeado sem eventos de mudança
+        assertThat(bootstrap.isCarregado()).isTrue();
+        assertThat(bootstrap.getRegistrosCarregados()).isEqualTo(5);
+        assertThat(servicoCliente.buscarValorConfiguracao("database.url")).isEqualTo("jdbc:postgresql://db:5432/app");
+        assertThat(servicoCliente.buscarValorConfiguracao("pool.size")).isEqualTo("20");
+        assertThat(servicoCliente.obterCacheLocal()).doesNotContainKey("app:prod:feature.antiga");
+        assertThat(eventos).isEmpty();
+
+        // When - nova mudança publicada após a carga
+        produtor.send(new ProducerRecord<>(TOPICO, "app:prod:pool.size", "30")).get();
+
+        // Then - acompanhamento em tempo real publica o evento
+        EventoMudancaConfiguracao evento = eventos.poll(10, TimeUnit.SECONDS);
+        assertThat(evento).isNotNull();
+        assertThat(evento.getChave()).isEqualTo("pool.size");
+        assertThat(evento.getTipoMudanca()).isEqualTo("UPDATE");
+        assertThat(servicoCliente.buscarValorConfiguracao("pool.size")).isEqualTo("30");
+    }
+
+    @Test
+    void deveDescartarRegistroAcompanhadoComRevisaoObsoleta() throws Exception {
+        // Given - snapshot na revisão 5
+        propriedades.getKafka().setSnapshotTopic(TOPICO_REVISAO);
+        produtor.send(registro("app:prod:pool.size", "10", 5)).get();
+        bootstrap.inicializar();
+        assertThat(registroVersoes.obterRevisaoAplicada("app", "prod", "pool.size")).isEqualTo(5L);
+
+        // When - registro atrasado com revisão 4, seguido da revisão 6
+        produtor.send(registro("app:prod:pool.size", "antigo", 4)).get();
+        produtor.send(registro("app:prod:pool.size", "30", 6)).get();
+
+        // Then - apenas a revisão 6 é aplicada e despachada
+        EventoMudancaConfiguracao evento = eventos.poll(10, TimeUnit.SECONDS);
+        assertThat(evento).isNotNull();
+        assertThat(evento.getRevisao()).isEqualTo(6L);
+        assertThat(servicoCliente.buscarValorConfiguracao("pool.size")).isEqualTo("30");
+        assertThat(registroVersoes.getEventosObsoletos()).isEqualTo(1);
+        assertThat(eventos).isEmpty();
+    }
+
+    @Test
+    void deveContinuarAcompanhamentoQuandoRegistroFalha() throws Exception {
+        // Given
+        propriedades.getKafka().setSnapshotTopic(TOPICO_FALHA);
+        produtor.send(new ProducerRecord<>(TOPICO_FALHA, "app:prod:pool.size", "10")).get();
+        ServicoClienteConfiguracao servicoFalho = spy(servicoCliente);
+        doThrow(new IllegalStateException("falha simulada"))
+            .when(servicoFalho).armazenarValorLocal(eq("quebrada"), anyString(), anyString(), anyString());
+        ReflectionTestUtils.setField(processamento, "servicoCliente", servicoFalho);
+        bootstrap.inicializar();
+        assertThat(bootstrap.isCarregado()).isTrue();
+
+        // When - um registro falha ao ser aplicado e outro chega em seguida
+        produtor.send(new ProducerRecord<>(TOPICO_FALHA, "app:prod:quebrada", "x")).get();
+        produtor.send(new ProducerRecord<>(TOPICO_FALHA, "app:prod:pool.size", "20")).get();
+
+        // Then - o acompanhamento segue ativo
+        EventoMudancaConfiguracao evento = eventos.poll(10, TimeUnit.SECONDS);
+        assertThat(evento).isNotNull();
+        assertThat(evento.getChave()).isEqualTo("pool.size");
+        assertThat(bootstrap.isCarregado()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRetomarSincronizacaoHttpQuandoConsumidorFalha() throws Exception {
+        // Given
+        propriedades.getKafka().setSnapshotTopic(TOPICO_FALHA);
+        bootstrap.inicializar();
+        assertThat(bootstrap.isCarregado()).isTrue();
+
+        // When - falha inesperada do consumidor
+        Consumer<String, String> consumidorReal =
+            (Consumer<String, String>) ReflectionTestUtils.getField(bootstrap, "consumidor");
+        Consumer<String, String> consumidorFalho = mock(Consumer.class);
+        when(consumidorFalho.poll(any(Duration.class))).thenThrow(new KafkaException("falha simulada"));
+        ReflectionTestUtils.setField(bootstrap, "consumidor", consumidorFalho);
+
+        // Then - o snapshot deixa de ser considerado carregado
+        long limite = System.currentTimeMillis() + 10_000;
+        while (bootstrap.isCarregado() && System.currentTimeMillis() < limite) {
+            Thread.sleep(50);
+        }
+        assertThat(bootstrap.isCarregado()).isFalse();
+        verify(consumidorFalho).close();
+        consumidorReal.close();
+    }
+
+    private static ProducerRecord<String, String> registro(String chave, String valor, long revisao) {
+        ProducerRecord<String, String> registro = new ProducerRecord<>(TOPICO_REVISAO, chave, valor);
+        registro.headers().add("revision", Long.toString(revisao).getBytes(StandardCharsets.UTF_8));
+        return registro;
+    }
+}
@@ -0,0 +1,150 @@
+package com.configsystem.client.integracao;
+
+import com.configsystem.client.cache.CacheInteligente;
+import com.configsystem.client.cache.CacheRedisCompartilhado;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes de integração do cache L2 em Redis compartilhado por várias instâncias do CacheInteligente
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CacheRedisCompartilhadoTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private LettuceConnectionFactory fabricaConexao;
+    private StringRedisTemplate redisTemplate;
+    private PropriedadesClienteConfiguracao propriedades;
+    private ServicoClienteConfiguracao servicoCliente;
+
+    @BeforeEach
+    void setUp() {
+        fabricaConexao = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        fabricaConexao.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(fabricaConexao);
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getRedis().setEnabled(true);
+        propriedades.getRedis().setBatchSize(2); // força vários MGET no mesmo pipeline
+        servicoCliente = mock(ServicoClienteConfiguracao.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fabricaConexao.destroy();
+    }
+
+    @Test
+    void deveCarregarDoServidorUmaVezParaTodasAsInstancias() throws Exception {
+        // Given
+        when(servicoCliente.buscarMapaServidor("app", "prod")).thenReturn(Map.of("a", "1", "b", "2", "c", "3"));
+        CacheInteligente primeiraInstancia = criarInstancia();
+        CacheInteligente segundaInstancia = criarInstancia();
+        List<String> chaves = List.of("app:prod:a", "app:prod:b", "app:prod:c", "app:prod:inexistente");
+
+        // When
+        Map<String, String> primeira = primeiraInstancia.obterTodos(chaves);
+        Map<String, String> segunda = segundaInstancia.obterTodos(chaves);
+
+        // Then - a segunda instância é atendida pelo Redis
+        Map<String, String> esperado = Map.of("app:prod:a", "1", "app:prod:b", "2", "app:prod:c", "3");
+        assertThat(primeira).containsExactlyInAnyOrderEntriesOf(esperado);
+        assertThat(segunda).containsExactlyInAnyOrderEntriesOf(esperado);
+        verify(servicoCliente, times(1)).buscarMapaServidor("app", "prod");
+        assertThat(redisTemplate.getExpire("config-client:app:prod:a")).isPositive();
+
+        primeiraInstancia.finalizar();
+        segundaInstancia.finalizar();
+    }
+
+    @Test
+    void deveCompartilharCargaIndividualEntreInstancias() {
+        // Given
+        when(servicoCliente.buscarValorServidor("app", "prod", "timeout")).thenReturn("5000");
+        CacheInteligente primeiraInstancia = criarInstancia();
+        CacheInteligente segundaInstancia = criarInstancia();
+
+        // When / Then
+        assertThat(primeiraInstancia.obter("app:prod:timeout")).hasValue("5000");
+        assertThat(segundaInstancia.obter("app:prod:timeout")).hasValue("5000");
+        verify(servicoCliente, times(1)).buscarValorServidor(anyString(), anyString(), anyString());
+
+        primeiraInstancia.finalizar();
+        segundaInstancia.finalizar();
+    }
+
+    @Test
+    void deveDescartarMapaDoGrupoQuandoUmaChaveMuda() {
+        // Given
+        CacheRedisCompartilhado cacheCompartilhado = criarCacheCompartilhado();
+        cacheCompartilhado.armazenarGrupo("app", "prod", Map.of("a", "1", "b", "2"));
+        assertThat(cacheCompartilhado.buscarGrupo("app", "prod")).containsExactlyInAnyOrderEntriesOf(Map.of("a", "1", "b", "2"));
+        Map<String, String> mudancas = new HashMap<>();
+        mudancas.put("app:prod:a", "novo");
+        mudancas.put("app:prod:b", null);
+
+        // When
+        cacheCompartilhado.aplicarMudancas(mudancas);
+
+        // Then - a carga seguinte do grupo volta ao servidor
+        assertThat(cacheCompartilhado.buscarGrupo("app", "prod")).isNull();
+        assertThat(cacheCompartilhado.buscar("app:prod:a")).isEqualTo("novo");
+        assertThat(cacheCompartilhado.buscar("app:prod:b")).isNull();
+    }
+
+    @Test
+    void naoDeveSobrescreverMudancaComValorCarregadoAntes() {
+        // Given - uma instância leu "antigo" do servidor; a mudança chega ao L2 antes da gravação da carga
+        CacheRedisCompartilhado cacheCompartilhado = criarCacheCompartilhado();
+        cacheCompartilhado.aplicarMudancas(Map.of("app:prod:timeout", "novo"));
+
+        // When
+        cacheCompartilhado.armazenar("app:prod:timeout", "antigo");
+        cacheCompartilhado.armazenarTodos(Map.of("app:prod:timeout", "antigo", "app:prod:pool.size", "10"));
+
+        // Then - apenas chaves ausentes são preenchidas
+        assertThat(cacheCompartilhado.buscar("app:prod:timeout")).isEqualTo("novo");
+        assertThat(cacheCompartilhado.buscar("app:prod:pool.size")).isEqualTo("10");
+    }
+
+    private CacheRedisCompartilhado criarCacheCompartilhado() {
+        CacheRedisCompartilhado cacheCompartilhado = new CacheRedisCompartilhado();
+        ReflectionTestUtils.setField(cacheCompartilhado, "propriedades", propriedades);
+        ReflectionTestUtils.setField(cacheCompartilhado, "redisTemplate", redisTemplate);
+        cacheCompartilhado.inicializar();
+        return cacheCompartilhado;
+    }
+
+    private CacheInteligente criarInstancia() {
+        CacheRedisCompartilhado cacheCompartilhado = criarCacheCompartilhado();
+
+        CacheInteligente cache = new CacheInteligente();
+        ReflectionTestUtils.setField(cache, "propriedades", propriedades);
+        ReflectionTestUtils.setField(cache, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(cache, "cacheCompartilhado", cacheCompartilhado);
+        cache.inicializar();
+        return cache;
+    }
+}
@@ -0,0 +1,107 @@
+package com.configsystem.client.integracao;
+
+import com.configsystem.client.cache.CacheInteligente;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.servico.RegistroVersoesConfiguracao;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import com.configsystem.client.servico.ServicoInvalidacaoRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes de integração da invalidação entre instâncias via Redis pub/sub
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class InvalidacaoRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private LettuceConnectionFactory fabricaConexao;
+    private StringRedisTemplate redisTemplate;
+    private PropriedadesClienteConfiguracao propriedades;
+
+    @BeforeEach
+    void setUp() {
+        fabricaConexao = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        fabricaConexao.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(fabricaConexao);
+
+        propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getRedis().setInvalidationEnabled(true);
+        propriedades.getRedis().setInvalidationMaxInlineValue(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fabricaConexao.destroy();
+    }
+
+    @Test
+    void devePropagarMudancasDetectadasParaAsDemaisInstancias() {
+        // Given
+        ServicoClienteConfiguracao clienteOrigem = mock(ServicoClienteConfiguracao.class);
+        ServicoClienteConfiguracao clienteDestino = mock(ServicoClienteConfiguracao.class);
+        CacheInteligente cacheDestino = criarCache();
+        cacheDestino.armazenar("app:prod:timeout", "5000");
+        cacheDestino.armazenar("app:prod:regras", "{\"versao\":1}");
+        ServicoInvalidacaoRedis origem = criarInstancia(clienteOrigem, criarCache());
+        ServicoInvalidacaoRedis destino = criarInstancia(clienteDestino, cacheDestino);
+
+        Map<String, String> alteradas = new HashMap<>();
+        alteradas.put("timeout", "9000");
+        alteradas.put("regras", "{\"versao\":2,\"itens\":[1,2,3]}"); // acima do limite: descartada
+        alteradas.put("flag", null);
+
+        // When
+        origem.publicar("app", "prod", alteradas, Map.of("timeout", 3L, "regras", 4L, "flag", 5L));
+
+        // Then
+        verify(clienteDestino, timeout(5000)).armazenarValorLocal("timeout", "app", "prod", "9000");
+        verify(clienteDestino, timeout(5000)).descartarValorLocal("regras", "app", "prod");
+        verify(clienteDestino, timeout(5000)).removerValorLocal("flag", "app", "prod");
+        assertThat(cacheDestino.buscar("app:prod:timeout")).hasValue("9000");
+        assertThat(cacheDestino.contemChave("app:prod:regras")).isFalse();
+        verifyNoInteractions(clienteOrigem);
+
+        origem.finalizar();
+        destino.finalizar();
+    }
+
+    private CacheInteligente criarCache() {
+        CacheInteligente cache = new CacheInteligente();
+        cache.inicializar();
+        return cache;
+    }
+
+    private ServicoInvalidacaoRedis criarInstancia(ServicoClienteConfiguracao servicoCliente, CacheInteligente cache) {
+        ServicoInvalidacaoRedis invalidacao = new ServicoInvalidacaoRedis();
+        ReflectionTestUtils.setField(invalidacao, "propriedades", propriedades);
+        ReflectionTestUtils.setField(invalidacao, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(invalidacao, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(invalidacao, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(invalidacao, "cacheInteligente", cache);
+        RegistroVersoesConfiguracao registroVersoes = new RegistroVersoesConfiguracao();
+        registroVersoes.inicializar();
+        ReflectionTestUtils.setField(invalidacao, "registroVersoes", registroVersoes);
+        invalidacao.iniciar();
+        return invalidacao;
+    }
+}
@@ -0,0 +1,122 @@
+package com.configsystem.client.monitoramento;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para o PerfilAcessos e o RastreadorFrequencia
+ */
+class PerfilAcessosTest {
+
+    private PerfilAcessos perfil;
+
+    @BeforeEach
+    void setUp() {
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getProfiler().setTopK(5);
+        perfil = new PerfilAcessos();
+        ReflectionTestUtils.setField(perfil, "propriedades", propriedades);
+        perfil.inicializar();
+    }
+
+    @Test
+    void deveIdentificarChavesMaisLidasEntreMuitasChavesFrias() {
+        // Given - 5 chaves quentes com frequências distintas entre 2000 chaves lidas poucas vezes
+        Random aleatorio = new Random(42);
+        List<String> leituras = new ArrayList<>();
+        for (int quente = 0; quente < 5; quente++) {
+            for (int i = 0; i < 500 - quente * 50; i++) {
+                leituras.add("app:prod:quente." + quente);
+            }
+        }
+        for (int fria = 0; fria < 2000; fria++) {
+            for (int i = 0; i <= fria % 3; i++) {
+                leituras.add("app:prod:fria." + fria);
+            }
+        }
+        Collections.shuffle(leituras, aleatorio);
+
+        // When
+        leituras.forEach(perfil::registrarLeitura);
+
+        // Then - ordem decrescente e estimativas nunca abaixo da frequência real
+        Map<String, Long> maisLidas = perfil.getChavesMaisLidas(3);
+        assertThat(maisLidas.keySet()).containsExactly("app:prod:quente.0", "app:prod:quente.1", "app:prod:quente.2");
+        assertThat(maisLidas.get("app:prod:quente.0")).isGreaterThanOrEqualTo(500);
+        assertThat(perfil.getChavesMaisLidas(50)).hasSize(5);
+        assertThat(perfil.getLeituras()).isEqualTo(leituras.size());
+    }
+
+    @Test
+    void deveContarAusenciasSeparadamenteDasLeituras() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            perfil.registrarLeitura("app:prod:estavel");
+        }
+        for (int i = 0; i < 3; i++) {
+            perfil.registrarLeitura("app:prod:volatil");
+            perfil.registrarAusencia("app:prod:volatil");
+        }
+
+        // Then
+        assertThat(perfil.getChavesMaisLidas(1)).containsOnlyKeys("app:prod:estavel");
+        assertThat(perfil.getChavesComMaisAusencias(5)).containsExactly(entry("app:prod:volatil", 3L));
+        assertThat(perfil.getAusencias()).isEqualTo(3);
+    }
+
+    @Test
+    void deveListarChavesConhecidasNuncaLidas() {
+        // Given
+        perfil.registrarLeitura("app:prod:lida");
+
+        // When
+        List<String> nuncaLidas = perfil.getChavesNuncaLidas(
+            List.of("app:prod:lida", "app:prod:morta.b", "app:prod:morta.a", "app:prod:morta.a"));
+
+        // Then
+        assertThat(nuncaLidas).containsExactly("app:prod:morta.a", "app:prod:morta.b");
+    }
+
+    @Test
+    void deveArredondarLarguraDoSketchParaPotenciaDeDois() {
+        assertThat(new RastreadorFrequencia(1000, 10).getLargura()).isEqualTo(1024);
+        assertThat(new RastreadorFrequencia(4096, 10).getLargura()).isEqualTo(4096);
+        assertThat(new RastreadorFrequencia(1, 10).getLargura()).isEqualTo(16);
+    }
+
+    @Test
+    void naoDeveColidirEmTodasAsLinhasChavesComMesmoHashCode() {
+        // Given - 16 chaves com o mesmo String.hashCode ("Aa" e "BB" colidem)
+        List<String> chaves = new ArrayList<>();
+        for (int combinacao = 0; combinacao < 16; combinacao++) {
+            StringBuilder chave = new StringBuilder("app:prod:");
+            for (int parte = 0; parte < 4; parte++) {
+                chave.append((combinacao >> parte & 1) == 0 ? "Aa" : "BB");
+            }
+            chaves.add(chave.toString());
+        }
+        assertThat(chaves.stream().map(String::hashCode).distinct()).hasSize(1);
+        RastreadorFrequencia rastreador = new RastreadorFrequencia(1024, 10);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            rastreador.registrar(chaves.get(0));
+        }
+
+        // Then
+        assertThat(rastreador.estimar(chaves.get(0))).isEqualTo(1000);
+        for (String chave : chaves.subList(1, chaves.size())) {
+            assertThat(rastreador.estimar(chave)).as(chave).isZero();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.configsystem.client.performance;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.processador.ProcessadorValorConfiguracao;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark da injeção inicial contra um servidor local com latência:
+ * busca chave a chave vs uma requisição em lote por namespace/environment
+ */
+class CargaInicialPerformanceTest {
+
+    private static final int NUMERO_BEANS = 100;
+    private static final long LATENCIA_MS = 5;
+
+    private MockWebServer servidor;
+    private PropriedadesClienteConfiguracao propriedades;
+    private final AtomicInteger requisicoes = new AtomicInteger();
+
+    static class BeanConfiguravel {
+        @ValorConfiguracao("pool.size")
+        private Integer tamanhoPool;
+
+        @ValorConfiguracao("timeout")
+        private Long timeout;
+
+        @ValorConfiguracao(value = "feature.nova", defaultValue = "false")
+        private Boolean featureNova;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servidor = new MockWebServer();
+        servidor.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requisicoes.incrementAndGet();
+                String caminho = request.getPath();
+                if (caminho.equals("/api/v1/configuracoes/app/prod/map")) {
+                    return comLatencia("{\"pool.size\":\"10\",\"timeout\":\"5000\"}");
+                } else if (caminho.equals("/api/configs/app/prod/pool.size")) {
+                    return comLatencia("{\"value\":\"10\"}");
+                } else if (caminho.equals("/api/configs/app/prod/timeout")) {
+                    return comLatencia("{\"value\":\"5000\"}");
+                }
+                return comLatencia("{}");
+            }
+        });
+        servidor.start();
+
+        propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.setServerUrl(servidor.url("/").toString());
+        propriedades.setNamespace("app");
+        propriedades.setEnvironment("prod");
+        // Sem cache local cada campo exige uma busca, como em contextos com chaves distintas
+        propriedades.setCacheEnabled(false);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        servidor.shutdown();
+    }
+
+    private MockResponse comLatencia(String corpo) {
+        return new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(corpo)
+            .setHeadersDelay(LATENCIA_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void benchmarkInjecaoInicial() {
+        int campos = NUMERO_BEANS * 3;
+
+        // When - busca chave a chave (comportamento após a carga inicial)
+        ProcessadorValorConfiguracao porChave = criarProcessador();
+        porChave.finalizarCargaInicial(null);
+        requisicoes.set(0);
+        long inicioPorChave = System.nanoTime();
+        BeanConfiguravel ultimoPorChave = registrarBeans(porChave);
+        long tempoPorChave = System.nanoTime() - inicioPorChave;
+        int requisicoesPorChave = requisicoes.get();
+
+        // When - carga em lote por namespace/environment
+        ProcessadorValorConfiguracao emLote = criarProcessador();
+        requisicoes.set(0);
+        long inicioEmLote = System.nanoTime();
+        BeanConfiguravel ultimoEmLote = registrarBeans(emLote);
+        long tempoEmLote = System.nanoTime() - inicioEmLote;
+        int requisicoesEmLote = requisicoes.get();
+
+        // Then
+        System.out.printf("Performance Injeção Inicial (%d campos, latência %d ms):%n", campos, LATENCIA_MS);
+        System.out.printf("  Chave a chave: %d ms, %d requisições%n", tempoPorChave / 1_000_000, requisicoesPorChave);
+        System.out.printf("  Em lote: %d ms, %d requisições%n", tempoEmLote / 1_000_000, requisicoesEmLote);
+
+        assertThat(ultimoEmLote.tamanhoPool).isEqualTo(ultimoPorChave.tamanhoPool).isEqualTo(10);
+        assertThat(ultimoEmLote.timeout).isEqualTo(ultimoPorChave.timeout).isEqualTo(5000L);
+        assertThat(ultimoEmLote.featureNova).isEqualTo(ultimoPorChave.featureNova).isFalse();
+        assertThat(requisicoesEmLote).isEqualTo(1);
+        assertThat(tempoEmLote).isLessThan(tempoPorChave);
+    }
+
+    private ProcessadorValorConfiguracao criarProcessador() {
+        ServicoClienteConfiguracao servicoCliente = new ServicoClienteConfiguracao(propriedades);
+        ReflectionTestUtils.setField(servicoCliente, "propriedades", propriedades);
+        ReflectionTestUtils.setField(servicoCliente, "objectMapper", new ObjectMapper());
+
+        ProcessadorValorConfiguracao processador = new ProcessadorValorConfiguracao();
+        ReflectionTestUtils.setField(processador, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(processador, "propriedades", propriedades);
+        return processador;
+    }
+
+    private BeanConfiguravel registrarBeans(ProcessadorValorConfiguracao processador) {
+        BeanConfiguravel bean = null;
+        for (int i = 0; i < NUMERO_BEANS; i++) {
+            bean = new BeanConfiguravel();
+            processador.postProcessAfterInitialization(bean, "bean" + i);
+        }
+        return bean;
+    }
+}
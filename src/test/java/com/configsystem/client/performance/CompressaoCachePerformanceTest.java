@@ -0,0 +1,134 @@
+package com.configsystem.client.performance;
+
+import com.configsystem.client.cache.CacheInteligente;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark da compressão de valores grandes no CacheInteligente:
+ * memória economizada vs latência adicional de leitura, com e sem a camada quente
+ */
+class CompressaoCachePerformanceTest {
+
+    private static final int NUMERO_VALORES = 2_000;
+    private static final int LEITURAS = 20_000;
+    private static final int RODADAS = 5;
+
+    private static final String[][] CENARIOS = {
+        {"sem compressão", null, "0"},
+        {"deflate, camada quente 4 MB", "deflate", "4194304"},
+        {"deflate, sem camada quente", "deflate", "0"},
+        {"lz4, camada quente 4 MB", "lz4", "4194304"},
+        {"lz4, sem camada quente", "lz4", "0"}
+    };
+
+    @Test
+    void benchmarkMemoriaELatenciaDeLeitura() {
+        String[] chaves = new String[NUMERO_VALORES];
+        for (int i = 0; i < NUMERO_VALORES; i++) {
+            chaves[i] = "app:prod:catalogo." + i;
+        }
+
+        // Primeira passada apenas aquece o JIT em todos os caminhos de leitura
+        for (String[] cenario : CENARIOS) {
+            executarCenario(chaves, cenario);
+        }
+
+        System.out.printf("Compressão no CacheInteligente (%d valores de ~%d KB, %d leituras):%n",
+            NUMERO_VALORES, documentoJson(0).length() / 1024, LEITURAS);
+
+        long memoriaSemCompressao = 0;
+        for (String[] cenario : CENARIOS) {
+            long[] resultado = executarCenario(chaves, cenario);
+            System.out.printf("  %-28s heap %6.1f MB, leitura %,8d ns/op%n",
+                cenario[0], resultado[0] / 1_048_576.0, resultado[1]);
+
+            if (cenario[1] == null) {
+                memoriaSemCompressao = resultado[0];
+            } else {
+                assertThat(resultado[0]).isLessThan(memoriaSemCompressao);
+            }
+        }
+    }
+
+    /**
+     * Executa o cenário e retorna o heap retido pelo cache e o melhor tempo médio de leitura em ns
+     */
+    private long[] executarCenario(String[] chaves, String[] cenario) {
+        CacheInteligente[] cache = new CacheInteligente[1];
+        // Valores gerados dentro da medição: o heap retido inclui o conteúdo mantido pelo cache
+        long memoria = medirMemoria(() -> {
+            cache[0] = criarCache(cenario[1], Long.parseLong(cenario[2]));
+            for (int i = 0; i < NUMERO_VALORES; i++) {
+                cache[0].armazenar(chaves[i], documentoJson(i));
+            }
+            return cache[0];
+        });
+
+        // Leituras concentradas em 5% das chaves, como em acessos reais a configurações
+        long melhor = Long.MAX_VALUE;
+        long caracteresLidos = 0;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            long inicio = System.nanoTime();
+            for (int i = 0; i < LEITURAS; i++) {
+                int indice = (i * 31) % (NUMERO_VALORES / 20);
+                caracteresLidos += cache[0].buscar(chaves[indice]).map(String::length).orElse(0);
+            }
+            melhor = Math.min(melhor, System.nanoTime() - inicio);
+        }
+        assertThat(caracteresLidos).isPositive();
+        assertThat(cache[0].buscar(chaves[7])).hasValue(documentoJson(7));
+
+        return new long[] {memoria, melhor / LEITURAS};
+    }
+
+    private static String documentoJson(int semente) {
+        StringBuilder json = new StringBuilder("{\"regras\":[");
+        for (int i = 0; i < 120; i++) {
+            json.append("{\"id\":").append(semente * 1000 + i)
+                .append(",\"condicao\":\"pedido.valor > ").append(i * 10)
+                .append("\",\"acao\":\"aplicar-desconto\",\"percentual\":").append(i % 15)
+                .append("},");
+        }
+        return json.append("{}]}").toString();
+    }
+
+    private CacheInteligente criarCache(String codec, long camadaQuente) {
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        if (codec != null) {
+            propriedades.getCachePolicy().getCompression().setEnabled(true);
+            propriedades.getCachePolicy().getCompression().setCodec(codec);
+            propriedades.getCachePolicy().getCompression().setHotCacheBytes(camadaQuente);
+        }
+        CacheInteligente cache = new CacheInteligente();
+        ReflectionTestUtils.setField(cache, "propriedades", propriedades);
+        cache.inicializar();
+        return cache;
+    }
+
+    private long medirMemoria(Supplier<Object> fornecedor) {
+        long antes = heapUsado();
+        Object estrutura = fornecedor.get();
+        long depois = heapUsado();
+        assertThat(estrutura).isNotNull();
+        return depois - antes;
+    }
+
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,125 @@
+package com.configsystem.client.performance;
+
+import com.configsystem.client.cache.CacheInteligente;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark de memória do CacheInteligente: entrada compacta vs o layout anterior
+ * (wrapper com dois LocalDateTime e um ConcurrentHashMap de timestamps mantido pelo removalListener)
+ */
+class MemoriaCachePerformanceTest {
+
+    private static final int[] QUANTIDADES = {100_000, 500_000, 1_000_000};
+
+    /**
+     * Réplica do layout anterior das entradas
+     */
+    static class CacheLayoutAnterior {
+        private final Map<String, LocalDateTime> timestamps = new ConcurrentHashMap<>();
+        private final Cache<String, ValorComTimestamp> cache = Caffeine.newBuilder()
+            .maximumSize(2_000_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .recordStats()
+            .executor(Runnable::run)
+            .removalListener((String chave, ValorComTimestamp valor, RemovalCause causa) ->
+                timestamps.remove(chave))
+            .build();
+
+        void armazenar(String chave, String valor) {
+            cache.put(chave, new ValorComTimestamp(valor, LocalDateTime.now()));
+            timestamps.put(chave, LocalDateTime.now());
+        }
+    }
+
+    static class ValorComTimestamp {
+        final String valor;
+        final LocalDateTime timestamp;
+
+        ValorComTimestamp(String valor, LocalDateTime timestamp) {
+            this.valor = valor;
+            this.timestamp = timestamp;
+        }
+    }
+
+    @Test
+    void benchmarkMemoriaPorEntrada() {
+        System.out.printf("Memória do CacheInteligente por entrada (heap retido, sem chaves e valores):%n");
+
+        for (int quantidade : QUANTIDADES) {
+            // Chaves e valor alocados antes da medição: apenas a estrutura do cache é contabilizada
+            String[] chaves = new String[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                chaves[i] = "app:prod:chave." + i;
+            }
+            String valor = "valor-configuracao";
+
+            long anterior = medir(() -> {
+                CacheLayoutAnterior cache = new CacheLayoutAnterior();
+                for (String chave : chaves) {
+                    cache.armazenar(chave, valor);
+                }
+                return cache;
+            });
+
+            long compacto = medir(() -> {
+                CacheInteligente cache = criarCache();
+                for (String chave : chaves) {
+                    cache.armazenar(chave, valor, 1L);
+                }
+                return cache;
+            });
+
+            System.out.printf("  %,9d entradas: anterior %,6.1f MB (%d B/entrada), compacto %,6.1f MB (%d B/entrada)%n",
+                quantidade, anterior / 1_048_576.0, anterior / quantidade, compacto / 1_048_576.0, compacto / quantidade);
+
+            assertThat(compacto).isLessThan(anterior);
+        }
+    }
+
+    private CacheInteligente criarCache() {
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getCachePolicy().setMaximumSize(2_000_000);
+        CacheInteligente cache = new CacheInteligente();
+        ReflectionTestUtils.setField(cache, "propriedades", propriedades);
+        cache.inicializar();
+        return cache;
+    }
+
+    /**
+     * Heap retido pela estrutura criada pelo fornecedor
+     */
+    private long medir(Supplier<Object> fornecedor) {
+        long antes = heapUsado();
+        Object estrutura = fornecedor.get();
+        long depois = heapUsado();
+        assertThat(estrutura).isNotNull();
+        return depois - antes;
+    }
+
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
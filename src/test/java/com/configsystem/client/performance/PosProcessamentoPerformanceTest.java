@@ -0,0 +1,133 @@
+package com.configsystem.client.performance;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.processador.ProcessadorValorConfiguracao;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Benchmark do pós-processamento de contextos grandes:
+ * metadados por classe (ClassValue) vs varredura da hierarquia de cada bean
+ */
+class PosProcessamentoPerformanceTest {
+
+    private static final int NUMERO_BEANS = 3_000;
+    private static final int NUMERO_RODADAS = 5;
+
+    static class ServicoBase {
+        private String nome;
+        private int prioridade;
+        private List<String> dependencias;
+    }
+
+    static class ServicoSemAnotacao extends ServicoBase {
+        private Object repositorio;
+        private Object cliente;
+        private long contador;
+    }
+
+    static class BeanAnotado extends ServicoBase {
+        @ValorConfiguracao(value = "pool.size", refreshable = true)
+        private Integer tamanhoPool;
+    }
+
+    @Test
+    void benchmarkPosProcessamentoContextoGrande() {
+        List<Object> beans = criarContexto();
+        ServicoClienteConfiguracao servicoCliente = new ServicoClienteConfiguracao(new PropriedadesClienteConfiguracao()) {
+            @Override
+            public String buscarValorConfiguracao(String chave) {
+                return "10";
+            }
+
+            @Override
+            public Map<String, String> buscarTodasConfiguracoes(String namespace, String environment) {
+                return Map.of("pool.size", "10");
+            }
+        };
+
+        // Aquecimento dos dois caminhos
+        for (int i = 0; i < NUMERO_RODADAS; i++) {
+            posProcessar(beans, servicoCliente);
+            varrerHierarquias(beans);
+        }
+
+        // When - melhor de várias rodadas de cada caminho
+        long tempoMetadados = Long.MAX_VALUE;
+        long tempoVarredura = Long.MAX_VALUE;
+        for (int rodada = 0; rodada < NUMERO_RODADAS; rodada++) {
+            long inicio = System.nanoTime();
+            ProcessadorValorConfiguracao processador = posProcessar(beans, servicoCliente);
+            tempoMetadados = Math.min(tempoMetadados, System.nanoTime() - inicio);
+            assertThat(processador.getQuantidadeBeansAnotados()).isEqualTo(NUMERO_BEANS / 100);
+
+            inicio = System.nanoTime();
+            varrerHierarquias(beans);
+            tempoVarredura = Math.min(tempoVarredura, System.nanoTime() - inicio);
+        }
+
+        // Then
+        System.out.printf("Performance Pós-processamento (%d beans):%n", NUMERO_BEANS);
+        System.out.printf("  Metadados por classe: %.2f ms%n", tempoMetadados / 1_000_000.0);
+        System.out.printf("  Varredura por bean: %.2f ms%n", tempoVarredura / 1_000_000.0);
+
+        assertThat(tempoMetadados / 1_000_000).isLessThan(1000); // Menos de 1s para 3k beans
+    }
+
+    /**
+     * Contexto com infraestrutura de framework, serviços sem anotação e 1% de beans anotados
+     */
+    private List<Object> criarContexto() {
+        List<Object> beans = new ArrayList<>();
+        for (int i = 0; i < NUMERO_BEANS; i++) {
+            if (i % 100 == 0) {
+                beans.add(new BeanAnotado());
+                continue;
+            }
+            switch (i % 10) {
+                case 1, 2 -> beans.add(new StandardEnvironment());
+                case 3, 4 -> beans.add(new SimpleAsyncTaskExecutor());
+                case 5 -> beans.add(new ConcurrentHashMap<>());
+                default -> beans.add(new ServicoSemAnotacao());
+            }
+        }
+        return beans;
+    }
+
+    private ProcessadorValorConfiguracao posProcessar(List<Object> beans, ServicoClienteConfiguracao servicoCliente) {
+        ProcessadorValorConfiguracao processador = new ProcessadorValorConfiguracao();
+        ReflectionTestUtils.setField(processador, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(processador, "propriedades", new PropriedadesClienteConfiguracao());
+        for (Object bean : beans) {
+            processador.postProcessAfterInitialization(bean, "bean");
+        }
+        return processador;
+    }
+
+    /**
+     * Reproduz a varredura anterior: doWithFields sobre a hierarquia de cada bean
+     */
+    private int varrerHierarquias(List<Object> beans) {
+        int[] anotados = {0};
+        for (Object bean : beans) {
+            ReflectionUtils.doWithFields(bean.getClass(), field -> {
+                if (field.getAnnotation(ValorConfiguracao.class) != null) {
+                    anotados[0]++;
+                }
+            });
+        }
+        return anotados[0];
+    }
+}
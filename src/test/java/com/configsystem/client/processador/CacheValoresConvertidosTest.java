@@ -0,0 +1,147 @@
+package com.configsystem.client.processador;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import com.configsystem.client.validacao.ValidadorTipos;
+import com.configsystem.client.validacao.ValidadorTipos.ValidacaoException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes do cache de valores convertidos por revisão
+ */
+class CacheValoresConvertidosTest {
+
+    private CacheValoresConvertidos cache;
+    private PlanoConversao plano;
+
+    static class BeanLista {
+        @ValorConfiguracao(value = "allowed.hosts", type = List.class, validator = "^[a-z.,]+$")
+        List<String> hosts;
+    }
+
+    static class Limites {
+        public int maximo;
+    }
+
+    static class BeanLimites {
+        @ValorConfiguracao("limites")
+        Limites limites;
+    }
+
+    static class Contador {
+        int valor;
+    }
+
+    static class BeanContador {
+        @ValorConfiguracao("contador")
+        Contador contador;
+    }
+
+    private static PlanoConversao plano(Class<?> classe, String nomeCampo, ValidadorTipos validadorTipos) throws Exception {
+        Field campo = classe.getDeclaredField(nomeCampo);
+        InjetorCampo injetor = InjetorCampo.compilar(campo, campo.getAnnotation(ValorConfiguracao.class));
+        ObjectMapper objectMapper = new ObjectMapper();
+        return PlanoConversao.compilar(injetor, validadorTipos, objectMapper::readerFor);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        plano = plano(BeanLista.class, "hosts", new ValidadorTipos());
+        cache = new CacheValoresConvertidos(100, 0);
+    }
+
+    @Test
+    void deveConverterUmaVezPorRevisao() {
+        // When
+        Object primeiro = cache.converter("app:prod:allowed.hosts", plano, 1L, "a.com,b.com");
+        Object segundo = cache.converter("app:prod:allowed.hosts", plano, 1L, "a.com,b.com");
+
+        // Then
+        assertThat(segundo).isSameAs(primeiro);
+        assertThat(cache.getAcertos()).isEqualTo(1);
+        assertThat(cache.getFalhas()).isEqualTo(1);
+    }
+
+    @Test
+    void deveInvalidarQuandoRevisaoOuValorMudam() {
+        // Given
+        Object original = cache.converter("app:prod:allowed.hosts", plano, 1L, "a.com");
+
+        // When
+        Object novaRevisao = cache.converter("app:prod:allowed.hosts", plano, 2L, "a.com");
+        Object novoValor = cache.converter("app:prod:allowed.hosts", plano, 2L, "c.com");
+
+        // Then
+        assertThat(novaRevisao).isNotSameAs(original).isEqualTo(List.of("a.com"));
+        assertThat(novoValor).isEqualTo(List.of("c.com"));
+        assertThat(cache.getAcertos()).isZero();
+        assertThat(cache.getTamanho()).isEqualTo(1);
+    }
+
+    @Test
+    void naoDeveArmazenarValoresInvalidos() {
+        // When / Then
+        assertThatThrownBy(() -> cache.converter("app:prod:allowed.hosts", plano, 1L, "INVALIDO"))
+            .isInstanceOf(ValidacaoException.class);
+        assertThatThrownBy(() -> cache.converter("app:prod:allowed.hosts", plano, 1L, "INVALIDO"))
+            .isInstanceOf(ValidacaoException.class);
+        assertThat(cache.getTamanho()).isZero();
+    }
+
+    @Test
+    void deveCriarInstanciaPorCampoParaTiposJson() throws Exception {
+        // Given
+        PlanoConversao planoJson = plano(BeanLimites.class, "limites", new ValidadorTipos());
+
+        // When
+        Limites primeiro = (Limites) cache.converter("app:prod:limites", planoJson, 1L, "{\"maximo\":10}");
+        primeiro.maximo = 99;
+        Limites segundo = (Limites) cache.converter("app:prod:limites", planoJson, 1L, "{\"maximo\":10}");
+
+        // Then - a árvore JSON é reaproveitada, mas cada campo recebe sua instância
+        assertThat(segundo).isNotSameAs(primeiro);
+        assertThat(segundo.maximo).isEqualTo(10);
+        assertThat(cache.getAcertos()).isEqualTo(1);
+    }
+
+    @Test
+    void naoDeveCompartilharTiposRegistradosMutaveis() throws Exception {
+        // Given
+        ValidadorTipos validadorTipos = new ValidadorTipos();
+        validadorTipos.registrarConversor(Contador.class, valor -> {
+            Contador contador = new Contador();
+            contador.valor = Integer.parseInt(valor);
+            return contador;
+        });
+        PlanoConversao planoContador = plano(BeanContador.class, "contador", validadorTipos);
+
+        // When
+        Object primeiro = cache.converter("app:prod:contador", planoContador, 1L, "1");
+        Object segundo = cache.converter("app:prod:contador", planoContador, 1L, "1");
+
+        // Then
+        assertThat(segundo).isNotSameAs(primeiro);
+        assertThat(cache.getTamanho()).isZero();
+    }
+
+    @Test
+    void deveLimitarPeloPesoEstimado() {
+        // Given - espaço para poucas entradas de 1000 caracteres
+        CacheValoresConvertidos limitado = new CacheValoresConvertidos(100, 10_000);
+        String valor = "a".repeat(1000);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            limitado.converter("app:prod:chave" + i, plano, 1L, valor);
+        }
+
+        // Then
+        assertThat(limitado.getTamanho()).isLessThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,71 @@
+package com.configsystem.client.processador;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark JMH da atribuição de um valor já convertido: InjetorCampo contra Field.set
+ *
+ * Os dois caminhos recebem o mesmo campo, os mesmos beans e os mesmos valores; a busca e a conversão
+ * do valor ficam fora da medição. Executado pelo InjecaoCampoPerformanceTest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjetorCampoBenchmark {
+
+    static final int NUMERO_BEANS = 1000;
+
+    public static class BeanBenchmark {
+        @ValorConfiguracao(value = "global.timeout", refreshable = true)
+        Long timeout;
+    }
+
+    private final BeanBenchmark[] beans = new BeanBenchmark[NUMERO_BEANS];
+    private final Long[] valores = new Long[NUMERO_BEANS];
+    private Field campo;
+    private InjetorCampo injetor;
+
+    @Setup
+    public void preparar() throws NoSuchFieldException {
+        campo = BeanBenchmark.class.getDeclaredField("timeout");
+        campo.setAccessible(true);
+        injetor = InjetorCampo.compilar(campo, campo.getAnnotation(ValorConfiguracao.class));
+        for (int i = 0; i < NUMERO_BEANS; i++) {
+            beans[i] = new BeanBenchmark();
+            valores[i] = (long) i * 1000;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMERO_BEANS)
+    public void injetorCompilado() {
+        for (int i = 0; i < NUMERO_BEANS; i++) {
+            injetor.atribuir(beans[i], valores[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMERO_BEANS)
+    public void fieldSet() throws IllegalAccessException {
+        for (int i = 0; i < NUMERO_BEANS; i++) {
+            campo.set(beans[i], valores[i]);
+        }
+    }
+}
@@ -0,0 +1,527 @@
+package com.configsystem.client.processador;
+
+import com.configsystem.client.anotacao.ValorConfiguracao;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.monitoramento.PerfilAcessos;
+import com.configsystem.client.servico.ServicoClienteConfiguracao;
+import com.configsystem.client.servico.ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o ProcessadorValorConfiguracao
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessadorValorConfiguracaoTest {
+
+    @Mock
+    private ServicoClienteConfiguracao servicoCliente;
+
+    private ProcessadorValorConfiguracao processador;
+
+    @BeforeEach
+    void setUp() {
+        processador = new ProcessadorValorConfiguracao();
+        ReflectionTestUtils.setField(processador, "servicoCliente", servicoCliente);
+
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.setNamespace("app");
+        propriedades.setEnvironment("prod");
+        ReflectionTestUtils.setField(processador, "propriedades", propriedades);
+    }
+
+    static class BeanConfiguravel {
+        @ValorConfiguracao(value = "pool.size", refreshable = true)
+        Integer tamanhoPool;
+
+        @ValorConfiguracao(value = "timeout", namespace = "api", environment = "prod", refreshable = true)
+        Long timeoutApi;
+
+        @ValorConfiguracao(value = "app.versao", defaultValue = "1.0.0")
+        String versao;
+    }
+
+    static class Limites {
+        public int maximo;
+        public String unidade;
+    }
+
+    static class BeanValidado {
+        @ValorConfiguracao(value = "server.port", type = Integer.class, min = 1, max = 65535, refreshable = true)
+        Integer porta;
+
+        @ValorConfiguracao(value = "allowed.hosts", type = List.class, separator = ";")
+        List<String> hosts;
+
+        @ValorConfiguracao(value = "admin.email", validator = "email", refreshable = true)
+        String email;
+
+        @ValorConfiguracao(value = "database.url", fallback = "database.url.default")
+        String urlBanco;
+
+        @ValorConfiguracao(value = "app.timeout", type = Duration.class)
+        Duration timeout;
+
+        @ValorConfiguracao("limites")
+        Limites limites;
+    }
+
+    static class BeanLimitesDinamicos {
+        @ValorConfiguracao(value = "limites", refreshable = true)
+        Limites limites;
+    }
+
+    static class BeanObrigatorioDinamico {
+        @ValorConfiguracao(value = "pool.size", required = true, refreshable = true)
+        Integer tamanhoPool;
+
+        @ValorConfiguracao(value = "admin.email", refreshable = true)
+        String email;
+    }
+
+    static class BeanMultiPerfil {
+        @ValorConfiguracao(value = "sql.debug", profiles = "dev", refreshable = true)
+        Boolean sqlDebug;
+
+        @ValorConfiguracao(value = "pool.max", profiles = {"prod", "staging"}, refreshable = true)
+        Integer poolMaximo;
+
+        @ValorConfiguracao(value = "app.nome", refreshable = true)
+        String nome;
+    }
+
+    static class BeanComConstante {
+        @ValorConfiguracao("constante")
+        static final String CONSTANTE = "fixa";
+
+        @ValorConfiguracao(value = "app.versao", defaultValue = "1.0.0")
+        String versao;
+    }
+
+    private EventoMudancaConfiguracao evento(String namespace, String environment, String chave) {
+        return new EventoMudancaConfiguracao(namespace, environment, chave, "UPDATE", "{}");
+    }
+
+    @Test
+    void deveInjetarValoresIniciais() {
+        // Given
+        when(servicoCliente.buscarValorConfiguracao("pool.size")).thenReturn("10");
+        when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("5000");
+        BeanConfiguravel bean = new BeanConfiguravel();
+
+        // When
+        processador.postProcessAfterInitialization(bean, "beanConfiguravel");
+
+        // Then
+        assertThat(bean.tamanhoPool).isEqualTo(10);
+        assertThat(bean.timeoutApi).isEqualTo(5000L);
+        assertThat(bean.versao).isEqualTo("1.0.0");
+        assertThat(processador.getQuantidadeBeansAnotados()).isEqualTo(1);
+        assertThat(processador.getQuantidadeVinculos()).isEqualTo(2);
+    }
+
+    @Test
+    void deveAtualizarApenasCamposVinculadosAChaveDoEvento() {
+        // Given
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn("10");
+        when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("5000");
+        BeanConfiguravel bean = new BeanConfiguravel();
+        processador.postProcessAfterInitialization(bean, "beanConfiguravel");
+        when(servicoCliente.buscarValorConfiguracao("pool.size")).thenReturn("20");
+        lenient().when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("9000");
+
+        // When - namespace/environment vazios na anotação casam com qualquer evento
+        processador.processarMudancaConfiguracao(evento("qualquer", "dev", "pool.size"));
+
+        // Then
+        assertThat(bean.tamanhoPool).isEqualTo(20);
+        assertThat(bean.timeoutApi).isEqualTo(5000L);
+    }
+
+    @Test
+    void deveRespeitarNamespaceEEnvironmentDaAnotacao() {
+        // Given
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn("10");
+        when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("5000");
+        BeanConfiguravel bean = new BeanConfiguravel();
+        processador.postProcessAfterInitialization(bean, "beanConfiguravel");
+        when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("9000");
+
+        // When - evento de outro environment não afeta o campo
+        processador.processarMudancaConfiguracao(evento("api", "dev", "timeout"));
+
+        // Then
+        assertThat(bean.timeoutApi).isEqualTo(5000L);
+
+        // When - evento do namespace/environment da anotação
+        processador.processarMudancaConfiguracao(evento("api", "prod", "timeout"));
+
+        // Then
+        assertThat(bean.timeoutApi).isEqualTo(9000L);
+    }
+
+    @Test
+    void naoDeveAtualizarCamposNaoAtualizaveis() {
+        // Given
+        BeanConfiguravel bean = new BeanConfiguravel();
+        processador.postProcessAfterInitialization(bean, "beanConfiguravel");
+        lenient().when(servicoCliente.buscarValorConfiguracao("app.versao")).thenReturn("2.0.0");
+
+        // When
+        processador.processarMudancaConfiguracao(evento("app", "prod", "app.versao"));
+
+        // Then
+        assertThat(bean.versao).isEqualTo("1.0.0");
+    }
+
+    @Test
+    void deveReutilizarMetadadosEntreInstanciasDaMesmaClasse() {
+        // Given - beans prototype da mesma classe
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn("10");
+        when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("5000");
+        BeanConfiguravel primeiro = new BeanConfiguravel();
+        BeanConfiguravel segundo = new BeanConfiguravel();
+
+        // When
+        processador.postProcessAfterInitialization(primeiro, "prototype");
+        processador.postProcessAfterInitialization(segundo, "prototype");
+
+        // Then
+        assertThat(MetadadosClasse.de(BeanConfiguravel.class)).isSameAs(MetadadosClasse.de(BeanConfiguravel.class));
+        assertThat(MetadadosClasse.de(BeanConfiguravel.class).getInjetores()).hasSize(3);
+        assertThat(segundo.tamanhoPool).isEqualTo(10);
+        assertThat(processador.getQuantidadeVinculos()).isEqualTo(4);
+    }
+
+    @Test
+    void deveIgnorarCamposQueNaoAceitamAtribuicao() {
+        // Given
+        BeanComConstante bean = new BeanComConstante();
+
+        // When - campo static final é registrado como erro e ignorado
+        assertThatCode(() -> processador.postProcessAfterInitialization(bean, "beanComConstante"))
+            .doesNotThrowAnyException();
+
+        // Then
+        assertThat(bean.versao).isEqualTo("1.0.0");
+        assertThat(BeanComConstante.CONSTANTE).isEqualTo("fixa");
+        verify(servicoCliente, never()).buscarValorConfiguracao("constante");
+    }
+
+    @Test
+    void deveIgnorarBeansDeFrameworkESemCamposAnotados() {
+        // When
+        processador.postProcessAfterInitialization(new org.springframework.core.env.StandardEnvironment(), "environment");
+        processador.postProcessAfterInitialization(new Object(), "objeto");
+        processador.postProcessAfterInitialization(this, "teste");
+
+        // Then
+        assertThat(MetadadosClasse.isPacoteFramework(org.springframework.core.env.StandardEnvironment.class)).isTrue();
+        assertThat(MetadadosClasse.de(ProcessadorValorConfiguracaoTest.class).isVazio()).isTrue();
+        assertThat(processador.getQuantidadeBeansAnotados()).isZero();
+        verifyNoInteractions(servicoCliente);
+    }
+
+    @Test
+    void deveResolverCargaInicialComUmaRequisicaoPorGrupo() {
+        // Given
+        when(servicoCliente.buscarTodasConfiguracoes("app", "prod")).thenReturn(Map.of("pool.size", "10"));
+        when(servicoCliente.buscarTodasConfiguracoes("api", "prod")).thenReturn(Map.of("timeout", "5000"));
+
+        // When
+        BeanConfiguravel primeiro = new BeanConfiguravel();
+        BeanConfiguravel segundo = new BeanConfiguravel();
+        processador.postProcessAfterInitialization(primeiro, "primeiro");
+        processador.postProcessAfterInitialization(segundo, "segundo");
+
+        // Then - chaves ausentes do lote usam o valor padrão sem nova requisição
+        assertThat(segundo.tamanhoPool).isEqualTo(10);
+        assertThat(segundo.timeoutApi).isEqualTo(5000L);
+        assertThat(segundo.versao).isEqualTo("1.0.0");
+        verify(servicoCliente, times(1)).buscarTodasConfiguracoes("app", "prod");
+        verify(servicoCliente, times(1)).buscarTodasConfiguracoes("api", "prod");
+        verify(servicoCliente, never()).buscarValorConfiguracao(anyString());
+        verify(servicoCliente, never()).buscarValorConfiguracao(anyString(), anyString(), anyString());
+
+        // When - após a carga inicial, beans novos voltam a buscar chave a chave
+        processador.finalizarCargaInicial(null);
+        when(servicoCliente.buscarValorConfiguracao("pool.size")).thenReturn("20");
+        lenient().when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("5000");
+        BeanConfiguravel terceiro = new BeanConfiguravel();
+        processador.postProcessAfterInitialization(terceiro, "terceiro");
+
+        // Then
+        assertThat(terceiro.tamanhoPool).isEqualTo(20);
+        verify(servicoCliente, times(1)).buscarTodasConfiguracoes("app", "prod");
+    }
+
+    @Test
+    void deveRegistrarNoPerfilAsLeiturasDaCargaInicial() {
+        // Given
+        PerfilAcessos perfil = new PerfilAcessos();
+        perfil.inicializar();
+        ReflectionTestUtils.setField(processador, "perfilAcessos", perfil);
+        when(servicoCliente.buscarTodasConfiguracoes("app", "prod")).thenReturn(Map.of("pool.size", "10"));
+        when(servicoCliente.buscarTodasConfiguracoes("api", "prod")).thenReturn(Map.of("timeout", "5000"));
+
+        // When
+        processador.postProcessAfterInitialization(new BeanConfiguravel(), "bean");
+
+        // Then - inclusive a chave ausente do lote, resolvida pelo valor padrão
+        assertThat(perfil.getChavesNuncaLidas(List.of("app:prod:pool.size", "api:prod:timeout", "app:prod:app.versao",
+            "app:prod:nao.usada"))).containsExactly("app:prod:nao.usada");
+        assertThat(perfil.getLeituras()).isEqualTo(3);
+    }
+
+    @Test
+    void deveDescartarBeansColetadosPeloGc() throws Exception {
+        // Given - bean prototype sem outras referências além do processador
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn("10");
+        when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("5000");
+        BeanConfiguravel vivo = new BeanConfiguravel();
+        processador.postProcessAfterInitialization(vivo, "vivo");
+        processador.postProcessAfterInitialization(new BeanConfiguravel(), "prototype");
+        assertThat(processador.getQuantidadeVinculos()).isEqualTo(4);
+
+        // When
+        for (int tentativa = 0; tentativa < 50 && processador.getQuantidadeVinculos() > 2; tentativa++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        // Then - apenas os vínculos do bean ainda referenciado permanecem
+        assertThat(processador.getQuantidadeVinculos()).isEqualTo(2);
+        assertThat(processador.getQuantidadeBeansAnotados()).isEqualTo(1);
+        assertThat(processador.getBeansAnotados()).containsOnlyKeys(vivo);
+    }
+
+    @Test
+    void deveAplicarPlanoDeConversaoDaAnotacao() {
+        // Given
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn(null);
+        when(servicoCliente.buscarValorConfiguracao("server.port")).thenReturn("9090");
+        when(servicoCliente.buscarValorConfiguracao("allowed.hosts")).thenReturn("a.com; b.com");
+        when(servicoCliente.buscarValorConfiguracao("admin.email")).thenReturn("admin@comprae.com");
+        when(servicoCliente.buscarValorConfiguracao("database.url.default")).thenReturn("jdbc:h2:mem");
+        when(servicoCliente.buscarValorConfiguracao("app.timeout")).thenReturn("PT45S");
+        when(servicoCliente.buscarValorConfiguracao("limites")).thenReturn("{\"maximo\":10,\"unidade\":\"rps\"}");
+        BeanValidado bean = new BeanValidado();
+
+        // When
+        processador.postProcessAfterInitialization(bean, "beanValidado");
+
+        // Then
+        assertThat(bean.porta).isEqualTo(9090);
+        assertThat(bean.hosts).containsExactly("a.com", "b.com");
+        assertThat(bean.email).isEqualTo("admin@comprae.com");
+        assertThat(bean.urlBanco).isEqualTo("jdbc:h2:mem");
+        assertThat(bean.timeout).isEqualTo(Duration.ofSeconds(45));
+        assertThat(bean.limites.maximo).isEqualTo(10);
+        assertThat(bean.limites.unidade).isEqualTo("rps");
+    }
+
+    @Test
+    void deveManterValorAnteriorQuandoNovoValorEhInvalido() {
+        // Given
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn(null);
+        when(servicoCliente.buscarValorConfiguracao("server.port")).thenReturn("9090");
+        when(servicoCliente.buscarValorConfiguracao("admin.email")).thenReturn("admin@comprae.com");
+        BeanValidado bean = new BeanValidado();
+        processador.postProcessAfterInitialization(bean, "beanValidado");
+        when(servicoCliente.buscarValorConfiguracao("server.port")).thenReturn("70000");
+        when(servicoCliente.buscarValorConfiguracao("admin.email")).thenReturn("nao-eh-email");
+
+        // When
+        processador.processarMudancaConfiguracao(evento("app", "prod", "server.port"));
+        processador.processarMudancaConfiguracao(evento("app", "prod", "admin.email"));
+
+        // Then - fora do intervalo e reprovado no validador
+        assertThat(bean.porta).isEqualTo(9090);
+        assertThat(bean.email).isEqualTo("admin@comprae.com");
+    }
+
+    @Test
+    void deveReaproveitarConversaoEntreBeansDaMesmaChave() {
+        // Given
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn(null);
+        when(servicoCliente.buscarValorConfiguracao("limites")).thenReturn("{\"maximo\":10,\"unidade\":\"rps\"}");
+        when(servicoCliente.buscarValorConfiguracao("app.timeout")).thenReturn("PT5S");
+        BeanValidado primeiro = new BeanValidado();
+        BeanValidado segundo = new BeanValidado();
+
+        // When
+        processador.postProcessAfterInitialization(primeiro, "primeiro");
+        processador.postProcessAfterInitialization(segundo, "segundo");
+
+        // Then - o JSON é lido uma única vez, mas objetos mutáveis não são compartilhados entre beans
+        assertThat(segundo.limites).isNotSameAs(primeiro.limites);
+        assertThat(segundo.limites.maximo).isEqualTo(primeiro.limites.maximo).isEqualTo(10);
+        assertThat(segundo.timeout).isSameAs(primeiro.timeout);
+        assertThat(processador.getTaxaAcertosConversao()).isGreaterThan(0.0);
+    }
+
+    @Test
+    void deveCriarObjetosMutaveisPorBeanNaReinjecao() {
+        // Given
+        when(servicoCliente.buscarValorConfiguracao("limites")).thenReturn("{\"maximo\":10,\"unidade\":\"rps\"}");
+        BeanLimitesDinamicos primeiro = new BeanLimitesDinamicos();
+        BeanLimitesDinamicos segundo = new BeanLimitesDinamicos();
+        processador.postProcessAfterInitialization(primeiro, "primeiro");
+        processador.postProcessAfterInitialization(segundo, "segundo");
+        when(servicoCliente.buscarValorConfiguracao("limites")).thenReturn("{\"maximo\":20,\"unidade\":\"rps\"}");
+
+        // When
+        processador.processarMudancaConfiguracao(evento("app", "prod", "limites"));
+
+        // Then - valor resolvido uma vez, instância própria por bean
+        assertThat(primeiro.limites.maximo).isEqualTo(20);
+        assertThat(segundo.limites.maximo).isEqualTo(20);
+        assertThat(segundo.limites).isNotSameAs(primeiro.limites);
+        verify(servicoCliente, times(3)).buscarValorConfiguracao("limites");
+    }
+
+    @Test
+    void deveAgruparMudancasEmRajadaEmUmaReinjecaoPorBean() throws InterruptedException {
+        // Given
+        PropriedadesClienteConfiguracao propriedades =
+            (PropriedadesClienteConfiguracao) ReflectionTestUtils.getField(processador, "propriedades");
+        propriedades.getRefresh().setDebounceWindow(300);
+        propriedades.getRefresh().setMaxDelay(2000);
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn(null);
+        when(servicoCliente.buscarValorConfiguracao("server.port")).thenReturn("8080");
+        when(servicoCliente.buscarValorConfiguracao("admin.email")).thenReturn("admin@empresa.com");
+        BeanValidado bean = new BeanValidado();
+        processador.postProcessAfterInitialization(bean, "beanValidado");
+        clearInvocations(servicoCliente);
+        when(servicoCliente.buscarValorConfiguracao("server.port")).thenReturn("9090");
+        when(servicoCliente.buscarValorConfiguracao("admin.email")).thenReturn("ops@empresa.com");
+
+        // When
+        processador.processarMudancaConfiguracao(evento("app", "prod", "server.port"));
+        processador.processarMudancaConfiguracao(evento("app", "prod", "admin.email"));
+        processador.processarMudancaConfiguracao(evento("app", "prod", "server.port"));
+
+        // Then - nada aplicado durante a janela
+        assertThat(bean.porta).isEqualTo(8080);
+        assertThat(bean.email).isEqualTo("admin@empresa.com");
+
+        long limite = System.currentTimeMillis() + 5000;
+        while (!"ops@empresa.com".equals(bean.email) && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+        }
+        assertThat(bean.porta).isEqualTo(9090);
+        assertThat(bean.email).isEqualTo("ops@empresa.com");
+        assertThat(processador.getEventosAgrupados()).isEqualTo(2);
+        verify(servicoCliente, times(1)).buscarValorConfiguracao("server.port");
+        processador.finalizar();
+    }
+
+    @Test
+    void deveAplicarDemaisCamposDoLoteQuandoUmCampoFalha() throws InterruptedException {
+        // Given
+        PropriedadesClienteConfiguracao propriedades =
+            (PropriedadesClienteConfiguracao) ReflectionTestUtils.getField(processador, "propriedades");
+        propriedades.getRefresh().setDebounceWindow(100);
+        when(servicoCliente.buscarValorConfiguracao("pool.size")).thenReturn("10");
+        when(servicoCliente.buscarValorConfiguracao("admin.email")).thenReturn("admin@empresa.com");
+        BeanObrigatorioDinamico bean = new BeanObrigatorioDinamico();
+        processador.postProcessAfterInitialization(bean, "beanObrigatorio");
+        when(servicoCliente.buscarValorConfiguracao("pool.size")).thenReturn("muitos");
+        when(servicoCliente.buscarValorConfiguracao("admin.email")).thenReturn("ops@empresa.com");
+
+        // When
+        processador.processarMudancaConfiguracao(evento("app", "prod", "pool.size"));
+        processador.processarMudancaConfiguracao(evento("app", "prod", "admin.email"));
+
+        // Then - o campo obrigatório inválido é ignorado e o restante do lote é aplicado
+        long limite = System.currentTimeMillis() + 5000;
+        while (!"ops@empresa.com".equals(bean.email) && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+        }
+        assertThat(bean.email).isEqualTo("ops@empresa.com");
+        assertThat(bean.tamanhoPool).isEqualTo(10);
+        processador.finalizar();
+    }
+
+    @Test
+    void deveReinjetarSerialmenteSemPropriedades() {
+        // Given
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn("10");
+        when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("5000");
+        BeanConfiguravel bean = new BeanConfiguravel();
+        processador.postProcessAfterInitialization(bean, "beanConfiguravel");
+        ReflectionTestUtils.setField(processador, "propriedades", null);
+        when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("7000");
+
+        // When
+        processador.processarMudancaConfiguracao(evento("api", "prod", "timeout"));
+
+        // Then
+        assertThat(bean.timeoutApi).isEqualTo(7000L);
+    }
+
+    @Test
+    void deveReinjetarEmParaleloAcimaDoLimiar() {
+        // Given
+        PropriedadesClienteConfiguracao propriedades =
+            (PropriedadesClienteConfiguracao) ReflectionTestUtils.getField(processador, "propriedades");
+        propriedades.getRefresh().setParallel(true);
+        propriedades.getRefresh().setParallelThreshold(10);
+        propriedades.getRefresh().setParallelism(4);
+        when(servicoCliente.buscarValorConfiguracao(anyString())).thenReturn("10");
+        lenient().when(servicoCliente.buscarValorConfiguracao("timeout", "api", "prod")).thenReturn("5000");
+        List<BeanConfiguravel> beans = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            BeanConfiguravel bean = new BeanConfiguravel();
+            processador.postProcessAfterInitialization(bean, "bean" + i);
+            beans.add(bean);
+        }
+        when(servicoCliente.buscarValorConfiguracao("pool.size")).thenReturn("20");
+
+        // When
+        processador.processarMudancaConfiguracao(evento("app", "prod", "pool.size"));
+
+        // Then - todos os vínculos atualizados antes do retorno do evento
+        assertThat(beans).allSatisfy(bean -> {
+            assertThat(bean.tamanhoPool).isEqualTo(20);
+            assertThat(bean.timeoutApi).isEqualTo(5000L);
+        });
+        processador.finalizar();
+    }
+
+    @Test
+    void deveIgnorarCamposDeProfilesInativos() {
+        // Given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+        ReflectionTestUtils.setField(processador, "environment", environment);
+        when(servicoCliente.buscarValorConfiguracao("pool.max")).thenReturn("50");
+        when(servicoCliente.buscarValorConfiguracao("app.nome")).thenReturn("pedidos");
+        BeanMultiPerfil bean = new BeanMultiPerfil();
+
+        // When
+        processador.postProcessAfterInitialization(bean, "beanMultiPerfil");
+        processador.processarMudancaConfiguracao(evento("app", "prod", "sql.debug"));
+
+        // Then - o campo do profile dev não é buscado nem indexado
+        assertThat(bean.poolMaximo).isEqualTo(50);
+        assertThat(bean.nome).isEqualTo("pedidos");
+        assertThat(bean.sqlDebug).isNull();
+        assertThat(processador.getQuantidadeVinculos()).isEqualTo(2);
+        verify(servicoCliente, never()).buscarValorConfiguracao("sql.debug");
+    }
+}
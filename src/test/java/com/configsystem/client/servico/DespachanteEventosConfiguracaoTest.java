@@ -0,0 +1,165 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.servico.ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para o DespachanteEventosConfiguracao
+ */
+class DespachanteEventosConfiguracaoTest {
+
+    private PropriedadesClienteConfiguracao propriedades;
+    private DespachanteEventosConfiguracao despachante;
+    private final List<String> entregues = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch liberacao = new CountDownLatch(0);
+
+    @BeforeEach
+    void setUp() {
+        propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.getDispatch().setThreads(4);
+        propriedades.getDispatch().setQueueCapacity(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        liberacao.countDown();
+        despachante.finalizar();
+    }
+
+    private void criarDespachante() {
+        despachante = new DespachanteEventosConfiguracao();
+        ReflectionTestUtils.setField(despachante, "propriedades", propriedades);
+        ReflectionTestUtils.setField(despachante, "publicadorEventos", (ApplicationEventPublisher) objeto -> {
+            EventoMudancaConfiguracao evento = (EventoMudancaConfiguracao) objeto;
+            try {
+                liberacao.await(5, TimeUnit.SECONDS);
+                Thread.sleep(evento.getMensagemOriginal().equals("lento") ? 50 : 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            entregues.add(evento.getChave() + "=" + evento.getTipoMudanca());
+        });
+        despachante.inicializar();
+    }
+
+    private EventoMudancaConfiguracao evento(String chave, String versao, String mensagem) {
+        return new EventoMudancaConfiguracao("app", "prod", chave, versao, mensagem);
+    }
+
+    @Test
+    void deveManterOrdemPorChave() throws Exception {
+        // Given
+        criarDespachante();
+
+        // When - primeiro evento de cada chave é lento
+        for (int i = 0; i < 20; i++) {
+            despachante.despachar(evento("chave.a", "v" + i, i == 0 ? "lento" : "rapido"));
+            despachante.despachar(evento("chave.b", "v" + i, i == 0 ? "lento" : "rapido"));
+        }
+
+        // Then
+        aguardarEntregas(40);
+        List<String> chaveA = entregues.stream().filter(e -> e.startsWith("chave.a")).toList();
+        List<String> chaveB = entregues.stream().filter(e -> e.startsWith("chave.b")).toList();
+        for (int i = 0; i < 20; i++) {
+            assertThat(chaveA.get(i)).isEqualTo("chave.a=v" + i);
+            assertThat(chaveB.get(i)).isEqualTo("chave.b=v" + i);
+        }
+        assertThat(despachante.getEventosDespachados()).isEqualTo(40);
+    }
+
+    @Test
+    void deveAplicarBackpressureQuandoCapacidadeEsgotada() throws Exception {
+        // Given - capacidade para dois eventos e listeners bloqueados
+        propriedades.getDispatch().setQueueCapacity(2);
+        liberacao = new CountDownLatch(1);
+        criarDespachante();
+        despachante.despachar(evento("chave.a", "v1", "rapido"));
+        despachante.despachar(evento("chave.b", "v1", "rapido"));
+
+        // When
+        CompletableFuture<Void> terceiro = CompletableFuture.runAsync(
+            () -> despachante.despachar(evento("chave.c", "v1", "rapido")));
+
+        // Then - produtor bloqueado até liberar capacidade
+        Thread.sleep(200);
+        assertThat(terceiro).isNotDone();
+        assertThat(despachante.getProfundidadeFila()).isEqualTo(2);
+
+        liberacao.countDown();
+        terceiro.get(5, TimeUnit.SECONDS);
+        aguardarEntregas(3);
+        assertThat(despachante.getProfundidadeFila()).isZero();
+    }
+
+    @Test
+    void deveCompletarDespachoApenasAposListeners() throws Exception {
+        // Given - listeners bloqueados
+        liberacao = new CountDownLatch(1);
+        criarDespachante();
+
+        // When
+        CompletableFuture<Void> despacho = despachante.despachar(evento("chave.a", "v1", "rapido"));
+
+        // Then - o futuro (base da confirmação do registro no Kafka) só completa após a entrega
+        Thread.sleep(100);
+        assertThat(despacho).isNotDone();
+        liberacao.countDown();
+        despacho.get(5, TimeUnit.SECONDS);
+        assertThat(entregues).containsExactly("chave.a=v1");
+    }
+
+    @Test
+    void deveEntregarSincronamenteQuandoAssincronoDesabilitado() {
+        // Given
+        propriedades.getDispatch().setAsync(false);
+        criarDespachante();
+
+        // When
+        CompletableFuture<Void> despacho = despachante.despachar(evento("chave.a", "v1", "rapido"));
+
+        // Then
+        assertThat(despacho).isDone();
+        assertThat(entregues).containsExactly("chave.a=v1");
+        assertThat(despachante.getProfundidadeFila()).isZero();
+    }
+
+    @Test
+    void deveDevolverCapacidadeQuandoDespachoRejeitado() {
+        // Given - executor encerrado
+        propriedades.getDispatch().setQueueCapacity(1);
+        criarDespachante();
+        despachante.finalizar();
+
+        // When
+        CompletableFuture<Void> primeiro = despachante.despachar(evento("chave.a", "v1", "rapido"));
+        CompletableFuture<Void> segundo = despachante.despachar(evento("chave.a", "v2", "rapido"));
+
+        // Then - o segundo despacho não bloqueia esperando a capacidade do primeiro
+        assertThat(primeiro).isCompletedExceptionally();
+        assertThat(segundo).isCompletedExceptionally();
+        assertThat(despachante.getProfundidadeFila()).isZero();
+        assertThat(entregues).isEmpty();
+    }
+
+    private void aguardarEntregas(int quantidade) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (entregues.size() < quantidade && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(entregues).hasSize(quantidade);
+    }
+}
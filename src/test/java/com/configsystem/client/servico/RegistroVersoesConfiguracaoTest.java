@@ -0,0 +1,75 @@
+package com.configsystem.client.servico;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para o RegistroVersoesConfiguracao
+ */
+class RegistroVersoesConfiguracaoTest {
+
+    private RegistroVersoesConfiguracao registro;
+
+    @BeforeEach
+    void setUp() {
+        registro = new RegistroVersoesConfiguracao();
+        registro.inicializar();
+    }
+
+    @Test
+    void deveAceitarRevisoesCrescentes() {
+        assertThat(registro.registrarSeMaisRecente("app", "prod", "pool.size", 1)).isTrue();
+        assertThat(registro.registrarSeMaisRecente("app", "prod", "pool.size", 2)).isTrue();
+        assertThat(registro.obterRevisaoAplicada("app", "prod", "pool.size")).isEqualTo(2L);
+    }
+
+    @Test
+    void deveDescartarEventosObsoletosEDuplicados() {
+        // Given
+        registro.registrarSeMaisRecente("app", "prod", "pool.size", 5);
+
+        // When / Then
+        assertThat(registro.registrarSeMaisRecente("app", "prod", "pool.size", 5)).isFalse();
+        assertThat(registro.registrarSeMaisRecente("app", "prod", "pool.size", 3)).isFalse();
+        assertThat(registro.obterRevisaoAplicada("app", "prod", "pool.size")).isEqualTo(5L);
+        assertThat(registro.getEventosDuplicados()).isEqualTo(1);
+        assertThat(registro.getEventosObsoletos()).isEqualTo(1);
+    }
+
+    @Test
+    void deveControlarRevisoesPorNamespaceEnvironmentEChave() {
+        registro.registrarSeMaisRecente("app", "prod", "pool.size", 5);
+
+        assertThat(registro.registrarSeMaisRecente("app", "dev", "pool.size", 1)).isTrue();
+        assertThat(registro.registrarSeMaisRecente("outro", "prod", "pool.size", 1)).isTrue();
+        assertThat(registro.registrarSeMaisRecente("app", "prod", "timeout", 1)).isTrue();
+    }
+
+    @Test
+    void deveVerificarSemRegistrarAteAMudancaSerAplicada() {
+        // Given
+        registro.registrarAplicada("app", "prod", "pool.size", 5);
+
+        // When / Then - a verificação não registra: a mesma revisão continua aceita até ser aplicada
+        assertThat(registro.isMaisRecente("app", "prod", "pool.size", 6)).isTrue();
+        assertThat(registro.isMaisRecente("app", "prod", "pool.size", 6)).isTrue();
+        assertThat(registro.isMaisRecente("app", "prod", "pool.size", 5)).isFalse();
+        assertThat(registro.getEventosDuplicados()).isEqualTo(1);
+
+        registro.registrarAplicada("app", "prod", "pool.size", 6);
+        registro.registrarAplicada("app", "prod", "pool.size", 4);
+        assertThat(registro.obterRevisaoAplicada("app", "prod", "pool.size")).isEqualTo(6L);
+    }
+
+    @Test
+    void deveExtrairApenasOCampoRevision() {
+        assertThat(RegistroVersoesConfiguracao.extrairRevisao(Map.of("revision", 7))).isEqualTo(7L);
+        assertThat(RegistroVersoesConfiguracao.extrairRevisao(Map.of("revision", "8"))).isEqualTo(8L);
+        assertThat(RegistroVersoesConfiguracao.extrairRevisao(Map.of("version", 3, "timestamp", 1700000000000L))).isNull();
+        assertThat(RegistroVersoesConfiguracao.extrairRevisao(Map.of("revision", "2024-01-01T00:00:00Z"))).isNull();
+    }
+}
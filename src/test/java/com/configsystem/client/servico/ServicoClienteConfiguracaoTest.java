@@ -0,0 +1,172 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.cache.CacheRedisCompartilhado;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.handle.IntConfigHandle;
+import com.configsystem.client.monitoramento.PerfilAcessos;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários do ServicoClienteConfiguracao com o cache L2 compartilhado
+ */
+@ExtendWith(MockitoExtension.class)
+class ServicoClienteConfiguracaoTest {
+
+    @Mock
+    private CacheRedisCompartilhado cacheCompartilhado;
+
+    private ServicoClienteConfiguracao servicoCliente;
+
+    @BeforeEach
+    void setUp() {
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.setNamespace("app");
+        propriedades.setEnvironment("prod");
+
+        // Spy para substituir as chamadas HTTP ao servidor
+        servicoCliente = spy(new ServicoClienteConfiguracao(propriedades));
+        ReflectionTestUtils.setField(servicoCliente, "propriedades", propriedades);
+        ReflectionTestUtils.setField(servicoCliente, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(servicoCliente, "cacheCompartilhado", cacheCompartilhado);
+    }
+
+    @Test
+    void deveConsultarCacheCompartilhadoAntesDoServidor() {
+        // Given
+        when(cacheCompartilhado.buscar("app:prod:timeout")).thenReturn("5000");
+
+        // When
+        String valor = servicoCliente.buscarValorConfiguracao("timeout");
+
+        // Then
+        assertThat(valor).isEqualTo("5000");
+        assertThat(servicoCliente.obterCacheLocal()).containsEntry("app:prod:timeout", "5000");
+        verify(servicoCliente, never()).buscarValorServidor(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void deveGravarNoCacheCompartilhadoOValorCarregadoDoServidor() {
+        // Given
+        doReturn("10").when(servicoCliente).buscarValorServidor("app", "prod", "pool.size");
+
+        // When
+        String valor = servicoCliente.buscarValorConfiguracao("pool.size");
+
+        // Then
+        assertThat(valor).isEqualTo("10");
+        verify(cacheCompartilhado).armazenar("app:prod:pool.size", "10");
+    }
+
+    @Test
+    void deveCarregarGrupoDoCacheCompartilhado() throws Exception {
+        // Given
+        when(cacheCompartilhado.buscarGrupo("app", "prod")).thenReturn(Map.of("a", "1", "b", "2"));
+
+        // When
+        Map<String, String> configs = servicoCliente.buscarTodasConfiguracoes("app", "prod");
+
+        // Then
+        assertThat(configs).containsExactlyInAnyOrderEntriesOf(Map.of("a", "1", "b", "2"));
+        assertThat(servicoCliente.obterCacheLocal()).containsEntry("app:prod:a", "1");
+        verify(servicoCliente, never()).buscarMapaServidor(anyString(), anyString());
+    }
+
+    @Test
+    void deveGravarGrupoCarregadoDoServidorNoCacheCompartilhado() throws Exception {
+        // Given
+        when(cacheCompartilhado.buscarGrupo("app", "prod")).thenReturn(null);
+        doReturn(Map.of("a", "1")).when(servicoCliente).buscarMapaServidor("app", "prod");
+
+        // When
+        servicoCliente.buscarTodasConfiguracoes("app", "prod");
+
+        // Then
+        verify(cacheCompartilhado).armazenarGrupo("app", "prod", Map.of("a", "1"));
+    }
+
+    @Test
+    void deveBuscarMudancaNoServidorEAtualizarCacheCompartilhado() {
+        // Given - o L2 ainda tem o valor anterior
+        lenient().when(cacheCompartilhado.buscar("app:prod:limite")).thenReturn("velho");
+        doReturn("novo").when(servicoCliente).buscarValorServidor("app", "prod", "limite");
+        doReturn(null).when(servicoCliente).buscarValorServidor("app", "prod", "removida");
+
+        // When
+        servicoCliente.atualizarConfiguracao("limite", "app", "prod");
+        servicoCliente.atualizarConfiguracao("removida", "app", "prod");
+
+        // Then - valores novos gravados e chaves removidas no servidor retiradas do L2
+        assertThat(servicoCliente.obterCacheLocal()).containsEntry("app:prod:limite", "novo");
+        verify(cacheCompartilhado, never()).buscar(anyString());
+        verify(cacheCompartilhado).aplicarMudancas(Map.of("app:prod:limite", "novo"));
+        Map<String, String> remocao = new HashMap<>();
+        remocao.put("app:prod:removida", null);
+        verify(cacheCompartilhado).aplicarMudancas(remocao);
+    }
+
+    @Test
+    void deveRecarregarTodasAsConfiguracoesDoServidor() throws Exception {
+        // Given
+        lenient().when(cacheCompartilhado.buscarGrupo("app", "prod")).thenReturn(Map.of("a", "velho"));
+        doReturn(Map.of("a", "1")).when(servicoCliente).buscarMapaServidor("app", "prod");
+
+        // When
+        servicoCliente.atualizarTodasConfiguracoes();
+
+        // Then
+        assertThat(servicoCliente.obterCacheLocal()).containsEntry("app:prod:a", "1");
+        verify(cacheCompartilhado, never()).buscarGrupo(anyString(), anyString());
+        verify(cacheCompartilhado).armazenarGrupo("app", "prod", Map.of("a", "1"));
+    }
+
+    @Test
+    void deveRegistrarNoPerfilAResolucaoDoHandle() {
+        // Given
+        PerfilAcessos perfil = new PerfilAcessos();
+        perfil.inicializar();
+        ReflectionTestUtils.setField(servicoCliente, "perfilAcessos", perfil);
+        when(cacheCompartilhado.buscar("app:prod:pool.size")).thenReturn("10");
+
+        // When
+        servicoCliente.obterHandleInt("pool.size", "app", "prod", 1);
+
+        // Then
+        assertThat(perfil.getChavesNuncaLidas(List.of("app:prod:pool.size"))).isEmpty();
+    }
+
+    @Test
+    void deveDescartarValorLocalMantendoHandlesSeChaveNaoEncontrada() {
+        // Given
+        servicoCliente.armazenarValorLocal("pool.size", "app", "prod", "10");
+        IntConfigHandle handle = servicoCliente.obterHandleInt("pool.size", "app", "prod", 1);
+        when(cacheCompartilhado.buscar("app:prod:pool.size")).thenReturn("20", (String) null);
+        doReturn(null).when(servicoCliente).buscarValorServidor("app", "prod", "pool.size");
+
+        // When - o L2 já tem o novo valor
+        servicoCliente.descartarValorLocal("pool.size", "app", "prod");
+
+        // Then
+        assertThat(handle.get()).isEqualTo(20);
+
+        // When - chave não encontrada: o handle mantém o último valor
+        servicoCliente.descartarValorLocal("pool.size", "app", "prod");
+
+        // Then
+        assertThat(handle.get()).isEqualTo(20);
+        assertThat(servicoCliente.obterCacheLocal()).doesNotContainKey("app:prod:pool.size");
+    }
+}
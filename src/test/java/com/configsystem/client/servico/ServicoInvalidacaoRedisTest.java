@@ -0,0 +1,134 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.cache.CacheInteligente;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários da aplicação de invalidações recebidas de outras instâncias
+ */
+@ExtendWith(MockitoExtension.class)
+class ServicoInvalidacaoRedisTest {
+
+    @Mock
+    private ServicoClienteConfiguracao servicoCliente;
+
+    private CacheInteligente cacheInteligente;
+    private ServicoInvalidacaoRedis invalidacao;
+
+    @BeforeEach
+    void setUp() {
+        cacheInteligente = new CacheInteligente();
+        cacheInteligente.inicializar();
+
+        invalidacao = new ServicoInvalidacaoRedis();
+        ReflectionTestUtils.setField(invalidacao, "propriedades", new PropriedadesClienteConfiguracao());
+        ReflectionTestUtils.setField(invalidacao, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(invalidacao, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(invalidacao, "cacheInteligente", cacheInteligente);
+        RegistroVersoesConfiguracao registroVersoes = new RegistroVersoesConfiguracao();
+        registroVersoes.inicializar();
+        ReflectionTestUtils.setField(invalidacao, "registroVersoes", registroVersoes);
+    }
+
+    @Test
+    void deveAtualizarCachesComValorDaMensagem() {
+        // Given
+        cacheInteligente.armazenar("app:prod:timeout", "5000");
+
+        // When
+        invalidacao.processarMensagem(mensagem("outra", "timeout", "UPDATE", 10, "9000"));
+        invalidacao.processarMensagem(mensagem("outra", "pool.size", "UPDATE", 10, "20"));
+
+        // Then - apenas chaves já presentes entram no CacheInteligente
+        verify(servicoCliente).armazenarValorLocal("timeout", "app", "prod", "9000");
+        assertThat(cacheInteligente.buscar("app:prod:timeout")).hasValue("9000");
+        assertThat(cacheInteligente.contemChave("app:prod:pool.size")).isFalse();
+        assertThat(invalidacao.getAplicadas()).isEqualTo(2);
+    }
+
+    @Test
+    void deveRemoverChaveExcluidaNoServidor() {
+        // Given
+        cacheInteligente.armazenar("app:prod:flag", "true");
+
+        // When
+        invalidacao.processarMensagem(mensagem("outra", "flag", "DELETE", 10, null));
+
+        // Then
+        verify(servicoCliente).removerValorLocal("flag", "app", "prod");
+        assertThat(cacheInteligente.contemChave("app:prod:flag")).isFalse();
+    }
+
+    @Test
+    void deveDescartarChaveQuandoMensagemNaoTrazValor() {
+        // Given
+        cacheInteligente.armazenar("app:prod:regras", "{...}");
+
+        // When
+        invalidacao.processarMensagem(mensagem("outra", "regras", "UPDATE", 10, null));
+
+        // Then - recarregada sob demanda, sem passar os handles pelo valor padrão
+        verify(servicoCliente).descartarValorLocal("regras", "app", "prod");
+        verify(servicoCliente, never()).atualizarConfiguracao(anyString(), anyString(), anyString());
+        verify(servicoCliente, never()).removerValorLocal(anyString(), anyString(), anyString());
+        assertThat(cacheInteligente.contemChave("app:prod:regras")).isFalse();
+    }
+
+    @Test
+    void deveDescartarChaveQuandoMensagemNaoTrazRevisao() {
+        // When
+        invalidacao.processarMensagem("{\"origin\":\"outra\",\"namespace\":\"app\",\"environment\":\"prod\","
+            + "\"key\":\"timeout\",\"changeType\":\"UPDATE\",\"value\":\"1\"}");
+
+        // Then - sem revisão o valor da mensagem não é aplicado
+        verify(servicoCliente).descartarValorLocal("timeout", "app", "prod");
+        verify(servicoCliente, never()).armazenarValorLocal(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void deveDescartarMensagemComRevisaoJaAplicadaPorOutroCanal() {
+        // Given - revisão 20 recebida pelo Kafka ou SSE
+        RegistroVersoesConfiguracao registroVersoes =
+            (RegistroVersoesConfiguracao) ReflectionTestUtils.getField(invalidacao, "registroVersoes");
+        registroVersoes.registrarSeMaisRecente("app", "prod", "timeout", 20);
+
+        // When
+        invalidacao.processarMensagem(mensagem("outra", "timeout", "UPDATE", 15, "1000"));
+
+        // Then
+        verifyNoInteractions(servicoCliente);
+        assertThat(invalidacao.getAplicadas()).isZero();
+    }
+
+    @Test
+    void deveDescartarMensagensObsoletasEDaPropriaInstancia() {
+        // Given
+        invalidacao.processarMensagem(mensagem("outra", "timeout", "UPDATE", 20, "9000"));
+        String origem = (String) ReflectionTestUtils.getField(invalidacao, "origem");
+
+        // When
+        invalidacao.processarMensagem(mensagem("outra", "timeout", "UPDATE", 10, "1000"));
+        invalidacao.processarMensagem(mensagem(origem, "timeout", "UPDATE", 30, "2000"));
+
+        // Then
+        verify(servicoCliente, times(1)).armazenarValorLocal(anyString(), anyString(), anyString(), anyString());
+        assertThat(invalidacao.getAplicadas()).isEqualTo(1);
+    }
+
+    private static String mensagem(String origem, String chave, String tipo, long revisao, String valor) {
+        return "{\"origin\":\"" + origem + "\",\"namespace\":\"app\",\"environment\":\"prod\",\"key\":\"" + chave
+            + "\",\"changeType\":\"" + tipo + "\",\"revision\":" + revisao
+            + (valor != null ? ",\"value\":\"" + valor + "\"" : "") + "}";
+    }
+}
@@ -0,0 +1,107 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários do pipeline de processamento de mudanças
+ */
+@ExtendWith(MockitoExtension.class)
+class ServicoProcessamentoMudancaTest {
+
+    private static final String MENSAGEM = "{\"namespace\":\"app\",\"environment\":\"prod\",\"key\":\"pool.size\","
+        + "\"changeType\":\"UPDATE\",\"revision\":5}";
+
+    @Mock
+    private ServicoClienteConfiguracao servicoCliente;
+
+    @Mock
+    private DespachanteEventosConfiguracao despachante;
+
+    private RegistroVersoesConfiguracao registroVersoes;
+    private ServicoProcessamentoMudanca processamento;
+
+    @BeforeEach
+    void setUp() {
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.setNamespace("app");
+        propriedades.setEnvironment("prod");
+        registroVersoes = new RegistroVersoesConfiguracao();
+        registroVersoes.inicializar();
+
+        processamento = new ServicoProcessamentoMudanca();
+        ReflectionTestUtils.setField(processamento, "propriedades", propriedades);
+        ReflectionTestUtils.setField(processamento, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(processamento, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(processamento, "despachante", despachante);
+        ReflectionTestUtils.setField(processamento, "registroVersoes", registroVersoes);
+    }
+
+    @Test
+    void deveRegistrarRevisaoApenasAposAtualizarOValor() {
+        // Given - servidor indisponível na primeira entrega
+        when(servicoCliente.atualizarConfiguracao("pool.size", "app", "prod")).thenReturn(false, true);
+        when(despachante.despachar(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        processamento.processarMensagem(MENSAGEM);
+
+        // Then - revisão não registrada nem evento despachado
+        assertThat(registroVersoes.obterRevisaoAplicada("app", "prod", "pool.size")).isNull();
+        verify(despachante, never()).despachar(any());
+
+        // When - reentrega do mesmo evento
+        processamento.processarMensagem(MENSAGEM);
+
+        // Then - aplicada e registrada
+        assertThat(registroVersoes.obterRevisaoAplicada("app", "prod", "pool.size")).isEqualTo(5L);
+        verify(despachante).despachar(any());
+        assertThat(registroVersoes.getEventosDuplicados()).isZero();
+    }
+
+    @Test
+    void deveDescartarReentregaDeRevisaoJaAplicadaSemIo() {
+        // Given
+        when(servicoCliente.atualizarConfiguracao("pool.size", "app", "prod")).thenReturn(true);
+        when(despachante.despachar(any())).thenReturn(CompletableFuture.completedFuture(null));
+        processamento.processarMensagem(MENSAGEM);
+
+        // When
+        processamento.processarMensagem(MENSAGEM);
+
+        // Then
+        verify(servicoCliente, times(1)).atualizarConfiguracao(anyString(), anyString(), anyString());
+        verify(despachante, times(1)).despachar(any());
+        assertThat(registroVersoes.getEventosDuplicados()).isEqualTo(1);
+    }
+
+    @Test
+    void deveAplicarValorConhecidoSemConsultarServidor() {
+        // Given
+        when(servicoCliente.armazenarValorLocal("pool.size", "app", "prod", "20")).thenReturn("10");
+        when(despachante.despachar(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When - a revisão 4 chega depois da 5
+        processamento.processarValor("app", "prod", "pool.size", "20", 5L);
+        processamento.processarValor("app", "prod", "pool.size", "antigo", 4L);
+
+        // Then
+        verify(servicoCliente, never()).atualizarConfiguracao(anyString(), anyString(), anyString());
+        verify(servicoCliente, never()).armazenarValorLocal(anyString(), anyString(), anyString(), eq("antigo"));
+        verify(despachante).despachar(argThat(evento ->
+            "UPDATE".equals(evento.getTipoMudanca()) && Long.valueOf(5).equals(evento.getRevisao())));
+        assertThat(registroVersoes.getEventosObsoletos()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import com.configsystem.client.servico.ServicoListenerMudancaConfiguracao.EventoMudancaConfiguracao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes do canal push contra um stub SSE local
+ */
+class ServicoPushConfiguracaoTest {
+
+    private static final String CAMINHO_EVENTOS = "/api/v1/configuracoes/app/prod/eventos";
+
+    private MockWebServer servidor;
+    private ServicoPushConfiguracao push;
+    private ServicoClienteConfiguracao servicoCliente;
+    private final BlockingQueue<EventoMudancaConfiguracao> eventos = new LinkedBlockingQueue<>();
+    private final List<String> lastEventIds = new CopyOnWriteArrayList<>();
+    private final AtomicInteger conexoes = new AtomicInteger();
+    private volatile String valorAtual = "10";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servidor = new MockWebServer();
+        servidor.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (request.getPath().startsWith(CAMINHO_EVENTOS)) {
+                    lastEventIds.add(String.valueOf(request.getHeader("Last-Event-ID")));
+                    int conexao = conexoes.incrementAndGet();
+                    if (conexao == 1) {
+                        valorAtual = "20";
+                        return eventoSse("1", 1);
+                    } else if (conexao == 2) {
+                        valorAtual = "30";
+                        return eventoSse("2", 2);
+                    }
+                    return new MockResponse().setHeader("Content-Type", "text/event-stream").setBody("");
+                }
+                if (request.getPath().equals("/api/configs/app/prod/pool.size")) {
+                    return new MockResponse().setBody("{\"value\":\"" + valorAtual + "\"}");
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        servidor.start();
+
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.setServerUrl(servidor.url("/").toString());
+        propriedades.setNamespace("app");
+        propriedades.setEnvironment("prod");
+        propriedades.getPush().setReconnectDelay(50);
+        propriedades.getDispatch().setAsync(false);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        servicoCliente = new ServicoClienteConfiguracao(propriedades);
+        ReflectionTestUtils.setField(servicoCliente, "propriedades", propriedades);
+        ReflectionTestUtils.setField(servicoCliente, "objectMapper", objectMapper);
+
+        DespachanteEventosConfiguracao despachante = new DespachanteEventosConfiguracao();
+        ReflectionTestUtils.setField(despachante, "propriedades", propriedades);
+        ReflectionTestUtils.setField(despachante, "publicadorEventos",
+            (ApplicationEventPublisher) evento -> eventos.add((EventoMudancaConfiguracao) evento));
+        despachante.inicializar();
+
+        RegistroVersoesConfiguracao registroVersoes = new RegistroVersoesConfiguracao();
+        registroVersoes.inicializar();
+
+        ServicoProcessamentoMudanca processamento = new ServicoProcessamentoMudanca();
+        ReflectionTestUtils.setField(processamento, "propriedades", propriedades);
+        ReflectionTestUtils.setField(processamento, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(processamento, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(processamento, "despachante", despachante);
+        ReflectionTestUtils.setField(processamento, "registroVersoes", registroVersoes);
+
+        push = new ServicoPushConfiguracao();
+        ReflectionTestUtils.setField(push, "propriedades", propriedades);
+        ReflectionTestUtils.setField(push, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(push, "processamentoMudanca", processamento);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        push.finalizar();
+        servidor.shutdown();
+    }
+
+    private MockResponse eventoSse(String id, int revisao) {
+        String dados = "{\"namespace\":\"app\",\"environment\":\"prod\",\"key\":\"pool.size\","
+            + "\"changeType\":\"UPDATE\",\"revision\":" + revisao + "}";
+        return new MockResponse()
+            .setHeader("Content-Type", "text/event-stream")
+            .setBody("id: " + id + "\ndata: " + dados + "\n\n");
+    }
+
+    @Test
+    void deveAlimentarPipelineERetomarDoUltimoEventoAposReconexao() throws Exception {
+        // When
+        push.iniciar();
+
+        // Then - eventos das duas conexões processados em ordem
+        EventoMudancaConfiguracao primeiro = eventos.poll(5, TimeUnit.SECONDS);
+        EventoMudancaConfiguracao segundo = eventos.poll(5, TimeUnit.SECONDS);
+        assertThat(primeiro).isNotNull();
+        assertThat(segundo).isNotNull();
+        assertThat(primeiro.getRevisao()).isEqualTo(1L);
+        assertThat(segundo.getRevisao()).isEqualTo(2L);
+        assertThat(servicoCliente.obterCacheLocal()).containsEntry("app:prod:pool.size", "30");
+
+        // Then - reconexão informa o último id recebido
+        long limite = System.currentTimeMillis() + 5000;
+        while (lastEventIds.size() < 3 && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+        }
+        assertThat(lastEventIds.subList(0, 3)).containsExactly("null", "1", "2");
+        assertThat(push.getUltimoIdEvento()).isEqualTo("2");
+        assertThat(push.getEventosRecebidos()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,168 @@
+package com.configsystem.client.servico;
+
+import com.configsystem.client.cache.CacheRedisCompartilhado;
+import com.configsystem.client.configuracao.PropriedadesClienteConfiguracao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários da sincronização periódica
+ */
+@ExtendWith(MockitoExtension.class)
+class ServicoSincronizacaoConfiguracaoTest {
+
+    @Mock
+    private ServicoClienteConfiguracao servicoCliente;
+
+    @Mock
+    private ServicoInvalidacaoRedis invalidacao;
+
+    @Mock
+    private CacheRedisCompartilhado cacheCompartilhado;
+
+    private RegistroVersoesConfiguracao registroVersoes;
+    private ServicoSincronizacaoConfiguracao sincronizacao;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PropriedadesClienteConfiguracao propriedades = new PropriedadesClienteConfiguracao();
+        propriedades.setNamespace("app");
+        propriedades.setEnvironment("prod");
+
+        registroVersoes = new RegistroVersoesConfiguracao();
+        registroVersoes.inicializar();
+
+        sincronizacao = new ServicoSincronizacaoConfiguracao();
+        ReflectionTestUtils.setField(sincronizacao, "propriedades", propriedades);
+        ReflectionTestUtils.setField(sincronizacao, "servicoCliente", servicoCliente);
+        ReflectionTestUtils.setField(sincronizacao, "invalidacao", invalidacao);
+        ReflectionTestUtils.setField(sincronizacao, "cacheCompartilhado", cacheCompartilhado);
+        ReflectionTestUtils.setField(sincronizacao, "registroVersoes", registroVersoes);
+        ReflectionTestUtils.setField(sincronizacao, "ultimoStatusServidor", true);
+        when(servicoCliente.isServidorConfigDisponivel()).thenReturn(true);
+    }
+
+    @Test
+    void naoDeveAtualizarQuandoCacheLocalEstaSincronizado() throws Exception {
+        // Given - o mapa do servidor usa apenas a chave; o cache local, namespace:environment:chave
+        when(servicoCliente.buscarRegistrosServidor("app", "prod")).thenReturn(registros("a", "1", "b", "2"));
+        when(servicoCliente.obterCacheLocal()).thenReturn(Map.of("app:prod:a", "1", "app:prod:b", "2", "outro:prod:x", "9"));
+
+        // When
+        sincronizacao.sincronizarConfiguracoes();
+
+        // Then
+        verify(servicoCliente, never()).atualizarTodasConfiguracoes();
+        verify(servicoCliente, never()).armazenarValorLocal(anyString(), anyString(), anyString(), anyString());
+        verify(servicoCliente, never()).removerValorLocal(anyString(), anyString(), anyString());
+        verifyNoInteractions(invalidacao, cacheCompartilhado);
+    }
+
+    @Test
+    void deveIgnorarChavesDoServidorAusentesDoCacheLocal() throws Exception {
+        // Given - sem cache local (ex: cache desabilitado) nenhuma chave é acompanhada
+        when(servicoCliente.buscarRegistrosServidor("app", "prod")).thenReturn(registros("a", "1", "b", "2"));
+        when(servicoCliente.obterCacheLocal()).thenReturn(Map.of());
+
+        // When
+        sincronizacao.sincronizarConfiguracoes();
+
+        // Then
+        verify(servicoCliente, never()).atualizarTodasConfiguracoes();
+        verify(servicoCliente, never()).buscarRegistroServidor(anyString(), anyString(), anyString());
+        verifyNoInteractions(invalidacao, cacheCompartilhado);
+    }
+
+    @Test
+    void deveRecarregarGrupoSemCanalDeInvalidacao() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(sincronizacao, "invalidacao", null);
+        when(servicoCliente.buscarRegistrosServidor("app", "prod")).thenReturn(registros("a", "novo"));
+        when(servicoCliente.obterCacheLocal()).thenReturn(Map.of("app:prod:a", "1"));
+
+        // When
+        sincronizacao.sincronizarConfiguracoes();
+
+        // Then
+        verify(servicoCliente).atualizarTodasConfiguracoes();
+        verify(servicoCliente, never()).armazenarValorLocal(anyString(), anyString(), anyString(), anyString());
+        verifyNoInteractions(cacheCompartilhado);
+    }
+
+    @Test
+    void deveAplicarEPropagarApenasAsChavesAlteradas() throws Exception {
+        // Given - "d" existe apenas no servidor e não é acompanhada por esta instância
+        Map<String, Map<String, Object>> servidor = new HashMap<>();
+        servidor.put("a", Map.of("value", "1", "revision", 1));
+        servidor.put("b", Map.of("value", "novo", "revision", 5));
+        servidor.put("d", Map.of("value", "4", "revision", 2));
+        when(servicoCliente.buscarRegistrosServidor("app", "prod")).thenReturn(servidor);
+        when(servicoCliente.obterCacheLocal()).thenReturn(mapaOrdenado("app:prod:a", "1", "app:prod:b", "2", "app:prod:c", "3"));
+
+        // When
+        sincronizacao.sincronizarConfiguracoes();
+
+        // Then - valores e revisões vêm do mapa, sem busca chave a chave
+        Map<String, String> alteradas = new LinkedHashMap<>();
+        alteradas.put("b", "novo");
+        alteradas.put("c", null);
+        verify(servicoCliente).armazenarValorLocal("b", "app", "prod", "novo");
+        verify(servicoCliente).removerValorLocal("c", "app", "prod");
+        verify(servicoCliente, never()).armazenarValorLocal(eq("a"), anyString(), anyString(), anyString());
+        verify(servicoCliente, never()).armazenarValorLocal(eq("d"), anyString(), anyString(), anyString());
+        verify(servicoCliente, never()).buscarRegistroServidor(anyString(), anyString(), anyString());
+        verify(servicoCliente, never()).atualizarTodasConfiguracoes();
+        verify(invalidacao).publicar("app", "prod", alteradas, Map.of("b", 5L));
+        Map<String, String> mudancas = new LinkedHashMap<>();
+        mudancas.put("app:prod:b", "novo");
+        mudancas.put("app:prod:c", null);
+        verify(cacheCompartilhado).aplicarMudancas(mudancas);
+    }
+
+    @Test
+    void naoDeveAplicarNemPropagarChaveComRevisaoJaAplicada() throws Exception {
+        // Given - o mapa ainda traz o valor antigo de "b", já substituído pela revisão 7 vinda do Kafka
+        registroVersoes.registrarSeMaisRecente("app", "prod", "b", 7);
+        Map<String, Map<String, Object>> servidor = new HashMap<>();
+        servidor.put("b", Map.of("value", "velho", "revision", 6));
+        servidor.put("d", Map.of("value", "4", "revision", 1));
+        when(servicoCliente.buscarRegistrosServidor("app", "prod")).thenReturn(servidor);
+        when(servicoCliente.obterCacheLocal()).thenReturn(mapaOrdenado("app:prod:b", "atual", "app:prod:d", "3"));
+
+        // When
+        sincronizacao.sincronizarConfiguracoes();
+
+        // Then
+        verify(servicoCliente, never()).armazenarValorLocal(eq("b"), anyString(), anyString(), anyString());
+        verify(servicoCliente).armazenarValorLocal("d", "app", "prod", "4");
+        verify(invalidacao).publicar("app", "prod", Map.of("d", "4"), Map.of("d", 1L));
+        verify(cacheCompartilhado).aplicarMudancas(Map.of("app:prod:d", "4"));
+    }
+
+    private static Map<String, Map<String, Object>> registros(String... chavesValores) {
+        Map<String, Map<String, Object>> registros = new HashMap<>();
+        for (int i = 0; i < chavesValores.length; i += 2) {
+            registros.put(chavesValores[i], Map.of("value", chavesValores[i + 1]));
+        }
+        return registros;
+    }
+
+    private static Map<String, String> mapaOrdenado(String... chavesValores) {
+        Map<String, String> mapa = new LinkedHashMap<>();
+        for (int i = 0; i < chavesValores.length; i += 2) {
+            mapa.put(chavesValores[i], chavesValores[i + 1]);
+        }
+        return mapa;
+    }
+}
@@ -10,6 +10,7 @@ import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -251,4 +252,23 @@ class ValidadorTiposTest {
         // Then
         assertThat(resultado).isEqualTo(123);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deveCompilarValidacaoPorNomeOuRegex() {
+        // When
+        Predicate<String> email = validador.compilarValidacao("email");
+        Predicate<String> regex = validador.compilarValidacao("^[a-z]{3}$");
+
+        // Then
+        assertThat(email.test("admin@comprae.com")).isTrue();
+        assertThat(email.test("invalido")).isFalse();
+        assertThat(regex.test("abc")).isTrue();
+        assertThat(regex.test("abcd")).isFalse();
+    }
+
+    @Test
+    void deveExporConversorRegistrado() {
+        assertThat(validador.obterConversor(Duration.class).apply("PT1S")).isEqualTo(Duration.ofSeconds(1));
+        assertThat(validador.obterConversor(Object.class)).isNull();
+    }
+}